@@ -23,6 +23,8 @@ public class QTag extends EntityPathBase<Tag> {
 
     public final StringPath name = createString("name");
 
+    public final NumberPath<Long> usageCount = createNumber("usageCount", Long.class);
+
     public QTag(String variable) {
         super(Tag.class, forVariable(variable));
     }
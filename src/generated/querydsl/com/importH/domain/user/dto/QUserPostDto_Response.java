@@ -13,8 +13,8 @@ public class QUserPostDto_Response extends ConstructorExpression<UserPostDto.Res
 
     private static final long serialVersionUID = -272826053L;
 
-    public QUserPostDto_Response(com.querydsl.core.types.Expression<String> title, com.querydsl.core.types.Expression<java.time.LocalDateTime> createdAt, com.querydsl.core.types.Expression<String> author, com.querydsl.core.types.Expression<String> profileImage, com.querydsl.core.types.Expression<String> postUri) {
-        super(UserPostDto.Response.class, new Class<?>[]{String.class, java.time.LocalDateTime.class, String.class, String.class, String.class}, title, createdAt, author, profileImage, postUri);
+    public QUserPostDto_Response(com.querydsl.core.types.Expression<Long> cursor, com.querydsl.core.types.Expression<String> title, com.querydsl.core.types.Expression<java.time.LocalDateTime> createdAt, com.querydsl.core.types.Expression<String> author, com.querydsl.core.types.Expression<String> profileImage, com.querydsl.core.types.Expression<String> type, com.querydsl.core.types.Expression<Long> postId) {
+        super(UserPostDto.Response.class, new Class<?>[]{Long.class, String.class, java.time.LocalDateTime.class, String.class, String.class, String.class, Long.class}, cursor, title, createdAt, author, profileImage, type, postId);
     }
 
 }
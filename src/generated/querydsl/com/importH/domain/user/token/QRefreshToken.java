@@ -27,9 +27,15 @@ public class QRefreshToken extends EntityPathBase<RefreshToken> {
     //inherited
     public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
 
+    public final DateTimePath<java.time.LocalDateTime> expiresAt = createDateTime("expiresAt", java.time.LocalDateTime.class);
+
+    public final StringPath familyId = createString("familyId");
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
-    public final StringPath token = createString("token");
+    public final BooleanPath revoked = createBoolean("revoked");
+
+    public final StringPath tokenHash = createString("tokenHash");
 
     //inherited
     public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
@@ -0,0 +1,51 @@
+package com.importH.benchmark;
+
+import com.importH.ImportHApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (임베디드 H2, 임의 포트)
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return start(databaseName, Map.of());
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName, Map<String, Object> overrides) {
+        return start(databaseName, overrides, new Class<?>[0]);
+    }
+
+    /**
+     * @param sources 벤치마크에서만 등록할 설정, 빈
+     */
+    public static ConfigurableApplicationContext start(String databaseName, Map<String, Object> overrides, Class<?>... sources) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("decorator.datasource.enabled", false);
+        properties.put("server.port", 0);
+        properties.put("logging.level.root", "WARN");
+        properties.put("jwt.secret", "benchmark-secret-key-for-import-h");
+        properties.put("front.url", "http://localhost:3000");
+        properties.put("file.dir", System.getProperty("java.io.tmpdir"));
+        properties.put("app.host", "http://localhost:8090");
+        properties.putAll(overrides);
+
+        return new SpringApplicationBuilder(ImportHApplication.class)
+                .sources(sources)
+                .profiles("local")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.importH.benchmark;
+
+import com.importH.global.config.JwtProperties;
+import com.importH.global.security.JwtKeys;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 하나당 서명, 검증 비용 : 요청마다 키 디코딩 + 파서 생성 vs 미리 만든 키와 파서
+ * ./gradlew jmh -Pjmh.includes=JwtBenchmark (할당량은 -prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"HS256", "ES256"})
+    String algorithm;
+
+    JwtProperties properties;
+    JwtKeys keys;
+    JwtParser parser;
+    String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-for-import-h");
+        properties.setAlgorithm(algorithm);
+        if ("ES256".equals(algorithm)) {
+            KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+            JwtProperties.EcKey key = new JwtProperties.EcKey();
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            properties.getKeys().put("k1", key);
+            properties.setActiveKid("k1");
+        }
+
+        keys = JwtKeys.from(properties);
+        parser = Jwts.parserBuilder().setSigningKeyResolver(keys).build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("roles", "ROLE_USER");
+        claims.put("pathId", "pathId");
+        Date now = new Date();
+        return keys.sign(Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60_000)))
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verifyPrebuiltParser() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 이전 방식 : 검증할 때마다 키를 디코딩하고 파서를 새로 생성
+     */
+    @Benchmark
+    public Claims verifyPerCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(JwtKeys.from(properties))
+                .build()
+                .parseClaimsJws(token).getBody();
+    }
+}
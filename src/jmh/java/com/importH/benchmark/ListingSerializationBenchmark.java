@@ -0,0 +1,121 @@
+package com.importH.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.entity.ContentPreview;
+import com.importH.domain.tag.TagDto;
+import com.importH.global.response.ListResult;
+import com.importH.global.response.ResponseService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답 (20건) 직렬화 : 본문 전체 vs 미리보기, 리플렉션 vs Blackbird
+ * ./gradlew jmh -Pjmh.includes=ListingSerialization (CPU 외 할당량은 -prof gc)
+ * 응답 크기는 bytesPerOp 보조 카운터로 함께 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ListingSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"2000", "20000"})
+    int contentLength;
+
+    @Param({"false", "true"})
+    boolean blackbird;
+
+    ObjectMapper objectMapper;
+    ListResult<PostDto.ResponseAll> fullContent;
+    ListResult<PostDto.ResponseAll> preview;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+        public long bytesPerOp;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerOp = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        ResponseService responseService = new ResponseService();
+        SyntheticPosts posts = new SyntheticPosts(37);
+        List<PostDto.ResponseAll> full = new ArrayList<>(PAGE_SIZE);
+        List<PostDto.ResponseAll> previews = new ArrayList<>(PAGE_SIZE);
+        SplittableRandom random = new SplittableRandom(37);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String title = posts.sentence(5);
+            String content = content(posts, contentLength);
+            int viewCount = random.nextInt(1000);
+            int likeCount = random.nextInt(100);
+            full.add(responseAll(i, title, content, viewCount, likeCount));
+            previews.add(responseAll(i, title, ContentPreview.of(content), viewCount, likeCount));
+        }
+        fullContent = responseService.getListResult(full);
+        preview = responseService.getListResult(previews);
+    }
+
+    @Benchmark
+    public byte[] fullContent(Bytes bytes) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(fullContent);
+        bytes.bytesPerOp += json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] preview(Bytes bytes) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(preview);
+        bytes.bytesPerOp += json.length;
+        return json;
+    }
+
+    private PostDto.ResponseAll responseAll(long id, String title, String content, int viewCount, int likeCount) {
+        return PostDto.ResponseAll.builder()
+                .responseInfo(PostDto.ResponseInfo.builder()
+                        .boardId(SyntheticPosts.BOARDS[(int) (id % SyntheticPosts.BOARDS.length)])
+                        .postId(id)
+                        .title(title)
+                        .content(content)
+                        .tags(Set.of(TagDto.builder().name(SyntheticPosts.TAGS[(int) (id % SyntheticPosts.TAGS.length)]).build()))
+                        .nickname("닉네임" + id)
+                        .profileImage("http://localhost:8090/v1/profile/" + id)
+                        .viewCount(viewCount)
+                        .likeCount(likeCount)
+                        .createdAt(LocalDateTime.of(2022, 3, 1, 12, 0).plusMinutes(id))
+                        .build())
+                .commentsCount(likeCount / 3)
+                .thumbnail("thumbnail-" + id + ".png")
+                .build();
+    }
+
+    private String content(SyntheticPosts posts, int length) {
+        StringBuilder builder = new StringBuilder(length + 32);
+        while (builder.length() < length) {
+            builder.append("<p>").append(posts.sentence(20)).append("</p>\n");
+        }
+        return builder.substring(0, length);
+    }
+}
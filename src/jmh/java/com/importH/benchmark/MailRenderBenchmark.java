@@ -0,0 +1,82 @@
+package com.importH.benchmark;
+
+import com.importH.global.mail.MailTemplateRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 렌더링 비교 : 매번 templateEngine.process 와 미리 컴파일한 템플릿
+ * ./gradlew jmh -Pjmh.includes=MailRender (할당량은 -prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class MailRenderBenchmark {
+
+    private static final String TEMPLATE = "mail/simple-link";
+    private static final int RECIPIENTS = 1_000;
+
+    TemplateEngine templateEngine;
+    MailTemplateRenderer mailTemplateRenderer;
+    Map<String, Object> variables;
+    List<Map<String, Object>> variablesList;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+        mailTemplateRenderer.precompile();
+
+        variables = variables(0);
+        variablesList = new ArrayList<>(RECIPIENTS);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            variablesList.add(variables(i));
+        }
+    }
+
+    @Benchmark
+    public String thymeleafProcess() {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(TEMPLATE, context);
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return mailTemplateRenderer.render(TEMPLATE, variables);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECIPIENTS)
+    public List<String> precompiledBulk() {
+        return mailTemplateRenderer.renderAll(TEMPLATE, variablesList);
+    }
+
+    private Map<String, Object> variables(int i) {
+        return Map.of(
+                "nickname", "사용자" + i,
+                "link", "/email-token?token=" + Integer.toHexString(i * 31) + "&email=user" + i + "@email.com",
+                "linkName", "이메일 인증하기",
+                "message", "회원가입을 환영합니다.",
+                "host", "http://localhost:8090");
+    }
+}
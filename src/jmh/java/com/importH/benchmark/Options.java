@@ -0,0 +1,43 @@
+package com.importH.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형태의 실행 인자
+ */
+public class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private Options() {
+    }
+
+    public static Options parse(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("expected --key=value but was " + arg);
+            }
+            int index = arg.indexOf('=');
+            options.values.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        return options;
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+    }
+
+    public boolean has(String key) {
+        return values.containsKey(key);
+    }
+}
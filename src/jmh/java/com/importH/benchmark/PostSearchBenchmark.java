@@ -0,0 +1,75 @@
+package com.importH.benchmark;
+
+import com.importH.domain.search.PostSearchIndex;
+import com.importH.domain.search.SearchHit;
+import com.importH.global.config.SearchProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 게시글 색인의 검색 지연시간 측정
+ * ./gradlew jmh -Pjmh.includes=PostSearch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class PostSearchBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000000"})
+    int corpusSize;
+
+    Path indexPath;
+    PostSearchIndex postSearchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        indexPath = Files.createTempDirectory("post-search-benchmark");
+
+        SearchProperties properties = new SearchProperties();
+        properties.setIndexPath(indexPath.toString());
+        postSearchIndex = new PostSearchIndex(properties);
+        postSearchIndex.open();
+
+        SyntheticPosts posts = new SyntheticPosts(42L);
+        for (long postId = 1; postId <= corpusSize; postId += BATCH_SIZE) {
+            postSearchIndex.indexAll(posts.next(postId, (int) Math.min(BATCH_SIZE, corpusSize - postId + 1)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        postSearchIndex.close();
+        FileSystemUtils.deleteRecursively(indexPath);
+    }
+
+    @Benchmark
+    public List<SearchHit> singleKeyword() {
+        return postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public List<SearchHit> multiKeyword() {
+        return postSearchIndex.search("스프링 트랜잭션 인덱스", null, List.of(), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public List<SearchHit> boardAndTagFiltered() {
+        return postSearchIndex.search("스프링 트랜잭션", "questions", List.of("자바"), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public List<SearchHit> deepPage() {
+        return postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(49, 20));
+    }
+}
@@ -0,0 +1,130 @@
+package com.importH.benchmark;
+
+import com.importH.benchmark.data.DataScale;
+import com.importH.benchmark.data.GeneratedData;
+import com.importH.benchmark.data.SyntheticDataGenerator;
+import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.service.PostLikeService;
+import com.importH.domain.post.service.PostService;
+import com.importH.domain.tag.Tag;
+import com.importH.domain.tag.TagDictionary;
+import com.importH.domain.tag.TagDto;
+import com.importH.domain.tag.TagPostIndex;
+import com.importH.domain.tag.TagService;
+import com.importH.domain.tag.TagUsageCounter;
+import com.importH.domain.user.entity.User;
+import com.importH.domain.user.repository.UserRepository;
+import com.importH.global.security.JwtProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스, 리포지토리 주요 경로 측정 (임베디드 H2 + 합성 데이터)
+ * ./gradlew jmh -Pjmh.includes=ServiceBenchmark -Pjmh.scale=MEDIUM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 50;
+
+    @Param({"SMALL"})
+    String scale;
+
+    ConfigurableApplicationContext context;
+    GeneratedData data;
+    PostService postService;
+    PostLikeService postLikeService;
+    TagService tagService;
+    JwtProvider jwtProvider;
+    List<User> users;
+    String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start("service-benchmark");
+
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(SyntheticDataGenerator.PASSWORD);
+        data = new SyntheticDataGenerator(context.getBean(DataSource.class), context.getBean(EntityManagerFactory.class),
+                encodedPassword, 42L).generate(DataScale.valueOf(scale));
+
+        // 시작 시점에 비어있던 메모리 색인을 생성한 데이터로 다시 적재
+        context.getBean(TagDictionary.class).load();
+        context.getBean(TagPostIndex.class).rebuild();
+        context.getBean(TagUsageCounter.class).load();
+
+        postService = context.getBean(PostService.class);
+        postLikeService = context.getBean(PostLikeService.class);
+        tagService = context.getBean(TagService.class);
+        jwtProvider = context.getBean(JwtProvider.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        users = new ArrayList<>(data.getUsers());
+        for (int i = 0; i < data.getUsers(); i++) {
+            users.add(userRepository.findById(data.userId(i)).orElseThrow());
+        }
+        accessToken = jwtProvider.createToken(users.get(0)).getAccessToken();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostDto.ResponseAll> findAllPost() {
+        String board = SyntheticPosts.BOARDS[ThreadLocalRandom.current().nextInt(SyntheticPosts.BOARDS.length)];
+        Pageable pageable = PageRequest.of(ThreadLocalRandom.current().nextInt(PAGES), PAGE_SIZE, Sort.by("createdAt").descending());
+        return postService.findAllPost(board, pageable);
+    }
+
+    @Benchmark
+    public PostDto.Response getPost() {
+        return postService.getPost(randomUser(), randomPostId());
+    }
+
+    @Benchmark
+    public void addLike() {
+        postLikeService.addLike(randomUser(), randomPostId());
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtProvider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Set<Tag> getTags() {
+        List<String> tagNames = data.getTagNames();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return tagService.getTags(List.of(
+                TagDto.builder().name(tagNames.get(random.nextInt(tagNames.size()))).build(),
+                TagDto.builder().name(tagNames.get(random.nextInt(tagNames.size()))).build()));
+    }
+
+    private User randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private long randomPostId() {
+        return data.postId(ThreadLocalRandom.current().nextInt(data.getPosts()));
+    }
+}
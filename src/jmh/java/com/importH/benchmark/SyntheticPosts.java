@@ -0,0 +1,54 @@
+package com.importH.benchmark;
+
+import com.importH.domain.search.PostDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 게시글 생성기 (같은 seed 면 같은 데이터)
+ */
+public class SyntheticPosts {
+
+    public static final String[] BOARDS = {"free", "questions", "notice"};
+
+    public static final String[] TAGS = {"자바", "스프링", "JPA", "알고리즘", "리액트", "코틀린", "데이터베이스", "네트워크", "운영체제", "취업"};
+
+    private static final String[] WORDS = {
+            "스프링", "트랜잭션", "영속성", "컨텍스트", "지연", "로딩", "쿼리", "인덱스", "캐시", "스레드",
+            "동시성", "알고리즘", "자료구조", "해시", "트리", "그래프", "정렬", "탐색", "메모리", "가비지",
+            "컬렉션", "스트림", "람다", "인터페이스", "상속", "다형성", "캡슐화", "테스트", "배포", "서버",
+            "클라이언트", "요청", "응답", "세션", "토큰", "인증", "권한", "암호화", "로그", "모니터링",
+            "질문", "답변", "공부", "프로젝트", "리뷰", "면접", "코딩", "문제", "풀이", "정리"
+    };
+
+    private final SplittableRandom random;
+
+    public SyntheticPosts(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public List<PostDocument> next(long firstPostId, int count) {
+        List<PostDocument> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(PostDocument.builder()
+                    .postId(firstPostId + i)
+                    .boardId(BOARDS[random.nextInt(BOARDS.length)])
+                    .title(sentence(3 + random.nextInt(5)))
+                    .content(sentence(30 + random.nextInt(70)))
+                    .tags(Set.of(TAGS[random.nextInt(TAGS.length)]))
+                    .build());
+        }
+        return documents;
+    }
+
+    public String sentence(int words) {
+        StringBuilder builder = new StringBuilder(words * 5);
+        for (int i = 0; i < words; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return builder.toString();
+    }
+}
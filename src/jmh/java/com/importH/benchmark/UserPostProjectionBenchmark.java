@@ -0,0 +1,131 @@
+package com.importH.benchmark;
+
+import com.importH.benchmark.data.DataScale;
+import com.importH.benchmark.data.SyntheticDataGenerator;
+import com.importH.domain.post.entity.QPost;
+import com.importH.domain.post.entity.QPostLike;
+import com.importH.domain.user.entity.QUser;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 목록 프로젝션에서 postUri 를 DB 에서 CAST/CONCAT 하는 경우와 type, id 컬럼을 그대로 읽어 자바에서 만드는 경우 비교 (행 단위)
+ * ./gradlew jmh -Pjmh.includes=UserPostProjection -Pjmh.scale=MEDIUM
+ * MySQL : ./gradlew generateData -Pscale=LARGE -Purl=jdbc:mysql://... 로 채운 뒤 -Pjmh.url=jdbc:mysql://... -Pjmh.username= -Pjmh.password=
+ * (url 을 주면 데이터를 생성하지 않고 기존 데이터를 읽는다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@OperationsPerInvocation(UserPostProjectionBenchmark.ROWS)
+public class UserPostProjectionBenchmark {
+
+    static final int ROWS = 500;
+
+    private static final QPostLike postLike = QPostLike.postLike;
+    private static final QPost post = QPost.post;
+    private static final QUser author = QUser.user;
+
+    @Param({"SMALL"})
+    String scale;
+
+    @Param({""})
+    String url;
+
+    @Param({""})
+    String username;
+
+    @Param({""})
+    String password;
+
+    ConfigurableApplicationContext context;
+    EntityManager em;
+    JPAQueryFactory queryFactory;
+    Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> overrides = new HashMap<>();
+        if (!url.isEmpty()) {
+            overrides.put("spring.datasource.url", url);
+            overrides.put("spring.datasource.username", username);
+            overrides.put("spring.datasource.password", password);
+            overrides.put("spring.jpa.hibernate.ddl-auto", "none");
+        }
+        context = BenchmarkApplication.start("user-post-projection-benchmark", overrides);
+
+        if (url.isEmpty()) {
+            String encodedPassword = context.getBean(PasswordEncoder.class).encode(SyntheticDataGenerator.PASSWORD);
+            new SyntheticDataGenerator(context.getBean(DataSource.class), context.getBean(EntityManagerFactory.class),
+                    encodedPassword, 42L).generate(DataScale.valueOf(scale));
+        }
+
+        em = context.getBean(EntityManagerFactory.class).createEntityManager();
+        queryFactory = new JPAQueryFactory(em);
+
+        // 좋아요가 가장 많은 사용자 기준으로 측정
+        userId = queryFactory.select(postLike.user.id)
+                .from(postLike)
+                .groupBy(postLike.user.id)
+                .orderBy(postLike.id.count().desc())
+                .limit(1)
+                .fetchOne();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.close();
+        context.close();
+    }
+
+    @Benchmark
+    public void concatInDatabase(Blackhole bh) {
+        List<Tuple> rows = queryFactory
+                .select(postLike.id, post.title, post.createdAt, author.nickname, author.profileImage,
+                        post.type.append("/").append(post.id.stringValue()))
+                .from(postLike)
+                .join(postLike.post, post)
+                .join(post.user, author)
+                .where(postLike.user.id.eq(userId))
+                .orderBy(postLike.id.desc())
+                .limit(ROWS)
+                .fetch();
+
+        for (Tuple row : rows) {
+            bh.consume(row.get(5, String.class));
+        }
+    }
+
+    @Benchmark
+    public void rawColumns(Blackhole bh) {
+        List<Tuple> rows = queryFactory
+                .select(postLike.id, post.title, post.createdAt, author.nickname, author.profileImage,
+                        post.type, post.id)
+                .from(postLike)
+                .join(postLike.post, post)
+                .join(post.user, author)
+                .where(postLike.user.id.eq(userId))
+                .orderBy(postLike.id.desc())
+                .limit(ROWS)
+                .fetch();
+
+        for (Tuple row : rows) {
+            bh.consume(row.get(post.type) + "/" + row.get(post.id));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.importH.benchmark;
+
+import com.importH.benchmark.data.DataScale;
+import com.importH.benchmark.data.SyntheticDataGenerator;
+import com.importH.global.config.VirtualThreads;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿼리마다 지연(db-latency-ms)을 준 상태에서 게시판 목록 요청 처리량 비교 : 플랫폼 스레드 풀 vs 가상 스레드
+ * 플랫폼 모드는 Tomcat 스레드 수(platformThreads) 만큼만 동시에 처리하고, 가상 모드는 커넥션 풀 크기까지 처리한다.
+ * 가상 모드는 JDK 21 이상에서 실행해야 한다 : ./gradlew jmh -Pjmh.includes=VirtualThreadBenchmark -PruntimeJava=21
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@Threads(128)
+public class VirtualThreadBenchmark {
+
+    @Param({"platform", "virtual"})
+    String mode;
+
+    @Param({"20"})
+    int dbLatencyMs;
+
+    @Param({"32"})
+    int platformThreads;
+
+    @Param({"SMALL"})
+    String scale;
+
+    ConfigurableApplicationContext context;
+    HttpClient client;
+    String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(mode);
+        if (virtual && !VirtualThreads.isSupported()) {
+            throw new IllegalStateException("가상 스레드 모드는 JDK 21 이상에서 실행해야 합니다 : " + Runtime.version());
+        }
+
+        // 커넥션 풀이 먼저 병목이 되지 않도록 벤치마크 스레드 수만큼 확보
+        context = BenchmarkApplication.start("virtual-thread-benchmark-" + mode, Map.of(
+                "virtual-threads.enabled", virtual,
+                "server.tomcat.threads.max", platformThreads,
+                "spring.datasource.hikari.maximum-pool-size", 128), SlowJdbc.class);
+
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(SyntheticDataGenerator.PASSWORD);
+        new SyntheticDataGenerator(context.getBean(DataSource.class), context.getBean(EntityManagerFactory.class),
+                encodedPassword, 42L).generate(DataScale.valueOf(scale));
+
+        // 데이터 생성이 끝난 뒤부터 지연 적용
+        context.getBean(SlowJdbc.class).setLatencyMillis(dbLatencyMs);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listPosts() throws IOException, InterruptedException {
+        String board = SyntheticPosts.BOARDS[ThreadLocalRandom.current().nextInt(SyntheticPosts.BOARDS.length)];
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/boards/" + board + "?size=20"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
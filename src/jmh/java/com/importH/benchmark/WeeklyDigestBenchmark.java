@@ -0,0 +1,116 @@
+package com.importH.benchmark;
+
+import com.importH.domain.digest.DigestComposer;
+import com.importH.domain.digest.DigestDto.NewComment;
+import com.importH.domain.digest.DigestDto.Recipient;
+import com.importH.domain.digest.DigestDto.TopPost;
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.AppProperties;
+import com.importH.global.config.ExecutorProperties;
+import com.importH.global.config.NamedExecutors;
+import com.importH.global.mail.MailTemplateRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 합성 사용자 10만명의 주간 소식 메일 작성 처리량 (DB, 발송 제외)
+ * ./gradlew jmh -Pjmh.includes=WeeklyDigest (메모리는 -prof gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class WeeklyDigestBenchmark {
+
+    @Param({"100000"})
+    int userCount;
+
+    @Param({"500"})
+    int chunkSize;
+
+    @Param({"1", "4"})
+    int renderThreads;
+
+    ThreadPoolTaskExecutor executor;
+    DigestComposer digestComposer;
+    List<Recipient> recipients;
+    Map<Long, List<NewComment>> newComments;
+    String topPosts;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        MailTemplateRenderer mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+        mailTemplateRenderer.precompile();
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost("https://import-h.com");
+        ExecutorProperties executorProperties = new ExecutorProperties();
+        executorProperties.getDigestRender().setCorePoolSize(renderThreads);
+        executorProperties.getDigestRender().setMaxPoolSize(renderThreads);
+        executor = NamedExecutors.create("digest-render", executorProperties.getDigestRender(), new SimpleMeterRegistry());
+        executor.initialize();
+        digestComposer = new DigestComposer(mailTemplateRenderer, appProperties, executorProperties, executor);
+
+        SyntheticPosts posts = new SyntheticPosts(42L);
+        Random random = new Random(42L);
+        topPosts = digestComposer.renderTopPosts(posts.next(1, 5).stream()
+                .map(post -> new TopPost(post.getPostId(), post.getTitle(), "free", random.nextInt(100), random.nextInt(1000)))
+                .collect(Collectors.toList()));
+
+        recipients = new ArrayList<>(userCount);
+        List<NewComment> comments = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            recipients.add(new Recipient(userId, "user" + userId + "@email.com", "사용자" + userId));
+            // 약 30% 의 사용자는 본인 게시글에 새 댓글이 있음
+            if (random.nextInt(10) < 3) {
+                for (int i = 0; i < 1 + random.nextInt(3); i++) {
+                    comments.add(new NewComment(userId, userId * 10 + i, posts.sentence(4), "questions", 1L + random.nextInt(5)));
+                }
+            }
+        }
+        newComments = comments.stream().collect(Collectors.groupingBy(NewComment::getPostOwnerId));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 실제 작업과 같이 청크 단위로 작성 후 버림 (발송 대상은 Blackhole 로)
+     */
+    @Benchmark
+    public void composeAll(Blackhole blackhole) {
+        for (int from = 0; from < recipients.size(); from += chunkSize) {
+            List<Recipient> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+            Map<Long, List<NewComment>> chunkComments = new HashMap<>();
+            for (Recipient recipient : chunk) {
+                List<NewComment> comments = newComments.get(recipient.getUserId());
+                if (comments != null) {
+                    chunkComments.put(recipient.getUserId(), comments);
+                }
+            }
+            List<EmailMessageDto> messages = digestComposer.compose(chunk, topPosts, chunkComments);
+            blackhole.consume(messages);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.importH.benchmark.data;
+
+import com.importH.benchmark.BenchmarkApplication;
+import com.importH.benchmark.Options;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트용 데이터 생성
+ * ./gradlew generateData -Pscale=LARGE [-Purl=jdbc:mysql://localhost:3306/importh?rewriteBatchedStatements=true -Pusername= -Ppassword=]
+ * 생성 결과(id 범위)는 dataset 파일에 저장해 WorkloadDriver 가 읽는다. 같은 DB 에 다시 생성하려면 먼저 비워야 한다.
+ */
+public class DataGeneratorMain {
+
+    public static final String DEFAULT_URL = "jdbc:h2:file:./build/loadtest/importh;AUTO_SERVER=TRUE";
+    public static final String DEFAULT_DATASET = "build/loadtest/dataset.properties";
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        DataScale scale = DataScale.valueOf(options.get("scale", DataScale.SMALL.name()));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", options.get("url", DEFAULT_URL));
+        properties.put("spring.datasource.username", options.get("username", "sa"));
+        properties.put("spring.datasource.password", options.get("password", ""));
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start("data-generator", properties)) {
+            String encodedPassword = context.getBean(PasswordEncoder.class).encode(SyntheticDataGenerator.PASSWORD);
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(context.getBean(DataSource.class),
+                    context.getBean(EntityManagerFactory.class), encodedPassword, options.getLong("seed", 42L));
+
+            long start = System.nanoTime();
+            GeneratedData data = generator.generate(scale);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            long rows = scale.getUsers() + scale.getPosts() + scale.getLikes() + scale.getComments();
+            System.out.printf("generated %s (about %,d rows) in %,d ms (%,d rows/s)%n",
+                    scale, rows, elapsedMillis, rows * 1000 / Math.max(1, elapsedMillis));
+
+            writeDataset(Path.of(options.get("dataset", DEFAULT_DATASET)), data);
+        }
+    }
+
+    private static void writeDataset(Path path, GeneratedData data) throws Exception {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Properties dataset = new Properties();
+        dataset.setProperty("firstUserId", String.valueOf(data.userId(0)));
+        dataset.setProperty("users", String.valueOf(data.getUsers()));
+        dataset.setProperty("firstPostId", String.valueOf(data.postId(0)));
+        dataset.setProperty("posts", String.valueOf(data.getPosts()));
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            dataset.store(writer, "synthetic dataset");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.importH.benchmark.data;
+
+/**
+ * 합성 데이터 규모
+ */
+public enum DataScale {
+
+    SMALL(1_000, 10_000, 50_000, 30_000, 100),
+    MEDIUM(10_000, 100_000, 1_000_000, 500_000, 500),
+    LARGE(100_000, 1_000_000, 10_000_000, 5_000_000, 1_000);
+
+    private final int users;
+    private final int posts;
+    private final long likes;
+    private final long comments;
+    private final int tags;
+
+    DataScale(int users, int posts, long likes, long comments, int tags) {
+        this.users = users;
+        this.posts = posts;
+        this.likes = likes;
+        this.comments = comments;
+        this.tags = tags;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getPosts() {
+        return posts;
+    }
+
+    public long getLikes() {
+        return likes;
+    }
+
+    public long getComments() {
+        return comments;
+    }
+
+    public int getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,59 @@
+package com.importH.benchmark.data;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 엔티티 매핑에서 테이블과 컬럼 이름을 읽어 insert 문 생성 (naming strategy 를 따로 추측하지 않음)
+ */
+class EntityTables {
+
+    private final MetamodelImplementor metamodel;
+
+    EntityTables(EntityManagerFactory entityManagerFactory) {
+        this.metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMetamodel();
+    }
+
+    /**
+     * id 컬럼 + 주어진 속성 컬럼 순서의 insert 문
+     */
+    String insert(Class<?> entityClass, String... properties) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) metamodel.entityPersister(entityClass);
+        List<String> columns = new ArrayList<>();
+        columns.add(persister.getIdentifierColumnNames()[0]);
+        for (String property : properties) {
+            columns.add(persister.getPropertyColumnNames(property)[0]);
+        }
+        return insert(persister.getTableName(), columns);
+    }
+
+    /**
+     * 다대다 연관관계 테이블 insert 문 (owner id, element id)
+     */
+    String insertCollection(Class<?> ownerClass, String property) {
+        AbstractCollectionPersister persister =
+                (AbstractCollectionPersister) metamodel.collectionPersister(ownerClass.getName() + "." + property);
+        return insert(persister.getTableName(), List.of(persister.getKeyColumnNames()[0], persister.getElementColumnNames()[0]));
+    }
+
+    /**
+     * id 로 한 속성 값을 바꾸는 update 문
+     */
+    String update(Class<?> entityClass, String property) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) metamodel.entityPersister(entityClass);
+        return "update " + persister.getTableName() + " set " + persister.getPropertyColumnNames(property)[0]
+                + " = ? where " + persister.getIdentifierColumnNames()[0] + " = ?";
+    }
+
+    private String insert(String table, List<String> columns) {
+        return "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+}
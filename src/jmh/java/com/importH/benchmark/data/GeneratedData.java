@@ -0,0 +1,43 @@
+package com.importH.benchmark.data;
+
+import java.util.List;
+
+/**
+ * 생성한 데이터의 id 범위 (벤치마크에서 임의 조회 대상 선택용)
+ */
+public class GeneratedData {
+
+    private final long firstUserId;
+    private final int users;
+    private final long firstPostId;
+    private final int posts;
+    private final List<String> tagNames;
+
+    GeneratedData(long firstUserId, int users, long firstPostId, int posts, List<String> tagNames) {
+        this.firstUserId = firstUserId;
+        this.users = users;
+        this.firstPostId = firstPostId;
+        this.posts = posts;
+        this.tagNames = tagNames;
+    }
+
+    public long userId(int index) {
+        return firstUserId + index;
+    }
+
+    public long postId(int index) {
+        return firstPostId + index;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getPosts() {
+        return posts;
+    }
+
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+}
@@ -0,0 +1,60 @@
+package com.importH.benchmark.data;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * hibernate_sequence 에서 id 를 한번에 할당받고, 생성이 끝나면 다음 값을 옮겨둔다.
+ * H2 는 시퀀스, MySQL 은 Hibernate 가 만든 next_val 테이블을 사용한다.
+ */
+class IdSequence {
+
+    private static final String SEQUENCE = "hibernate_sequence";
+
+    private final boolean mysql;
+    private long next;
+
+    private IdSequence(boolean mysql, long next) {
+        this.mysql = mysql;
+        this.next = next;
+    }
+
+    static IdSequence open(Connection connection) throws SQLException {
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        String sql = mysql ? "select next_val from " + SEQUENCE + " for update" : "select next value for " + SEQUENCE;
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return new IdSequence(mysql, resultSet.getLong(1));
+        }
+    }
+
+    long next() {
+        return next++;
+    }
+
+    /**
+     * count 개의 연속된 id 를 할당하고 첫 id 반환
+     */
+    long allocate(int count) {
+        long first = next;
+        next += count;
+        return first;
+    }
+
+    void close(Connection connection) throws SQLException {
+        if (mysql) {
+            try (PreparedStatement statement = connection.prepareStatement("update " + SEQUENCE + " set next_val = ?")) {
+                statement.setLong(1, next);
+                statement.executeUpdate();
+            }
+        } else {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter sequence " + SEQUENCE + " restart with " + next);
+            }
+        }
+        connection.commit();
+    }
+}
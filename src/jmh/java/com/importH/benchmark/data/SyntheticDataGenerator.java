@@ -0,0 +1,238 @@
+package com.importH.benchmark.data;
+
+import com.importH.benchmark.SyntheticPosts;
+import com.importH.domain.comment.Comment;
+import com.importH.domain.post.entity.ContentPreview;
+import com.importH.domain.post.entity.Post;
+import com.importH.domain.post.entity.PostLike;
+import com.importH.domain.tag.Tag;
+import com.importH.domain.user.entity.User;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 도메인 엔티티 매핑을 따라 사용자, 태그, 게시글, 좋아요, 댓글을 JDBC batch insert 로 생성 (같은 seed 면 같은 데이터)
+ * MySQL 은 rewriteBatchedStatements=true 로 접속해야 batch 가 한번에 전송된다.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String PASSWORD = "12341234";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int MAX_TAGS_PER_POST = 3;
+    private static final int HISTORY_DAYS = 365;
+
+    private final DataSource dataSource;
+    private final EntityTables tables;
+    private final String encodedPassword;
+    private final SplittableRandom random;
+    private final SyntheticPosts text;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public SyntheticDataGenerator(DataSource dataSource, EntityManagerFactory entityManagerFactory, String encodedPassword, long seed) {
+        this.dataSource = dataSource;
+        this.tables = new EntityTables(entityManagerFactory);
+        this.encodedPassword = encodedPassword;
+        this.random = new SplittableRandom(seed);
+        this.text = new SyntheticPosts(seed);
+    }
+
+    public GeneratedData generate(DataScale scale) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            IdSequence ids = IdSequence.open(connection);
+
+            long firstUserId = insertUsers(connection, ids, scale.getUsers());
+            List<String> tagNames = tagNames(scale.getTags());
+            long firstTagId = ids.allocate(tagNames.size());
+            long[] tagUsage = new long[tagNames.size()];
+            insertTags(connection, firstTagId, tagNames);
+
+            int[] likeCounts = new int[scale.getPosts()];
+            double likesPerPost = (double) scale.getLikes() / scale.getPosts();
+            for (int i = 0; i < likeCounts.length; i++) {
+                likeCounts[i] = Math.min(scale.getUsers(), skewed(likesPerPost));
+            }
+
+            long firstPostId = insertPosts(connection, ids, scale, firstUserId, firstTagId, tagUsage, likeCounts);
+            insertLikes(connection, ids, scale, firstUserId, firstPostId, likeCounts);
+            insertComments(connection, ids, scale, firstUserId, firstPostId);
+            updateTagUsage(connection, firstTagId, tagUsage);
+
+            ids.close(connection);
+            return new GeneratedData(firstUserId, scale.getUsers(), firstPostId, scale.getPosts(), tagNames);
+        }
+    }
+
+    private long insertUsers(Connection connection, IdSequence ids, int users) throws SQLException {
+        long firstUserId = ids.allocate(users);
+        String sql = tables.insert(User.class, "email", "nickname", "password", "role", "pathId", "emailVerified", "deleted",
+                "weekAgree", "infoAgree.infoByEmail", "infoAgree.infoByWeb", "createdAt", "updatedAt");
+        try (Batch batch = new Batch(connection, sql, null)) {
+            for (int i = 0; i < users; i++) {
+                Timestamp createdAt = timestamp(HISTORY_DAYS * 2L * 24 * 60 * (users - i) / users);
+                batch.set(firstUserId + i, "user" + i + "@bench.io", "user" + i, encodedPassword, "ROLE_USER", "path" + i,
+                        true, false, random.nextInt(10) < 3, random.nextBoolean(), random.nextBoolean(), createdAt, createdAt);
+            }
+        }
+        return firstUserId;
+    }
+
+    private void insertTags(Connection connection, long firstTagId, List<String> tagNames) throws SQLException {
+        try (Batch batch = new Batch(connection, tables.insert(Tag.class, "name", "usageCount"), null)) {
+            for (int i = 0; i < tagNames.size(); i++) {
+                batch.set(firstTagId + i, tagNames.get(i), 0L);
+            }
+        }
+    }
+
+    private long insertPosts(Connection connection, IdSequence ids, DataScale scale, long firstUserId, long firstTagId,
+                             long[] tagUsage, int[] likeCounts) throws SQLException {
+        long firstPostId = ids.allocate(scale.getPosts());
+        String postSql = tables.insert(Post.class, "title", "content", "contentPreview", "type", "important", "viewCount", "likeCount", "user",
+                "createdAt", "updatedAt");
+        try (Batch posts = new Batch(connection, postSql, null);
+             Batch postTags = new Batch(connection, tables.insertCollection(Post.class, "tags"), posts)) {
+            for (int i = 0; i < scale.getPosts(); i++) {
+                long postId = firstPostId + i;
+                Timestamp createdAt = timestamp((long) HISTORY_DAYS * 24 * 60 * (scale.getPosts() - i) / scale.getPosts());
+                String content = text.sentence(30 + random.nextInt(70));
+                posts.set(postId, text.sentence(3 + random.nextInt(5)), content, ContentPreview.of(content),
+                        SyntheticPosts.BOARDS[random.nextInt(SyntheticPosts.BOARDS.length)], random.nextInt(1000) == 0,
+                        random.nextInt(2_000), likeCounts[i], firstUserId + random.nextInt(scale.getUsers()), createdAt, createdAt);
+
+                int tagCount = 1 + random.nextInt(Math.min(MAX_TAGS_PER_POST, tagUsage.length));
+                int firstTag = popularTag(tagUsage.length);
+                for (int t = 0; t < tagCount; t++) {
+                    int tag = (firstTag + t) % tagUsage.length;
+                    tagUsage[tag]++;
+                    postTags.set(postId, firstTagId + tag);
+                }
+            }
+        }
+        return firstPostId;
+    }
+
+    /**
+     * 게시글마다 연속된 사용자 구간이 좋아요를 눌러 (사용자, 게시글) 중복이 없음
+     */
+    private void insertLikes(Connection connection, IdSequence ids, DataScale scale, long firstUserId, long firstPostId,
+                             int[] likeCounts) throws SQLException {
+        String sql = tables.insert(PostLike.class, "user", "post", "createdAt", "updatedAt");
+        try (Batch batch = new Batch(connection, sql, null)) {
+            for (int i = 0; i < likeCounts.length; i++) {
+                int start = random.nextInt(scale.getUsers());
+                Timestamp createdAt = timestamp((long) HISTORY_DAYS * 24 * 60 * (likeCounts.length - i) / likeCounts.length);
+                for (int l = 0; l < likeCounts[i]; l++) {
+                    batch.set(ids.next(), firstUserId + (start + l) % scale.getUsers(), firstPostId + i, createdAt, createdAt);
+                }
+            }
+        }
+    }
+
+    private void insertComments(Connection connection, IdSequence ids, DataScale scale, long firstUserId, long firstPostId)
+            throws SQLException {
+        double commentsPerPost = (double) scale.getComments() / scale.getPosts();
+        String sql = tables.insert(Comment.class, "content", "post", "user", "createdAt", "updatedAt");
+        try (Batch batch = new Batch(connection, sql, null)) {
+            for (int i = 0; i < scale.getPosts(); i++) {
+                int comments = skewed(commentsPerPost);
+                Timestamp createdAt = timestamp((long) HISTORY_DAYS * 24 * 60 * (scale.getPosts() - i) / scale.getPosts());
+                for (int c = 0; c < comments; c++) {
+                    batch.set(ids.next(), text.sentence(5 + random.nextInt(15)), firstPostId + i,
+                            firstUserId + random.nextInt(scale.getUsers()), createdAt, createdAt);
+                }
+            }
+        }
+    }
+
+    private void updateTagUsage(Connection connection, long firstTagId, long[] tagUsage) throws SQLException {
+        try (Batch batch = new Batch(connection, tables.update(Tag.class, "usageCount"), null)) {
+            for (int i = 0; i < tagUsage.length; i++) {
+                batch.set(tagUsage[i], firstTagId + i);
+            }
+        }
+    }
+
+    private List<String> tagNames(int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(i < SyntheticPosts.TAGS.length ? SyntheticPosts.TAGS[i] : "tag" + i);
+        }
+        return names;
+    }
+
+    /**
+     * 평균이 mean 인 지수 분포 (소수의 게시글에 좋아요, 댓글이 몰림)
+     */
+    private int skewed(double mean) {
+        return (int) Math.round(-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * 앞쪽 태그일수록 자주 선택
+     */
+    private int popularTag(int tags) {
+        return (int) (tags * Math.pow(random.nextDouble(), 3));
+    }
+
+    private Timestamp timestamp(long minutesAgo) {
+        return Timestamp.valueOf(now.minusMinutes(minutesAgo));
+    }
+
+    /**
+     * BATCH_SIZE 마다 실행 후 커밋, parent 가 있으면 parent 를 먼저 실행 (외래키 순서)
+     */
+    private static class Batch implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final Batch parent;
+        private int pending;
+
+        Batch(Connection connection, String sql, Batch parent) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(sql);
+            this.parent = parent;
+        }
+
+        void set(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (++pending >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
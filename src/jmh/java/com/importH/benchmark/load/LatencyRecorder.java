@@ -0,0 +1,50 @@
+package com.importH.benchmark.load;
+
+import java.util.Arrays;
+
+/**
+ * 요청 종류별 응답 시간 기록
+ */
+class LatencyRecorder {
+
+    private final String name;
+    private long[] latencies = new long[1 << 16];
+    private int count;
+    private int errors;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+    }
+
+    synchronized void reset() {
+        count = 0;
+        errors = 0;
+    }
+
+    synchronized String report(double seconds) {
+        if (count == 0) {
+            return String.format("%-8s %8d", name, 0);
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return String.format("%-8s %8d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %7d",
+                name, count, count / seconds,
+                millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99), millis(sorted, 0.999),
+                sorted[count - 1] / 1_000_000.0, errors);
+    }
+
+    private double millis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.importH.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.importH.benchmark.Options;
+import com.importH.benchmark.SyntheticPosts;
+import com.importH.benchmark.data.DataGeneratorMain;
+import com.importH.benchmark.data.SyntheticDataGenerator;
+
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REST API 부하 발생기 (java.net.http 비동기 클라이언트, 동시 요청 수 고정)
+ * ./gradlew loadTest -PbaseUrl=http://localhost:8090 -Pduration=60 -Pconcurrency=32 -Pmix=list=60,detail=30,like=5,comment=5
+ * generateData 로 만든 데이터를 대상으로 게시판 목록, 게시글 조회, 좋아요, 댓글 작성을 섞어 요청하고 분위수 응답 시간을 출력한다.
+ */
+public class WorkloadDriver {
+
+    private static final String DEFAULT_MIX = "list=60,detail=30,like=5,comment=5";
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Properties dataset;
+    private final List<String> tokens = new ArrayList<>();
+    private final NavigableMap<Integer, String> mix = new TreeMap<>();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private int totalWeight;
+
+    WorkloadDriver(String baseUrl, Properties dataset, String mix) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.split("=");
+            totalWeight += Integer.parseInt(weight[1].trim());
+            this.mix.put(totalWeight, weight[0].trim());
+            recorders.put(weight[0].trim(), new LatencyRecorder(weight[0].trim()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        Properties dataset = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(options.get("dataset", DataGeneratorMain.DEFAULT_DATASET)))) {
+            dataset.load(reader);
+        }
+
+        WorkloadDriver driver = new WorkloadDriver(options.get("baseUrl", "http://localhost:8090"), dataset, options.get("mix", DEFAULT_MIX));
+        driver.login(options.getInt("users", 20));
+        driver.run(options.getInt("concurrency", 32), Duration.ofSeconds(options.getLong("warmup", 10)),
+                Duration.ofSeconds(options.getLong("duration", 60)));
+    }
+
+    /**
+     * 좋아요, 댓글 요청에 쓸 토큰 발급 (생성된 사용자 중 앞쪽 users 명)
+     */
+    void login(int users) throws Exception {
+        for (int i = 0; i < Math.min(users, intValue("users")); i++) {
+            String body = objectMapper.writeValueAsString(Map.of("email", "user" + i + "@bench.io", "password", SyntheticDataGenerator.PASSWORD));
+            HttpResponse<String> response = client.send(post("/v1/login", body, null), HttpResponse.BodyHandlers.ofString());
+            JsonNode token = objectMapper.readTree(response.body()).path("data").path("accessToken");
+            if (token.isMissingNode()) {
+                throw new IllegalStateException("login failed: " + response.body());
+            }
+            tokens.add(token.asText());
+        }
+    }
+
+    void run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        boolean measuring = false;
+
+        while (System.nanoTime() < end) {
+            if (!measuring && System.nanoTime() >= warmupEnd) {
+                recorders.values().forEach(LatencyRecorder::reset);
+                measuring = true;
+            }
+            inFlight.acquire();
+            String operation = mix.higherEntry(ThreadLocalRandom.current().nextInt(totalWeight)).getValue();
+            LatencyRecorder recorder = recorders.get(operation);
+            long start = System.nanoTime();
+            client.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        recorder.record(System.nanoTime() - start, e == null && response.statusCode() < 400);
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(concurrency);
+        report(duration.toMillis() / 1000.0);
+    }
+
+    private HttpRequest request(String operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case "list":
+                String board = SyntheticPosts.BOARDS[random.nextInt(SyntheticPosts.BOARDS.length)];
+                return get("/v1/boards/" + board + "?page=" + random.nextInt(50) + "&size=20");
+            case "detail":
+                return get("/v1/posts/" + randomPostId());
+            case "like":
+                return post("/v1/posts/" + randomPostId() + "/like", "", randomToken());
+            case "comment":
+                return post("/v1/posts/" + randomPostId() + "/comments", "{\"content\":\"부하 테스트 댓글\"}", randomToken());
+            default:
+                throw new IllegalArgumentException("unknown operation " + operation);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder.build();
+    }
+
+    private long randomPostId() {
+        return Long.parseLong(dataset.getProperty("firstPostId")) + ThreadLocalRandom.current().nextInt(intValue("posts"));
+    }
+
+    private String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    private int intValue(String key) {
+        return Integer.parseInt(dataset.getProperty(key));
+    }
+
+    private void report(double seconds) {
+        System.out.printf("%-8s %8s %9s %8s %8s %8s %8s %8s %7s%n",
+                "op", "count", "req/s", "p50(ms)", "p90", "p99", "p99.9", "max", "errors");
+        recorders.values().forEach(recorder -> System.out.println(recorder.report(seconds)));
+    }
+}
@@ -6,11 +6,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class ImportHApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ImportHApplication.class, args);
+        SpringApplication application = new SpringApplication(ImportHApplication.class);
+        application.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,info,metrics,prometheus",
+                "server.compression.enabled", "true",
+                "server.compression.mime-types", "application/json,application/hal+json,text/html,text/plain,text/css,application/javascript",
+                "server.compression.min-response-size", "1KB"));
+        application.run(args);
     }
 
 
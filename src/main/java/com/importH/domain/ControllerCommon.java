@@ -2,8 +2,14 @@ package com.importH.domain;
 
 import com.importH.global.error.code.CommonErrorCode;
 import com.importH.global.error.exception.CommonException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +22,20 @@ public interface ControllerCommon {
                       getErrorMessage(bindingResult.getAllErrors()));
         }
     }
+
+    /**
+     * 클라이언트가 응답을 저장하되 매번 ETag 로 재검증하도록 하고, 변경이 없으면 304
+     */
+    static boolean notModified(WebRequest request, String etag) {
+        if (request instanceof ServletWebRequest) {
+            HttpServletResponse response = ((ServletWebRequest) request).getResponse();
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            }
+        }
+        return request.checkNotModified(etag);
+    }
+
     private static String getErrorMessage(List<ObjectError> errors) {
         return errors.stream()
                 .map(objectError -> objectError.getDefaultMessage())
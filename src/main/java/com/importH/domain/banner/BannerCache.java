@@ -0,0 +1,85 @@
+package com.importH.domain.banner;
+
+import com.importH.domain.banner.BannerDto.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 배너 목록 스냅샷 : 관리자가 등록/삭제할 때만 다시 만들고 조회는 락 없이 스냅샷만 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BannerCache {
+
+    private final BannerRepository bannerRepository;
+
+    // 재시작 후 이전 ETag 와 겹치지 않도록
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), 0);
+
+    public List<Response> getBanners() {
+        return snapshot.banners;
+    }
+
+    public String etag() {
+        return "W/\"" + epoch + "-" + snapshot.version + "\"";
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 다시 만든다 (롤백되면 그대로)
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * 동시에 커밋된 변경이 오래된 스냅샷으로 덮어써지지 않도록 다시 만드는 작업은 한번에 하나씩
+     * 락을 잡은 채 DB 를 조회하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+     */
+    @PostConstruct
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<Response> banners = bannerRepository.findAllWithTags().stream()
+                    .map(Response::fromEntity)
+                    .collect(Collectors.toUnmodifiableList());
+
+            snapshot = new Snapshot(banners, snapshot.version + 1);
+            log.debug("[BannerCache] 배너 {} 개 스냅샷 갱신", banners.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static class Snapshot {
+
+        private final List<Response> banners;
+        private final long version;
+
+        private Snapshot(List<Response> banners, long version) {
+            this.banners = banners;
+            this.version = version;
+        }
+    }
+}
@@ -14,7 +14,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
 
+import static com.importH.domain.ControllerCommon.notModified;
 import static com.importH.domain.ControllerCommon.validParameter;
 
 
@@ -27,6 +30,7 @@ public class BannerController  {
 
     private final ResponseService responseService;
     private final BannerService bannerService;
+    private final BannerCache bannerCache;
 
 
     
@@ -41,7 +45,10 @@ public class BannerController  {
 
     @GetMapping
     @ApiOperation(value = "배너 가져오기", notes = "등록된 배너 정보들을 가져옵니다.")
-    public ListResult<Response> getBanners() {
+    public ListResult<Response> getBanners(@ApiIgnore WebRequest request) {
+        if (notModified(request, bannerCache.etag())) {
+            return null;
+        }
         return responseService.getListResult(bannerService.getBanners());
     }
 
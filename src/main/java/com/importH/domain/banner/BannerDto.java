@@ -95,7 +95,7 @@ public class BannerDto {
                     .content(banner.getContent())
                     .imgUrl(banner.getImageUrl())
                     .url(banner.getUrl())
-                    .tags(banner.getTags().stream().map(tag -> TagDto.fromEntity(tag)).collect(Collectors.toList()))
+                    .tags(banner.getTags().stream().map(tag -> TagDto.fromEntity(tag)).collect(Collectors.toUnmodifiableList()))
                     .build();
         }
     }
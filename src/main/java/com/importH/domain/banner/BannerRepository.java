@@ -2,6 +2,7 @@ package com.importH.domain.banner;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,4 +16,10 @@ public interface BannerRepository extends JpaRepository<Banner,Long> {
     @Override
     @EntityGraph(attributePaths = {"tags"})
     List<Banner> findAll();
+
+    /**
+     * 스냅샷용 : 트랜잭션 밖(기동 시점)에서도 tags 를 읽을 수 있도록 fetch join
+     */
+    @Query("select distinct b from Banner b left join fetch b.tags")
+    List<Banner> findAllWithTags();
 }
@@ -10,7 +10,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.importH.global.error.code.BannerErrorCode.NOT_FOUND_BANNER;
 
@@ -23,6 +22,7 @@ public class BannerService {
     private final BannerRepository bannerRepository;
     private final FileService fileService;
     private final TagService tagService;
+    private final BannerCache bannerCache;
 
 
     /**
@@ -35,7 +35,9 @@ public class BannerService {
         banner.setTags(tagService.getTags(bannerDto.getTags()));
 
 
-        return Response.fromEntity(saveBanner(banner));
+        Response response = Response.fromEntity(saveBanner(banner));
+        bannerCache.refreshAfterCommit();
+        return response;
     }
 
     private Banner saveBanner(Banner banner) {
@@ -48,11 +50,11 @@ public class BannerService {
         return bannerRepository.findById(bannerId).orElseThrow(() -> new BannerException(NOT_FOUND_BANNER));
     }
 
+    /**
+     * 배너 조회 (DB 대신 메모리 스냅샷)
+     */
     public List<Response> getBanners() {
-        List<Banner> banners = bannerRepository.findAll();
-
-        return banners.stream().map(banner -> Response.fromEntity(banner))
-                .collect(Collectors.toList());
+        return bannerCache.getBanners();
     }
 
     /**
@@ -64,5 +66,6 @@ public class BannerService {
         Banner banner = findById(bannerId);
         fileService.deleteImage(banner.getStoreImageUrl());
         bannerRepository.delete(banner);
+        bannerCache.refreshAfterCommit();
     }
 }
@@ -2,6 +2,7 @@ package com.importH.domain.comment;
 
 import com.importH.domain.comment.CommentDto.Request;
 import com.importH.domain.post.entity.Post;
+import com.importH.domain.post.service.BoardVersion;
 import com.importH.domain.post.service.PostService;
 import com.importH.domain.user.entity.User;
 import com.importH.global.error.code.CommentErrorCode;
@@ -21,6 +22,7 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostService postService;
+    private final BoardVersion boardVersion;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -36,6 +38,7 @@ public class CommentService {
         setCommentRelation(user, post, comment);
 
         saveComment(comment);
+        boardVersion.bump();
 
         createNotificationToAuthor(user, post);
 
@@ -105,5 +108,6 @@ public class CommentService {
 
         post.deleteComment(comment);
         commentRepository.delete(comment);
+        boardVersion.bump();
     }
 }
@@ -0,0 +1,122 @@
+package com.importH.domain.digest;
+
+import com.importH.domain.digest.DigestDto.NewComment;
+import com.importH.domain.digest.DigestDto.Recipient;
+import com.importH.domain.digest.DigestDto.TopPost;
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.AppProperties;
+import com.importH.global.config.ExecutorProperties;
+import com.importH.global.mail.MailTemplateRenderer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.importH.global.config.ExecutorConfig.DIGEST_RENDER_EXECUTOR;
+
+/**
+ * 주간 소식 메일 작성, 수신자를 나눠 렌더링 전용 풀 (ExecutorConfig) 에서 렌더링한다.
+ */
+@Component
+public class DigestComposer {
+
+    static final String SUBJECT = "[Import - H] 이번 주 소식";
+
+    private static final String DIGEST_TEMPLATE = "mail/weekly-digest";
+    private static final String ITEM_TEMPLATE = "mail/digest-item";
+    private static final String NO_COMMENTS = "<li>새로운 댓글이 없습니다.</li>";
+    private static final String NO_POSTS = "<li>이번 주에 작성된 게시글이 없습니다.</li>";
+
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final AppProperties appProperties;
+    private final int parallelism;
+    private final Executor executor;
+
+    public DigestComposer(MailTemplateRenderer mailTemplateRenderer, AppProperties appProperties, ExecutorProperties executorProperties,
+                          @Qualifier(DIGEST_RENDER_EXECUTOR) Executor executor) {
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.appProperties = appProperties;
+        this.parallelism = Math.max(1, executorProperties.getDigestRender().getMaxPoolSize());
+        this.executor = executor;
+    }
+
+    /**
+     * 모든 수신자에게 같은 인기 게시글 목록은 한번만 렌더링
+     */
+    public String renderTopPosts(List<TopPost> topPosts) {
+        if (topPosts.isEmpty()) {
+            return NO_POSTS;
+        }
+        List<Map<String, Object>> items = new ArrayList<>(topPosts.size());
+        for (TopPost topPost : topPosts) {
+            items.add(item(topPost.getType(), topPost.getPostId(), topPost.getTitle(),
+                    "좋아요 " + topPost.getLikeCount() + " · 조회 " + topPost.getViewCount()));
+        }
+        return String.join("", mailTemplateRenderer.renderAll(ITEM_TEMPLATE, items));
+    }
+
+    public List<EmailMessageDto> compose(List<Recipient> recipients, String topPosts, Map<Long, List<NewComment>> newComments) {
+        int partitionSize = Math.max(1, (recipients.size() + parallelism - 1) / parallelism);
+        if (recipients.size() <= partitionSize) {
+            return composePartition(recipients, topPosts, newComments);
+        }
+
+        List<CompletableFuture<List<EmailMessageDto>>> futures = new ArrayList<>();
+        for (int from = 0; from < recipients.size(); from += partitionSize) {
+            List<Recipient> partition = recipients.subList(from, Math.min(from + partitionSize, recipients.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> composePartition(partition, topPosts, newComments), executor));
+        }
+
+        List<EmailMessageDto> messages = new ArrayList<>(recipients.size());
+        for (CompletableFuture<List<EmailMessageDto>> future : futures) {
+            messages.addAll(future.join());
+        }
+        return messages;
+    }
+
+    private List<EmailMessageDto> composePartition(List<Recipient> recipients, String topPosts, Map<Long, List<NewComment>> newComments) {
+        List<Map<String, Object>> variablesList = new ArrayList<>(recipients.size());
+        for (Recipient recipient : recipients) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("nickname", recipient.getNickname());
+            variables.put("topPosts", topPosts);
+            variables.put("newComments", renderNewComments(newComments.getOrDefault(recipient.getUserId(), List.of())));
+            variables.put("host", appProperties.getHost());
+            variablesList.add(variables);
+        }
+
+        List<String> rendered = mailTemplateRenderer.renderAll(DIGEST_TEMPLATE, variablesList);
+        List<EmailMessageDto> messages = new ArrayList<>(recipients.size());
+        for (int i = 0; i < recipients.size(); i++) {
+            messages.add(EmailMessageDto.builder()
+                    .to(recipients.get(i).getEmail())
+                    .subject(SUBJECT)
+                    .message(rendered.get(i))
+                    .build());
+        }
+        return messages;
+    }
+
+    private String renderNewComments(List<NewComment> newComments) {
+        if (newComments.isEmpty()) {
+            return NO_COMMENTS;
+        }
+        List<Map<String, Object>> items = new ArrayList<>(newComments.size());
+        for (NewComment newComment : newComments) {
+            items.add(item(newComment.getType(), newComment.getPostId(), newComment.getTitle(),
+                    "새 댓글 " + newComment.getCommentCount() + "개"));
+        }
+        return String.join("", mailTemplateRenderer.renderAll(ITEM_TEMPLATE, items));
+    }
+
+    private Map<String, Object> item(String type, Long postId, String title, String summary) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("host", appProperties.getHost());
+        item.put("link", "/" + type + "/" + postId);
+        item.put("title", title);
+        item.put("summary", summary);
+        return item;
+    }
+}
@@ -0,0 +1,48 @@
+package com.importH.domain.digest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class DigestDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Recipient {
+
+        private Long userId;
+
+        private String email;
+
+        private String nickname;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TopPost {
+
+        private Long postId;
+
+        private String title;
+
+        private String type;
+
+        private int likeCount;
+
+        private int viewCount;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NewComment {
+
+        private Long postOwnerId;
+
+        private Long postId;
+
+        private String title;
+
+        private String type;
+
+        private Long commentCount;
+    }
+}
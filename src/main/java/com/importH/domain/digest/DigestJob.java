@@ -0,0 +1,73 @@
+package com.importH.domain.digest;
+
+import com.importH.domain.BaseTimeEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주간 소식 발송 작업, 청크마다 마지막 수신자를 기록해 중단된 지점부터 다시 발송한다.
+ * 여러 노드 중 점유(leaseUntil)를 얻은 노드만 발송하고, 점유를 넘겨받은 노드가 있으면 version 이 바뀌어 이전 노드의 기록은 실패한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DigestJob extends BaseTimeEntity {
+
+    @Id @GeneratedValue
+    @Column(name = "digest_job_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate weekStart;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DigestJobStatus status = DigestJobStatus.RUNNING;
+
+    private long lastUserId;
+
+    private int sentCount;
+
+    private int failedCount;
+
+    // 이 시각까지 발송 중인 노드가 있음
+    private LocalDateTime leaseUntil;
+
+    @Version
+    private long version;
+
+    public static DigestJob start(LocalDate weekStart) {
+        return DigestJob.builder()
+                .weekStart(weekStart)
+                .build();
+    }
+
+    public void progress(long lastUserId, int sent, int failed, LocalDateTime leaseUntil) {
+        this.lastUserId = lastUserId;
+        this.sentCount += sent;
+        this.failedCount += failed;
+        this.leaseUntil = leaseUntil;
+    }
+
+    /**
+     * 다음 시작 때 바로 이어서 발송할 수 있도록 점유 해제
+     */
+    public void pause() {
+        this.leaseUntil = null;
+    }
+
+    public void complete() {
+        this.status = DigestJobStatus.COMPLETED;
+        this.leaseUntil = null;
+    }
+
+    public boolean isCompleted() {
+        return status == DigestJobStatus.COMPLETED;
+    }
+}
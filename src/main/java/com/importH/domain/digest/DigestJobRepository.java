@@ -0,0 +1,27 @@
+package com.importH.domain.digest;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface DigestJobRepository extends JpaRepository<DigestJob, Long> {
+
+    Optional<DigestJob> findByWeekStart(LocalDate weekStart);
+
+    /**
+     * 발송 중인 노드가 없거나 점유 시간이 지난 작업만 점유 - 0 이면 다른 노드가 발송 중
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DigestJob j set j.leaseUntil = :leaseUntil, j.version = j.version + 1" +
+            " where j.id = :id and j.status = :status and (j.leaseUntil is null or j.leaseUntil < :now)")
+    int claim(@Param("id") Long id, @Param("status") DigestJobStatus status,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
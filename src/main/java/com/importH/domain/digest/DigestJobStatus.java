@@ -0,0 +1,5 @@
+package com.importH.domain.digest;
+
+public enum DigestJobStatus {
+    RUNNING, COMPLETED
+}
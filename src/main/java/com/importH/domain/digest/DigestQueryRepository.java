@@ -0,0 +1,71 @@
+package com.importH.domain.digest;
+
+import com.importH.domain.comment.QComment;
+import com.importH.domain.digest.DigestDto.NewComment;
+import com.importH.domain.digest.DigestDto.Recipient;
+import com.importH.domain.digest.DigestDto.TopPost;
+import com.importH.domain.post.entity.QPost;
+import com.importH.domain.user.entity.QUser;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Transactional(readOnly = true)
+public class DigestQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public DigestQueryRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 주간 소식 수신에 동의한 사용자를 id 순으로 조회 (lastUserId 이후부터)
+     */
+    public List<Recipient> findRecipients(long lastUserId, int size) {
+        QUser user = QUser.user;
+        return queryFactory.select(Projections.constructor(Recipient.class, user.id, user.email, user.nickname))
+                .from(user)
+                .where(user.id.gt(lastUserId),
+                        user.weekAgree.isTrue(),
+                        user.infoAgree.infoByEmail.isTrue(),
+                        user.emailVerified.isTrue(),
+                        user.deleted.isFalse())
+                .orderBy(user.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<TopPost> findTopPosts(LocalDateTime since, LocalDateTime until, int size) {
+        QPost post = QPost.post;
+        return queryFactory.select(Projections.constructor(TopPost.class, post.id, post.title, post.type, post.likeCount, post.viewCount))
+                .from(post)
+                .where(post.createdAt.goe(since), post.createdAt.lt(until))
+                .orderBy(post.likeCount.desc(), post.viewCount.desc(), post.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 사용자들이 작성한 게시글에 다른 사용자가 남긴 댓글 수
+     */
+    public List<NewComment> findNewComments(List<Long> userIds, LocalDateTime since, LocalDateTime until) {
+        QComment comment = QComment.comment;
+        QPost post = QPost.post;
+        return queryFactory.select(Projections.constructor(NewComment.class, post.user.id, post.id, post.title, post.type, comment.count()))
+                .from(comment)
+                .join(comment.post, post)
+                .where(post.user.id.in(userIds),
+                        comment.user.id.ne(post.user.id),
+                        comment.createdAt.goe(since),
+                        comment.createdAt.lt(until))
+                .groupBy(post.user.id, post.id, post.title, post.type)
+                .fetch();
+    }
+}
@@ -0,0 +1,191 @@
+package com.importH.domain.digest;
+
+import com.importH.domain.digest.DigestDto.NewComment;
+import com.importH.domain.digest.DigestDto.Recipient;
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.DigestProperties;
+import com.importH.global.mail.EmailMessenger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static com.importH.global.config.ExecutorConfig.NOTIFICATION_EXECUTOR;
+
+/**
+ * 주간 소식 메일 발송
+ * 수신자를 id 순 청크로 읽어 발송하고, 청크마다 진행 상황을 기록해 중단되면 이어서 발송한다.
+ * 기록 직전에 중단되면 마지막 청크는 다시 발송될 수 있다.
+ * 여러 노드에서 같은 주의 작업을 실행해도 작업을 점유(DigestJobRepository.claim)한 노드만 발송한다.
+ */
+@Slf4j
+@Service
+public class WeeklyDigestService {
+
+    private final DigestQueryRepository digestQueryRepository;
+    private final DigestJobRepository digestJobRepository;
+    private final DigestComposer digestComposer;
+    private final EmailMessenger emailMessenger;
+    private final DigestProperties properties;
+    private final Clock clock;
+
+    private volatile boolean closing;
+
+    // 알림 전용 풀 (ExecutorConfig), 종료 시 진행 중인 청크까지 발송하고 멈춘다
+    private final Executor executor;
+
+    @Autowired
+    public WeeklyDigestService(DigestQueryRepository digestQueryRepository, DigestJobRepository digestJobRepository,
+                               DigestComposer digestComposer, EmailMessenger emailMessenger, DigestProperties properties,
+                               @Qualifier(NOTIFICATION_EXECUTOR) Executor executor) {
+        this(digestQueryRepository, digestJobRepository, digestComposer, emailMessenger, properties, executor, Clock.systemDefaultZone());
+    }
+
+    WeeklyDigestService(DigestQueryRepository digestQueryRepository, DigestJobRepository digestJobRepository,
+                        DigestComposer digestComposer, EmailMessenger emailMessenger, DigestProperties properties,
+                        Executor executor, Clock clock) {
+        this.digestQueryRepository = digestQueryRepository;
+        this.digestJobRepository = digestJobRepository;
+        this.digestComposer = digestComposer;
+        this.emailMessenger = emailMessenger;
+        this.properties = properties;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * 종료가 시작되면 진행 중인 청크까지만 발송하고 멈춤 (다음 시작 때 이어서 발송)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        closing = true;
+    }
+
+    /**
+     * 다른 스케줄 작업을 막지 않도록 별도 스레드에서 발송
+     */
+    @Scheduled(cron = "${digest.cron:0 0 9 * * MON}")
+    public void scheduledSend() {
+        executor.execute(this::send);
+    }
+
+    /**
+     * 서버 재시작시 이번 주 작업이 끝나지 않았으면 이어서 발송
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        digestJobRepository.findByWeekStart(currentWeekStart())
+                .filter(job -> !job.isCompleted())
+                .ifPresent(job -> executor.execute(this::send));
+    }
+
+    public DigestJob send() {
+        try {
+            DigestJob job = findOrStart(currentWeekStart());
+            if (job.isCompleted()) {
+                return job;
+            }
+            if (digestJobRepository.claim(job.getId(), DigestJobStatus.RUNNING, now(), leaseUntil()) == 0) {
+                log.info("weekly digest {} is already running", job.getWeekStart());
+                return null;
+            }
+            // 점유하며 바뀐 version 으로 다시 조회
+            return run(digestJobRepository.findById(job.getId()).orElseThrow());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("weekly digest interrupted");
+            return null;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("weekly digest was taken over by another node");
+            return null;
+        } catch (RuntimeException e) {
+            log.error("weekly digest failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * 다른 노드가 같은 주의 작업을 먼저 만들었으면 그 작업을 사용
+     */
+    private DigestJob findOrStart(LocalDate weekStart) {
+        return digestJobRepository.findByWeekStart(weekStart).orElseGet(() -> {
+            try {
+                return digestJobRepository.save(DigestJob.start(weekStart));
+            } catch (DataIntegrityViolationException e) {
+                return digestJobRepository.findByWeekStart(weekStart).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    private DigestJob run(DigestJob job) throws InterruptedException {
+        LocalDateTime until = job.getWeekStart().atStartOfDay();
+        LocalDateTime since = until.minusWeeks(1);
+        String topPosts = digestComposer.renderTopPosts(digestQueryRepository.findTopPosts(since, until, properties.getTopPostCount()));
+        DigestRateLimiter rateLimiter = new DigestRateLimiter(properties.getPermitsPerSecond());
+
+        List<Recipient> recipients;
+        while (!(recipients = digestQueryRepository.findRecipients(job.getLastUserId(), properties.getChunkSize())).isEmpty()) {
+            if (closing) {
+                job.pause();
+                job = digestJobRepository.save(job);
+                log.info("weekly digest {} paused at user {}", job.getWeekStart(), job.getLastUserId());
+                return job;
+            }
+            List<Long> userIds = recipients.stream().map(Recipient::getUserId).collect(Collectors.toList());
+            Map<Long, List<NewComment>> newComments = digestQueryRepository.findNewComments(userIds, since, until).stream()
+                    .collect(Collectors.groupingBy(NewComment::getPostOwnerId));
+
+            List<EmailMessageDto> messages = digestComposer.compose(recipients, topPosts, newComments);
+            int failed = deliver(messages, rateLimiter);
+
+            job.progress(userIds.get(userIds.size() - 1), messages.size() - failed, failed, leaseUntil());
+            job = digestJobRepository.save(job);
+        }
+
+        job.complete();
+        job = digestJobRepository.save(job);
+        log.info("weekly digest {} sent: {}, failed: {}", job.getWeekStart(), job.getSentCount(), job.getFailedCount());
+        return job;
+    }
+
+    private int deliver(List<EmailMessageDto> messages, DigestRateLimiter rateLimiter) throws InterruptedException {
+        int failed = 0;
+        for (int from = 0; from < messages.size(); from += properties.getSendBatchSize()) {
+            List<EmailMessageDto> batch = messages.subList(from, Math.min(from + properties.getSendBatchSize(), messages.size()));
+            rateLimiter.acquire(batch.size());
+
+            Map<EmailMessageDto, Exception> failures = emailMessenger.sendEmails(batch);
+            failures.forEach((message, e) -> log.warn("failed to send weekly digest to {}", message.getTo(), e));
+            failed += failures.size();
+        }
+        return failed;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private LocalDateTime leaseUntil() {
+        return now().plusSeconds(properties.getLeaseSeconds());
+    }
+
+    private LocalDate currentWeekStart() {
+        return LocalDate.now(clock).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
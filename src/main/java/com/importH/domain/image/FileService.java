@@ -3,11 +3,13 @@ package com.importH.domain.image;
 import com.importH.domain.post.entity.Post;
 import com.importH.global.error.code.FileErrorCode;
 import com.importH.global.error.exception.FileException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.servlet.http.HttpServletRequest;
 import java.io.File;
@@ -15,18 +17,27 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static com.importH.global.config.ExecutorConfig.IMAGE_EXECUTOR;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class FileService {
 
     private final ImageRepository imageRepository;
 
+    private final Executor imageExecutor;
+
     @Value("${file.dir}")
     private String fileDir;
 
+    public FileService(ImageRepository imageRepository, @Qualifier(IMAGE_EXECUTOR) Executor imageExecutor) {
+        this.imageRepository = imageRepository;
+        this.imageExecutor = imageExecutor;
+    }
 
     @Transactional
     public ImageDto.Response uploadImage(ImageDto.Request requestDto, HttpServletRequest request) throws URISyntaxException {
@@ -95,17 +106,29 @@ public class FileService {
 
     /**
      * 게시글 삭제시 서버에 저장된 이미지 삭제
+     * 삭제가 커밋된 뒤 이미지 전용 풀에서 지운다 (롤백되면 그대로)
      * @param findPost
      */
     public void deletePostImages(Post findPost) {
 
-        if (findPost.getImages() == null) {
+        if (findPost.getImages() == null || findPost.getImages().isEmpty()) {
             return;
         }
 
-        for (Image image : findPost.getImages()) {
-            deleteImage(image.getStoreFileName());
-        }
+        List<String> storeFileNames = findPost.getImages().stream()
+                .map(Image::getStoreFileName)
+                .collect(Collectors.toList());
+        Runnable deleteImages = () -> storeFileNames.forEach(this::deleteImage);
 
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            imageExecutor.execute(deleteImages);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageExecutor.execute(deleteImages);
+            }
+        });
     }
 }
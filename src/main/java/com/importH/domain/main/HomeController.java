@@ -1,6 +1,7 @@
 package com.importH.domain.main;
 
 import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.service.BoardVersion;
 import com.importH.domain.post.service.PostService;
 import com.importH.global.response.ResponseService;
 import com.importH.global.response.ListResult;
@@ -14,6 +15,10 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import springfox.documentation.annotations.ApiIgnore;
+
+import static com.importH.domain.ControllerCommon.notModified;
 
 
 @Api(tags = "5. Home")
@@ -25,10 +30,15 @@ public class HomeController {
 
     private final ResponseService responseService;
     private final PostService postService;
+    private final BoardVersion boardVersion;
 
     @ApiOperation(value = "메인 화면 게시글 좋아요순으로 조회", notes = "전체 게시글을 좋아요 순으로 조회 합니다.")
     @GetMapping
-    public ListResult<PostDto.ResponseAll> mainPosts(@PageableDefault(sort = "likeCount", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ListResult<PostDto.ResponseAll> mainPosts(@PageableDefault(sort = "likeCount", direction = Sort.Direction.DESC) Pageable pageable,
+                                                     @ApiIgnore WebRequest request) {
+        if (notModified(request, boardVersion.etag())) {
+            return null;
+        }
         return responseService.getListResult(postService.findAllPost(null,pageable));
     }
 
@@ -1,6 +1,7 @@
 package com.importH.domain.post.controller;
 
 import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.service.BoardVersion;
 import com.importH.domain.post.service.PostService;
 import com.importH.domain.post.entity.Post;
 import com.importH.domain.user.CurrentUser;
@@ -20,8 +21,10 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import springfox.documentation.annotations.ApiIgnore;
 
+import static com.importH.domain.ControllerCommon.notModified;
 import static com.importH.domain.ControllerCommon.validParameter;
 
 @Api(tags = "3. Post")
@@ -33,13 +36,18 @@ public class PostController {
 
     private final ResponseService responseService;
     private final PostService postService;
+    private final BoardVersion boardVersion;
 
 
     @GetMapping("/boards/{boardId}")
     @ApiOperation(value = "전체 게시글 조회", notes = "boardId 게시판에 게시글을 모두 조회합니다.")
     public ListResult<PostDto.ResponseAll> findAllPosts(@ApiParam(value = "게시판 유형", defaultValue = "free") @PathVariable String boardId,
-                                                        @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+                                                        @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                        @ApiIgnore WebRequest request) {
 
+        if (notModified(request, boardVersion.etag())) {
+            return null;
+        }
         return responseService.getListResult(postService.findAllPost(boardId,pageable));
     }
 
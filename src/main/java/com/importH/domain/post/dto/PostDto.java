@@ -2,6 +2,7 @@ package com.importH.domain.post.dto;
 
 
 import com.importH.domain.comment.CommentDto;
+import com.importH.domain.post.entity.ContentPreview;
 import com.importH.domain.post.entity.Post;
 import com.importH.domain.tag.TagDto;
 import com.querydsl.core.annotations.QueryProjection;
@@ -14,7 +15,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @ApiModel(value = "게시글 DTO")
 public class PostDto {
@@ -53,6 +53,7 @@ public class PostDto {
         public Post toEntity() {
             return Post.builder()
                     .content(content)
+                    .contentPreview(ContentPreview.of(content))
                     .type(type)
                     .important(important)
                     .title(title)
@@ -78,7 +79,7 @@ public class PostDto {
         @ApiModelProperty(value = "태그 정보", example = "[aa,bb]")
         private Set<TagDto> tags;
 
-        @ApiModelProperty(value = "게시글 내용", example = "샘플 포스트 입니다.")
+        @ApiModelProperty(value = "게시글 내용 (목록에서는 앞부분 미리보기)", example = "샘플 포스트 입니다.")
         private String content;
 
         @ApiModelProperty(value = "닉네임", example = "닉네임")
@@ -153,27 +154,6 @@ public class PostDto {
         @ApiModelProperty(value = "썸네일", example = "")
         private String thumbnail;
 
-        public static ResponseAll fromEntity(Post post) {
-
-            return ResponseAll.builder()
-                    .responseInfo(ResponseInfo.builder()
-                            .boardId(post.getType())
-                            .postId(post.getId())
-                            .nickname(post.getUser().getNickname())
-                            .profileImage(post.getUser().getProfileImage())
-                            .content(post.getContent())
-                            .createdAt(post.getCreatedAt())
-                            .important(post.isImportant())
-                            .title(post.getTitle())
-                            .tags(post.getTags().stream().map(tag -> TagDto.fromEntity(tag)).collect(Collectors.toSet()))
-                            .viewCount(post.getViewCount())
-                            .likeCount(post.getLikeCount())
-                            .build())
-                    .commentsCount(post.getComments().size())
-                    .thumbnail(post.getImages().isEmpty() ? null : post.getImages().get(0).getStoreFileName()) // TODO 썸네일 작업
-                    .build();
-        }
-
         @QueryProjection
         public ResponseAll(ResponseInfo responseInfo, int commentsCount, String thumbnail) {
             this.responseInfo = responseInfo;
@@ -0,0 +1,64 @@
+package com.importH.domain.post.entity;
+
+import java.util.regex.Pattern;
+
+/**
+ * 목록 카드용 게시글 미리보기 : 마크업을 걷어내고 앞부분만 자른다
+ * 엔티티를 먼저 풀고 태그를 걷어내야 &lt;script&gt; 같은 이스케이프된 태그가 미리보기에서 태그로 살아나지 않는다.
+ */
+public final class ContentPreview {
+
+    public static final int MAX_LENGTH = 150;
+
+    private static final String ELLIPSIS = "...";
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    // 닫히지 않은 태그 시작 (잘린 '<img ...' 등) - 뒤에 공백을 넣어 태그로 해석되지 않게 한다
+    private static final Pattern TAG_OPEN = Pattern.compile("<(?=[a-zA-Z/!?])");
+    // 마크다운 기호는 문법 위치에서만 제거한다 - "C#", "a*b", "x > y" 같은 본문은 그대로 둔다
+    private static final Pattern MARKDOWN_LINK = Pattern.compile("!?\\[([^\\]]*)]\\([^)]*\\)");
+    // 줄 시작의 제목, 인용, 목록 기호와 코드 블록 구분자
+    private static final Pattern MARKDOWN_BLOCK =
+            Pattern.compile("(?m)^[ \\t]*(?:#{1,6}(?=[ \\t]|$)|(?:>[ \\t]?)+|[*+-](?=[ \\t])|(?:`{3,}|~{3,})\\S*)");
+    // 짝이 맞는 강조, 취소선, 인라인 코드
+    private static final Pattern MARKDOWN_INLINE = Pattern.compile("(\\*\\*|\\*|~~|`)(?=\\S)(.+?)(?<=\\S)\\1");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private ContentPreview() {
+    }
+
+    public static String of(String content) {
+        return of(content, MAX_LENGTH);
+    }
+
+    public static String of(String content, int maxLength) {
+        if (content == null || content.isEmpty()) {
+            return content;
+        }
+
+        String text = TAG.matcher(unescape(content)).replaceAll(" ");
+        text = TAG_OPEN.matcher(text).replaceAll("< ");
+        text = MARKDOWN_LINK.matcher(text).replaceAll("$1");
+        text = MARKDOWN_BLOCK.matcher(text).replaceAll("");
+        text = MARKDOWN_INLINE.matcher(text).replaceAll("$2");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        if (text.codePointCount(0, text.length()) <= maxLength) {
+            return text;
+        }
+        // 서로게이트 쌍이 잘리지 않도록 코드포인트 기준으로 자른다
+        int end = text.offsetByCodePoints(0, maxLength);
+        return text.substring(0, end).trim() + ELLIPSIS;
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+}
@@ -7,6 +7,7 @@ import com.importH.domain.post.dto.PostDto.Request;
 import com.importH.domain.tag.Tag;
 import com.importH.domain.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -19,6 +20,7 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_post_user_id", columnList = "user_id, post_id"))
 public class Post extends BaseTimeEntity {
 
     @Id
@@ -33,6 +35,10 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false)
     private String content;
 
+    // 목록 카드용 미리보기, 목록 조회는 Lob 대신 이 컬럼만 읽는다
+    @Column(length = ContentPreview.MAX_LENGTH * 2)
+    private String contentPreview;
+
     private int viewCount;
 
     private int likeCount;
@@ -47,10 +53,12 @@ public class Post extends BaseTimeEntity {
 
     @Builder.Default
     @ManyToMany
+    @BatchSize(size = 100)
     private Set<Tag> tags = new HashSet<>();
 
 
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private Set<Comment> comments = new HashSet<>();
 
@@ -63,6 +71,7 @@ public class Post extends BaseTimeEntity {
     private Set<PostScrap> scraps = new HashSet<>();
 
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Image> images = new ArrayList<>();
 
@@ -70,10 +79,18 @@ public class Post extends BaseTimeEntity {
         this.tags = tags;
         this.important = postRequestDto.isImportant();
         this.content = postRequestDto.getContent();
+        this.contentPreview = ContentPreview.of(content);
         this.title = postRequestDto.getTitle();
         return id;
     }
 
+    @PrePersist
+    void initContentPreview() {
+        if (contentPreview == null) {
+            contentPreview = ContentPreview.of(content);
+        }
+    }
+
     public void increaseView() {
         this.viewCount++;
     }
@@ -11,6 +11,7 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_post_like_user_id", columnList = "user_id, post_like_id"))
 public class PostLike extends BaseTimeEntity {
 
     @Id @GeneratedValue
@@ -10,6 +10,7 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_post_scrap_user_id", columnList = "user_id, post_scrap_id"))
 public class PostScrap {
 
     @Id @GeneratedValue
@@ -0,0 +1,39 @@
+package com.importH.domain.post.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * ID 내림차순 커서 페이징 : 마지막으로 받은 ID 보다 작은 행부터 (user_id, id) 인덱스를 그대로 탄다
+ * lastId 가 없으면 기존 page 파라미터를 offset 으로 사용
+ */
+final class KeysetSlices {
+
+    private KeysetSlices() {
+    }
+
+    static BooleanExpression idLt(NumberPath<Long> id, Long lastId) {
+        return lastId == null ? null : id.lt(lastId);
+    }
+
+    static long offset(Long lastId, Pageable pageable) {
+        return lastId == null ? pageable.getOffset() : 0;
+    }
+
+    /**
+     * 한 건 더 읽어온 목록으로 다음 페이지 여부 판단
+     */
+    static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        boolean hasNext = false;
+        if (rows.size() > pageable.getPageSize()) {
+            rows.remove(pageable.getPageSize());
+            hasNext = true;
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+}
@@ -1,9 +1,9 @@
 package com.importH.domain.post.repository;
 
+import com.importH.domain.post.dto.PostDto;
 import com.importH.domain.post.entity.Post;
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -12,13 +12,21 @@ import java.util.Optional;
 
 public interface PostCustomRepository {
 
-    Slice<Post> findAllPostsByType(String type , Pageable pageable);
+    Slice<PostDto.ResponseAll> findAllCardsByType(String type , Pageable pageable);
 
-    List<Post> findAllByImportantIsTrue();
+    List<PostDto.ResponseAll> findAllImportantCards();
 
     Optional<Post> findWithAllById(Long id);
 
+    List<PostDto.ResponseAll> findAllCardsByIdIn(List<Long> ids);
 
-    Page<UserPostDto.Response> findAllPostByUser(User user, Pageable pageable);
+    List<Long> findPostIdsAfter(Long lastPostId, int size);
+
+    List<Post> findAllWithTagsByIdIn(List<Long> ids);
+
+
+    Slice<UserPostDto.Response> findAllPostByUser(User user, Long lastId, Pageable pageable);
+
+    long countByUserUpTo(User user, long limit);
 
 }
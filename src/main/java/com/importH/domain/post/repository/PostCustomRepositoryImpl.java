@@ -1,29 +1,35 @@
 package com.importH.domain.post.repository;
 
 import com.importH.domain.comment.QComment;
+import com.importH.domain.image.QImage;
+import com.importH.domain.post.dto.PostDto;
 import com.importH.domain.post.entity.Post;
 import com.importH.domain.post.entity.QPost;
 import com.importH.domain.post.entity.QPostLike;
 import com.importH.domain.post.entity.QPostScrap;
 import com.importH.domain.tag.QTag;
-import com.importH.domain.user.dto.QUserPostDto_Response;
+import com.importH.domain.tag.TagDto;
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.user.entity.QUser;
 import com.importH.domain.user.entity.User;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.util.StringUtils;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.*;
 
 import javax.persistence.EntityManager;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
+import static com.importH.domain.post.repository.KeysetSlices.*;
+import static com.importH.global.config.MetricsConfig.REPOSITORY_TIMER;
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 public class PostCustomRepositoryImpl implements PostCustomRepository{
@@ -38,40 +44,38 @@ public class PostCustomRepositoryImpl implements PostCustomRepository{
         queryFactory = new JPAQueryFactory(em);
     }
 
-    //todo 커버링 인덱스 적용
+    /**
+     * 목록 카드 조회 : Lob 인 content 대신 contentPreview 만 읽는다
+     */
     @Override
-    public Slice<Post> findAllPostsByType(String type, Pageable pageable) {
-        List<Post> posts = queryFactory
-                .select(post)
-                .from(post)
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public Slice<PostDto.ResponseAll> findAllCardsByType(String type, Pageable pageable) {
+        List<Tuple> rows = selectCards()
                 .where(typeEq(type))
-                .leftJoin(post.user, user).fetchJoin()
                 .orderBy(getAllOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-
-
         boolean hasNext = false;
-        if (posts.size() > pageable.getPageSize()) {
-            posts.remove(pageable.getPageSize());
+        if (rows.size() > pageable.getPageSize()) {
+            rows.remove(pageable.getPageSize());
             hasNext = true;
         }
-        return new SliceImpl(posts,pageable,hasNext);
+        return new SliceImpl<>(toCards(rows), pageable, hasNext);
     }
 
     @Override
-    public List<Post> findAllByImportantIsTrue() {
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public List<PostDto.ResponseAll> findAllImportantCards() {
 
-        return queryFactory.select(post)
-                .from(post)
+        return toCards(selectCards()
                 .where(post.important.isTrue())
-                .leftJoin(post.user, user).fetchJoin()
-                .fetch();
+                .fetch());
     }
 
     @Override
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
     public Optional<Post> findWithAllById(Long id) {
 
         return queryFactory.select(post)
@@ -86,23 +90,146 @@ public class PostCustomRepositoryImpl implements PostCustomRepository{
     }
 
     @Override
-    public Page<UserPostDto.Response> findAllPostByUser(User user, Pageable pageable) {
-        List<UserPostDto.Response> scraps = queryFactory
-                .select(new QUserPostDto_Response(
-                        post.title
-                        , post.createdAt
-                        , post.user.nickname
-                        , post.user.profileImage
-                        , post.type.append("/").append(post.id.stringValue())))
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public List<PostDto.ResponseAll> findAllCardsByIdIn(List<Long> ids) {
+
+        return toCards(selectCards()
+                .where(post.id.in(ids))
+                .orderBy(post.id.desc())
+                .fetch());
+    }
+
+    @Override
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public List<Long> findPostIdsAfter(Long lastPostId, int size) {
+
+        return queryFactory.select(post.id)
                 .from(post)
-                .where(post.user.eq(user))
-                .orderBy(post.createdAt.desc())
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
+                .where(post.id.gt(lastPostId))
+                .orderBy(post.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public List<Post> findAllWithTagsByIdIn(List<Long> ids) {
+
+        return queryFactory.selectDistinct(post)
+                .from(post)
+                .where(post.id.in(ids))
+                .leftJoin(post.tags, QTag.tag).fetchJoin()
+                .fetch();
+    }
+
+    /**
+     * 작성한 게시글 ID 내림차순 커서 페이징
+     */
+    @Override
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public Slice<UserPostDto.Response> findAllPostByUser(User user, Long lastId, Pageable pageable) {
+        QPost userPost = UserPostProjection.post;
+        List<UserPostDto.Response> posts = queryFactory
+                .select(UserPostProjection.userPost(userPost.id))
+                .from(userPost)
+                .join(userPost.user, UserPostProjection.author)
+                .where(userPost.user.eq(user), idLt(userPost.id, lastId))
+                .orderBy(userPost.id.desc())
+                .offset(offset(lastId, pageable))
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
+        return toSlice(posts, pageable);
+    }
+
+    @Override
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public long countByUserUpTo(User user, long limit) {
+        return queryFactory.select(post.id)
+                .from(post)
+                .where(post.user.eq(user))
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+
+    private JPAQuery<Tuple> selectCards() {
+        return queryFactory
+                .select(post.id, post.type, post.title, post.contentPreview, post.viewCount, post.likeCount,
+                        post.important, post.createdAt, user.nickname, user.profileImage)
+                .from(post)
+                .leftJoin(post.user, user);
+    }
+
+    /**
+     * 태그, 댓글 수, 썸네일은 게시글 수와 관계없이 한번씩 IN 쿼리로 채운다
+     */
+    private List<PostDto.ResponseAll> toCards(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = rows.stream().map(row -> row.get(post.id)).collect(Collectors.toList());
+        Map<Long, Set<TagDto>> tags = findTagDtos(ids);
+        Map<Long, Long> commentCounts = countComments(ids);
+        Map<Long, String> thumbnails = findThumbnails(ids);
+
+        return rows.stream()
+                .map(row -> {
+                    Long postId = row.get(post.id);
+                    return PostDto.ResponseAll.builder()
+                            .responseInfo(PostDto.ResponseInfo.builder()
+                                    .boardId(row.get(post.type))
+                                    .postId(postId)
+                                    .nickname(row.get(user.nickname))
+                                    .profileImage(row.get(user.profileImage))
+                                    .content(row.get(post.contentPreview))
+                                    .createdAt(row.get(post.createdAt))
+                                    .important(Boolean.TRUE.equals(row.get(post.important)))
+                                    .title(row.get(post.title))
+                                    .tags(tags.getOrDefault(postId, new HashSet<>()))
+                                    .viewCount(row.get(post.viewCount))
+                                    .likeCount(row.get(post.likeCount))
+                                    .build())
+                            .commentsCount(commentCounts.getOrDefault(postId, 0L).intValue())
+                            .thumbnail(thumbnails.get(postId))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Set<TagDto>> findTagDtos(List<Long> ids) {
+        QTag tag = QTag.tag;
+        return queryFactory.select(post.id, tag.name)
+                .from(post)
+                .join(post.tags, tag)
+                .where(post.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.groupingBy(row -> row.get(post.id),
+                        Collectors.mapping(row -> TagDto.builder().name(row.get(tag.name)).build(), Collectors.toSet())));
+    }
+
+    private Map<Long, Long> countComments(List<Long> ids) {
+        QComment comment = QComment.comment;
+        return queryFactory.select(comment.post.id, comment.count())
+                .from(comment)
+                .where(comment.post.id.in(ids))
+                .groupBy(comment.post.id)
+                .fetch().stream()
+                .collect(Collectors.toMap(row -> row.get(comment.post.id), row -> row.get(comment.count())));
+    }
 
-        return new PageImpl<>(scraps, pageable, scraps.size());
+    // 게시글의 첫번째 이미지
+    private Map<Long, String> findThumbnails(List<Long> ids) {
+        QImage image = QImage.image;
+        Map<Long, String> thumbnails = new HashMap<>();
+        queryFactory.select(image.post.id, image.storeFileName)
+                .from(image)
+                .where(image.post.id.in(ids))
+                .orderBy(image.id.asc())
+                .fetch()
+                .forEach(row -> thumbnails.putIfAbsent(row.get(image.post.id), row.get(image.storeFileName)));
+        return thumbnails;
     }
 
     private BooleanExpression typeEq(String boardId) {
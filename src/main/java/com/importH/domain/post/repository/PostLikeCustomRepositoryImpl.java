@@ -1,17 +1,21 @@
 package com.importH.domain.post.repository;
 
-import com.importH.domain.user.dto.QUserPostDto_Response;
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.user.entity.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import javax.persistence.EntityManager;
 import java.util.List;
 
 import static com.importH.domain.post.entity.QPostLike.postLike;
+import static com.importH.domain.post.repository.KeysetSlices.*;
+import static com.importH.domain.post.repository.UserPostProjection.author;
+import static com.importH.domain.post.repository.UserPostProjection.post;
+import static com.importH.domain.post.repository.UserPostProjection.userPost;
+import static com.importH.global.config.MetricsConfig.REPOSITORY_TIMER;
 
 public class PostLikeCustomRepositoryImpl implements PostLikeCustomRepository{
 
@@ -23,26 +27,35 @@ public class PostLikeCustomRepositoryImpl implements PostLikeCustomRepository{
         queryFactory = new JPAQueryFactory(em);
     }
 
+    /**
+     * 좋아요 누른 순서 (좋아요 ID 내림차순) 로 커서 페이징
+     */
     @Override
-    public Page<UserPostDto.Response> findAllByUser(User currentUser, Pageable pageable) {
-
-
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public Slice<UserPostDto.Response> findAllByUser(User currentUser, Long lastId, Pageable pageable) {
 
         List<UserPostDto.Response> likes = queryFactory
-                .select(new QUserPostDto_Response(
-                        postLike.post.title
-                        , postLike.post.createdAt
-                        , postLike.post.user.nickname
-                        , postLike.post.user.profileImage
-                        , postLike.post.type.append("/").append(postLike.post.id.stringValue())))
+                .select(userPost(postLike.id))
                 .from(postLike)
-                .where(postLike.user.eq(currentUser))
-                .orderBy(postLike.post.createdAt.desc())
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
+                .join(postLike.post, post)
+                .join(post.user, author)
+                .where(postLike.user.eq(currentUser), idLt(postLike.id, lastId))
+                .orderBy(postLike.id.desc())
+                .offset(offset(lastId, pageable))
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
+        return toSlice(likes, pageable);
+    }
 
-        return new PageImpl<>(likes, pageable, likes.size());
+    @Override
+    @Timed(value = REPOSITORY_TIMER, histogram = true)
+    public long countByUserUpTo(User user, long limit) {
+        return queryFactory.select(postLike.id)
+                .from(postLike)
+                .where(postLike.user.eq(user))
+                .limit(limit)
+                .fetch()
+                .size();
     }
 }
@@ -1,11 +1,15 @@
 package com.importH.domain.post.repository;
 
 import com.importH.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Transactional(readOnly = true)
@@ -27,4 +31,20 @@ public interface PostRepository extends JpaRepository<Post,Long>, PostCustomRepo
 
     @EntityGraph(attributePaths = {"user","likes"})
     Optional<Post> findPostWithLikeById(Long postId);
+
+    List<PostContent> findAllByContentPreviewIsNullAndIdGreaterThanOrderByIdAsc(Long lastPostId, Pageable pageable);
+
+    /**
+     * 비어있을 때만 채움 - 조회 후 게시글이 수정되었으면 수정할 때 만든 미리보기를 그대로 둔다
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.contentPreview = :contentPreview where p.id = :postId and p.contentPreview is null")
+    int updateContentPreview(@Param("postId") Long postId, @Param("contentPreview") String contentPreview);
+
+    interface PostContent {
+        Long getId();
+
+        String getContent();
+    }
 }
@@ -2,10 +2,12 @@ package com.importH.domain.post.repository;
 
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PostScrapCustomRepository {
 
-    Page<UserPostDto.Response> findAllByUser(User user, Pageable pageable);
+    Slice<UserPostDto.Response> findAllByUser(User user, Long lastId, Pageable pageable);
+
+    long countByUserUpTo(User user, long limit);
 }
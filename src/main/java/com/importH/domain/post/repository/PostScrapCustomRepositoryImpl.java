@@ -1,17 +1,19 @@
 package com.importH.domain.post.repository;
 
-import com.importH.domain.user.dto.QUserPostDto_Response;
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.user.entity.User;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import javax.persistence.EntityManager;
 import java.util.List;
 
 import static com.importH.domain.post.entity.QPostScrap.postScrap;
+import static com.importH.domain.post.repository.KeysetSlices.*;
+import static com.importH.domain.post.repository.UserPostProjection.author;
+import static com.importH.domain.post.repository.UserPostProjection.post;
+import static com.importH.domain.post.repository.UserPostProjection.userPost;
 
 
 public class PostScrapCustomRepositoryImpl implements PostScrapCustomRepository{
@@ -24,26 +26,33 @@ public class PostScrapCustomRepositoryImpl implements PostScrapCustomRepository{
         queryFactory = new JPAQueryFactory(em);
     }
 
+    /**
+     * 스크랩한 순서 (스크랩 ID 내림차순) 로 커서 페이징
+     */
     @Override
-    public Page<UserPostDto.Response> findAllByUser(User currentUser, Pageable pageable) {
-
-
+    public Slice<UserPostDto.Response> findAllByUser(User currentUser, Long lastId, Pageable pageable) {
 
         List<UserPostDto.Response> scraps = queryFactory
-                .select(new QUserPostDto_Response(
-                        postScrap.post.title
-                        , postScrap.post.createdAt
-                        , postScrap.post.user.nickname
-                        , postScrap.post.user.profileImage
-                        , postScrap.post.type.append("/").append(postScrap.post.id.stringValue())))
+                .select(userPost(postScrap.id))
                 .from(postScrap)
-                .where(postScrap.user.eq(currentUser))
-                .orderBy(postScrap.post.createdAt.desc())
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
+                .join(postScrap.post, post)
+                .join(post.user, author)
+                .where(postScrap.user.eq(currentUser), idLt(postScrap.id, lastId))
+                .orderBy(postScrap.id.desc())
+                .offset(offset(lastId, pageable))
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
+        return toSlice(scraps, pageable);
+    }
 
-        return new PageImpl<>(scraps, pageable, scraps.size());
+    @Override
+    public long countByUserUpTo(User user, long limit) {
+        return queryFactory.select(postScrap.id)
+                .from(postScrap)
+                .where(postScrap.user.eq(user))
+                .limit(limit)
+                .fetch()
+                .size();
     }
 }
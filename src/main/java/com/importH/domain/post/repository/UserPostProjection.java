@@ -0,0 +1,33 @@
+package com.importH.domain.post.repository;
+
+import com.importH.domain.post.entity.QPost;
+import com.importH.domain.user.dto.QUserPostDto_Response;
+import com.importH.domain.user.entity.QUser;
+import com.querydsl.core.types.dsl.NumberPath;
+
+/**
+ * 스크랩, 좋아요, 작성한 게시글 목록이 함께 쓰는 UserPostDto.Response 프로젝션
+ * postUri 는 DB 에서 CAST/CONCAT 하지 않고 type, id 컬럼 그대로 읽어 자바에서 만든다
+ */
+final class UserPostProjection {
+
+    static final QPost post = new QPost("userPost");
+    static final QUser author = new QUser("userPostAuthor");
+
+    private UserPostProjection() {
+    }
+
+    /**
+     * @param cursor 커서 페이징 기준 ID (스크랩/좋아요/게시글 ID)
+     */
+    static QUserPostDto_Response userPost(NumberPath<Long> cursor) {
+        return new QUserPostDto_Response(
+                cursor
+                , post.title
+                , post.createdAt
+                , author.nickname
+                , author.profileImage
+                , post.type
+                , post.id);
+    }
+}
@@ -0,0 +1,44 @@
+package com.importH.domain.post.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 버전 : 게시글, 좋아요, 댓글, 작성자 프로필 변경시 증가
+ * 목록 ETag 로 사용해 변경이 없으면 DB 조회 없이 304 응답 (조회수 변경은 반영하지 않음)
+ * 버전은 노드 메모리에만 있으므로 단일 노드 배포를 가정한다.
+ * 여러 노드로 늘리면 다른 노드의 변경이 반영되지 않은 304 가 나갈 수 있어 공유 저장소(Redis INCR 등)의 값으로 바꿔야 한다.
+ */
+@Component
+public class BoardVersion {
+
+    // 재시작 후 이전 ETag 와 겹치지 않도록
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 목록 조회 전에 읽어야 커밋 전 데이터가 새 버전으로 캐시되지 않는다
+     */
+    public String etag() {
+        return "W/\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 증가 (롤백되면 그대로)
+     */
+    public void bump() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+}
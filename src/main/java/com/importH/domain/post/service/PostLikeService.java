@@ -10,12 +10,11 @@ import com.importH.domain.user.entity.User;
 import com.importH.global.error.code.PostErrorCode;
 import com.importH.global.error.exception.PostException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 
@@ -26,6 +25,7 @@ public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
+    private final BoardVersion boardVersion;
 
     /**
      * 게시글 좋아요 요청
@@ -62,6 +62,7 @@ public class PostLikeService {
     private void increaseLike(User user, Post post) {
         PostLike postLike = savePostLike(PostLike.builder().post(post).user(user).build());
         post.addLike(postLike);
+        boardVersion.bump();
     }
 
     private PostLike savePostLike(PostLike postLike) {
@@ -71,6 +72,7 @@ public class PostLikeService {
     private void decreaseLike(Post post, PostLike postLike) {
         deletePostLike(postLike);
         post.deleteLike(postLike);
+        boardVersion.bump();
     }
 
     private void deletePostLike(PostLike postLike) {
@@ -81,8 +83,11 @@ public class PostLikeService {
      * 좋아요 한 게시글 가져오기
      */
 
-    public List<UserPostDto.Response> findAllPostLike(User user, Pageable pageable) {
-        Page<UserPostDto.Response> responses = postLikeRepository.findAllByUser(user, pageable);
-        return responses.getContent();
+    public Slice<UserPostDto.Response> findAllPostLike(User user, Long lastId, Pageable pageable) {
+        return postLikeRepository.findAllByUser(user, lastId, pageable);
+    }
+
+    public long countPostLike(User user, long limit) {
+        return postLikeRepository.countByUserUpTo(user, limit);
     }
 }
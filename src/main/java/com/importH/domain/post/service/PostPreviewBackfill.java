@@ -0,0 +1,82 @@
+package com.importH.domain.post.service;
+
+import com.importH.domain.post.entity.ContentPreview;
+import com.importH.domain.post.repository.PostRepository;
+import com.importH.domain.post.repository.PostRepository.PostContent;
+import com.importH.global.config.PostProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * contentPreview 컬럼 추가 전에 작성된 게시글의 미리보기 채우기
+ * 비어있는 게시글만 ID 순으로 나눠서 처리하므로 중간에 멈춰도 다음 시작시 이어서 진행
+ * 나눈 단위(chunk) 마다 한 트랜잭션에서 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPreviewBackfill {
+
+    private final PostRepository postRepository;
+    private final PostProperties postProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-preview-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        executor.execute(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("[PostPreviewBackfill] 미리보기 채우기 실패", e);
+            }
+        });
+    }
+
+    public long backfill() {
+        PageRequest chunk = PageRequest.of(0, postProperties.getPreviewBackfillChunkSize());
+        long filled = 0;
+        Long lastPostId = 0L;
+
+        List<PostContent> contents;
+        while (!(contents = postRepository.findAllByContentPreviewIsNullAndIdGreaterThanOrderByIdAsc(lastPostId, chunk)).isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return filled;
+            }
+            filled += fillChunk(contents);
+            lastPostId = contents.get(contents.size() - 1).getId();
+        }
+
+        if (filled > 0) {
+            log.info("[PostPreviewBackfill] {} 개의 게시글 미리보기 채우기 완료", filled);
+        }
+        return filled;
+    }
+
+    private int fillChunk(List<PostContent> contents) {
+        Integer filled = transactionTemplate.execute(status -> contents.stream()
+                .mapToInt(content -> postRepository.updateContentPreview(content.getId(), ContentPreview.of(content.getContent())))
+                .sum());
+        return filled == null ? 0 : filled;
+    }
+}
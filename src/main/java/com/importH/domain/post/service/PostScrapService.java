@@ -9,12 +9,11 @@ import com.importH.domain.user.entity.User;
 import com.importH.global.error.code.PostErrorCode;
 import com.importH.global.error.exception.PostException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -64,9 +63,12 @@ public class PostScrapService {
     /**
      * 해당 유저 스크랩 가져오기
      */
-    public List<UserPostDto.Response> findAllScrap(User user, Pageable pageable) {
-        Page<UserPostDto.Response> responses = postScrapRepository.findAllByUser(user, pageable);
-        return responses.getContent();
+    public Slice<UserPostDto.Response> findAllScrap(User user, Long lastId, Pageable pageable) {
+        return postScrapRepository.findAllByUser(user, lastId, pageable);
+    }
+
+    public long countScrap(User user, long limit) {
+        return postScrapRepository.countByUserUpTo(user, limit);
     }
 
     /**
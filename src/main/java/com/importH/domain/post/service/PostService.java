@@ -9,6 +9,8 @@ import com.importH.domain.post.repository.PostLikeRepository;
 import com.importH.domain.post.repository.PostRepository;
 import com.importH.domain.tag.Tag;
 import com.importH.domain.tag.TagDto;
+import com.importH.domain.tag.TagMatch;
+import com.importH.domain.tag.TagPostIndex;
 import com.importH.domain.tag.TagService;
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.user.entity.User;
@@ -16,8 +18,9 @@ import com.importH.global.error.code.PostErrorCode;
 import com.importH.global.error.code.SecurityErrorCode;
 import com.importH.global.error.exception.PostException;
 import com.importH.global.error.exception.SecurityException;
+import com.importH.global.event.PostChangedEventDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -43,6 +46,12 @@ public class PostService {
 
     private final FileService fileService;
 
+    private final TagPostIndex tagPostIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final BoardVersion boardVersion;
+
     /**
      * 게시글 저장
      */
@@ -54,7 +63,11 @@ public class PostService {
         validateType(user,post);
         setPostRelation(user, postRequestDto, post);
 
-        return savePost(post);
+        Post savePost = savePost(post);
+        eventPublisher.publishEvent(PostChangedEventDto.created(savePost));
+        boardVersion.bump();
+
+        return savePost;
     }
 
     private void validateType(User user, Post post) {
@@ -140,14 +153,19 @@ public class PostService {
 
         Post findPost = findByPostId(postId);
 
-        Set<Tag> tags = tagService.getTags(postRequestDto.getTags());
-
         //TODO 없어진 이미지들 삭제
 //        postRequestDto.getImages()
 
         validateAccount(user, findPost);
 
-        return findPost.updatePost(postRequestDto, tags);
+        Set<Tag> tags = tagService.getTags(postRequestDto.getTags());
+
+        Set<String> previousTags = PostChangedEventDto.tagNames(findPost.getTags());
+        Long postId = findPost.updatePost(postRequestDto, tags);
+        eventPublisher.publishEvent(PostChangedEventDto.updated(findPost, previousTags));
+        boardVersion.bump();
+
+        return postId;
     }
 
     private void validateAccount(User user, Post findPost) {
@@ -169,8 +187,11 @@ public class PostService {
         Post findPost = findByPostId(postId);
         validateAccount(user, findPost);
 
+        Set<String> previousTags = PostChangedEventDto.tagNames(findPost.getTags());
         fileService.deletePostImages(findPost);
         postRepository.delete(findPost);
+        eventPublisher.publishEvent(PostChangedEventDto.deleted(findPost, previousTags));
+        boardVersion.bump();
     }
 
 
@@ -179,21 +200,33 @@ public class PostService {
      */
     public List<PostDto.ResponseAll> findAllPost(String type, Pageable pageable) {
 
-        List<Post> importantIsTrue = new ArrayList<>();
+        List<PostDto.ResponseAll> importantIsTrue = new ArrayList<>();
         if (isExistType(type)) {
-            importantIsTrue = postRepository.findAllByImportantIsTrue();
+            importantIsTrue = postRepository.findAllImportantCards();
         }
 
-        Slice<Post> postSlice = postRepository.findAllPostsByType(type,pageable);
+        Slice<PostDto.ResponseAll> postSlice = postRepository.findAllCardsByType(type,pageable);
 
-        List<Post> content = postSlice.getContent();
+        List<PostDto.ResponseAll> content = postSlice.getContent();
 
         return Stream.of(importantIsTrue,content)
                 .flatMap(posts -> posts.stream())
-                .map(PostDto.ResponseAll::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 태그로 게시글 조회
+     */
+    public List<PostDto.ResponseAll> findAllPostByTags(List<String> tagNames, TagMatch match, Pageable pageable) {
+
+        List<Long> postIds = tagPostIndex.findPostIds(tagNames, match, pageable);
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return postRepository.findAllCardsByIdIn(postIds);
+    }
+
     public Post findByPostId(Long postsId) {
         return postRepository.findById(postsId).orElseThrow(() -> new PostException(NOT_FOUND_POST));
     }
@@ -201,8 +234,11 @@ public class PostService {
     /**
      * 유저가 작성한 게시글 가져오기
      */
-    public List<UserPostDto.Response> findAllPostByWrote(User user, Pageable pageable) {
-        Page<UserPostDto.Response> responses = postRepository.findAllPostByUser(user, pageable);
-        return responses.getContent();
+    public Slice<UserPostDto.Response> findAllPostByWrote(User user, Long lastId, Pageable pageable) {
+        return postRepository.findAllPostByUser(user, lastId, pageable);
+    }
+
+    public long countPostByWrote(User user, long limit) {
+        return postRepository.countByUserUpTo(user, limit);
     }
 }
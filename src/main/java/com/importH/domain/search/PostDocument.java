@@ -0,0 +1,42 @@
+package com.importH.domain.search;
+
+import com.importH.domain.post.entity.Post;
+import com.importH.global.event.PostChangedEventDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 검색 색인에 저장되는 게시글 정보
+ */
+@Getter
+@Builder
+public class PostDocument {
+
+    private final Long postId;
+    private final String boardId;
+    private final String title;
+    private final String content;
+    private final Set<String> tags;
+
+    public static PostDocument fromEvent(PostChangedEventDto event) {
+        return PostDocument.builder()
+                .postId(event.getPostId())
+                .boardId(event.getBoardId())
+                .title(event.getTitle())
+                .content(event.getContent())
+                .tags(event.getTags())
+                .build();
+    }
+
+    public static PostDocument fromEntity(Post post) {
+        return PostDocument.builder()
+                .postId(post.getId())
+                .boardId(post.getType())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .tags(PostChangedEventDto.tagNames(post.getTags()))
+                .build();
+    }
+}
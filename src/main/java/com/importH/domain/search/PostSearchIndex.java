@@ -0,0 +1,322 @@
+package com.importH.domain.search;
+
+import com.importH.global.config.SearchProperties;
+import com.importH.global.error.code.CommonErrorCode;
+import com.importH.global.error.exception.CommonException;
+import com.importH.global.event.PostChangedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 제목, 내용 전문 검색 색인 (Lucene + nori 한국어 형태소 분석기)
+ * 게시글 변경 이벤트는 커밋 후 전용 색인 스레드에서 반영하므로 요청 스레드는 색인을 기다리지 않는다.
+ * 변경은 NRT(near real-time) refresh 로 바로 검색에 반영하고, 디스크 커밋(fsync)은 주기적으로, 종료할 때 한 번 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String ID = "id";
+    private static final String BOARD = "board";
+    private static final String TAG = "tag";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+
+    private static final Map<String, Float> BOOSTS = Map.of(TITLE, 2f, CONTENT, 1f);
+
+    private final SearchProperties searchProperties;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Directory directory;
+    // 재색인 실패시 색인 스레드에서 다시 열기 때문에 검색 스레드에서 최신 값을 보도록 volatile
+    private volatile IndexWriter indexWriter;
+    private volatile SearcherManager searcherManager;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = createDirectory();
+        openWriter();
+    }
+
+    private void openWriter() throws IOException {
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    private Directory createDirectory() throws IOException {
+        String indexPath = searchProperties.getIndexPath();
+        if (indexPath == null || indexPath.isBlank()) {
+            return new ByteBuffersDirectory();
+        }
+        return FSDirectory.open(Paths.get(indexPath));
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexExecutor.shutdown();
+        indexExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        searcherManager.close();
+        indexWriter.commit();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @TransactionalEventListener
+    public void handlePostChangedEvent(PostChangedEventDto event) {
+        if (event.getChangeType() == PostChangedEventDto.ChangeType.DELETED) {
+            submit(() -> delete(event.getPostId()));
+        } else {
+            PostDocument document = PostDocument.fromEvent(event);
+            submit(() -> indexAll(List.of(document)));
+        }
+    }
+
+    /**
+     * 색인 스레드에서 작업 실행 (색인 변경은 모두 이 스레드에서 순서대로 처리)
+     */
+    public void submit(Runnable task) {
+        indexExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("[PostSearchIndex] 색인 작업 실패", e);
+            }
+        });
+    }
+
+    public void indexAll(Collection<PostDocument> documents) {
+        try {
+            write(documents);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long postId) {
+        try {
+            indexWriter.deleteDocuments(idTerm(postId));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 전체 재색인 : 기존 문서를 지우고 chunks 를 모두 색인한 뒤 한 번만 커밋, refresh
+     * 끝날 때까지 검색은 이전 색인을 보고, 실패하면 커밋하지 않은 변경을 버리고 이전 색인으로 되돌린다.
+     * 색인 스레드에서 호출해야 한다.
+     */
+    public long rebuild(Iterator<? extends Collection<PostDocument>> chunks) {
+        try {
+            // 되돌릴 지점 : 아직 커밋하지 않은 이벤트 반영분까지 포함
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            indexWriter.deleteAll();
+            long indexed = 0;
+            while (chunks.hasNext()) {
+                Collection<PostDocument> documents = chunks.next();
+                write(documents);
+                indexed += documents.size();
+            }
+            commit();
+            return indexed;
+        } catch (IOException e) {
+            rollback();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            rollback();
+            throw e;
+        }
+    }
+
+    public int count() throws IOException {
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = manager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            manager.release(searcher);
+        }
+    }
+
+    /**
+     * 주기적으로 색인 스레드에서 커밋 (재색인 도중에는 끝난 뒤에 실행됨)
+     */
+    @Scheduled(fixedDelayString = "${search.commit-delay:60000}", initialDelayString = "${search.commit-delay:60000}")
+    public void scheduledCommit() {
+        submit(() -> {
+            try {
+                commit();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Collection<PostDocument> documents) throws IOException {
+        for (PostDocument document : documents) {
+            indexWriter.updateDocument(idTerm(document.getPostId()), toDocument(document));
+        }
+    }
+
+    private void commit() throws IOException {
+        if (indexWriter.hasUncommittedChanges()) {
+            indexWriter.commit();
+        }
+        searcherManager.maybeRefresh();
+    }
+
+    private void rollback() {
+        SearcherManager previous = searcherManager;
+        try {
+            indexWriter.rollback();
+            openWriter();
+            previous.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Term idTerm(Long postId) {
+        return new Term(ID, String.valueOf(postId));
+    }
+
+    private Document toDocument(PostDocument post) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(post.getPostId()), Field.Store.YES));
+        if (post.getBoardId() != null) {
+            document.add(new StringField(BOARD, post.getBoardId(), Field.Store.NO));
+        }
+        post.getTags().forEach(tag -> document.add(new StringField(TAG, tag, Field.Store.NO)));
+        document.add(new TextField(TITLE, post.getTitle(), Field.Store.YES));
+        document.add(new TextField(CONTENT, post.getContent(), Field.Store.YES));
+        return document;
+    }
+
+    /**
+     * 검색어로 제목, 내용을 검색해서 점수순으로 반환
+     * 게시판, 태그가 주어지면 해당 게시판 및 모든 태그가 달린 게시글로 한정
+     * 깊은 페이지는 앞의 결과를 모두 점수 계산, 정렬해야 하므로 offset + size 를 maxResultWindow 로 제한
+     */
+    public List<SearchHit> search(String keyword, String boardId, Collection<String> tags, Pageable pageable) {
+        Query textQuery = parse(keyword);
+        Query query = withFilters(textQuery, boardId, tags);
+
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        if (limit > searchProperties.getMaxResultWindow()) {
+            throw new CommonException(CommonErrorCode.NOT_VALID_PARAM,
+                    "검색 결과는 " + searchProperties.getMaxResultWindow() + " 번째까지만 조회할 수 있습니다.");
+        }
+
+        try {
+            SearcherManager manager = searcherManager;
+            IndexSearcher searcher = manager.acquire();
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(query, (int) limit).scoreDocs;
+
+                List<SearchHit> hits = new ArrayList<>();
+                for (int i = (int) pageable.getOffset(); i < scoreDocs.length; i++) {
+                    hits.add(toHit(textQuery, searcher.doc(scoreDocs[i].doc), scoreDocs[i].score));
+                }
+                return hits;
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query parse(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CommonException(CommonErrorCode.NOT_VALID_PARAM, "검색어를 입력해 주세요.");
+        }
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[]{TITLE, CONTENT}, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(QueryParser.escape(keyword));
+        } catch (ParseException e) {
+            throw new CommonException(CommonErrorCode.NOT_VALID_PARAM, "검색어가 옳바르지 않습니다.");
+        }
+    }
+
+    private Query withFilters(Query textQuery, String boardId, Collection<String> tags) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST);
+
+        if (boardId != null && !boardId.isBlank()) {
+            builder.add(new TermQuery(new Term(BOARD, boardId)), BooleanClause.Occur.FILTER);
+        }
+        tags.forEach(tag -> builder.add(new TermQuery(new Term(TAG, tag)), BooleanClause.Occur.FILTER));
+        return builder.build();
+    }
+
+    private SearchHit toHit(Query textQuery, Document document, float score) throws IOException {
+        return new SearchHit(
+                Long.valueOf(document.get(ID)),
+                score,
+                highlight(textQuery, TITLE, document.get(TITLE)),
+                highlight(textQuery, CONTENT, document.get(CONTENT)));
+    }
+
+    private String highlight(Query textQuery, String field, String text) throws IOException {
+        QueryScorer scorer = new QueryScorer(textQuery, field);
+        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<em>", "</em>"), new SimpleHTMLEncoder(), scorer);
+        highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, searchProperties.getFragmentSize()));
+
+        try {
+            return highlighter.getBestFragment(analyzer, field, text);
+        } catch (InvalidTokenOffsetsException e) {
+            log.warn("[PostSearchIndex] 하이라이트 실패 field : {}", field, e);
+            return null;
+        }
+    }
+}
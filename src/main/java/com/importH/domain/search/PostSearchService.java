@@ -0,0 +1,87 @@
+package com.importH.domain.search;
+
+import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.repository.PostRepository;
+import com.importH.global.config.SearchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final SearchProperties searchProperties;
+
+    /**
+     * 게시글 검색
+     */
+    public List<SearchDto.Response> search(String keyword, String boardId, Collection<String> tags, Pageable pageable) {
+
+        List<SearchHit> hits = postSearchIndex.search(keyword, boardId, tags, pageable);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostDto.ResponseAll> posts = postRepository.findAllCardsByIdIn(getPostIds(hits)).stream()
+                .collect(Collectors.toMap(card -> card.getResponseInfo().getPostId(), Function.identity()));
+
+        // 색인 반영 전에 삭제된 게시글은 제외
+        return hits.stream()
+                .filter(hit -> posts.containsKey(hit.getPostId()))
+                .map(hit -> SearchDto.Response.of(posts.get(hit.getPostId()), hit))
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> getPostIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getPostId).collect(Collectors.toList());
+    }
+
+    /**
+     * 메모리 색인이거나 비어있는 색인이면 시작시 전체 재색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfEmpty() throws IOException {
+        if (postSearchIndex.count() == 0) {
+            reindex();
+        }
+    }
+
+    /**
+     * 전체 재색인 요청 (색인 스레드에서 게시글 ID 순으로 나눠서 처리)
+     */
+    public void reindex() {
+        postSearchIndex.submit(this::reindexAll);
+    }
+
+    private void reindexAll() {
+        int chunkSize = searchProperties.getReindexChunkSize();
+
+        // 게시글 ID 순으로 chunkSize 씩 필요할 때 읽어옴
+        Iterator<List<PostDocument>> chunks = Stream.iterate(postRepository.findPostIdsAfter(0L, chunkSize),
+                        postIds -> !postIds.isEmpty(),
+                        postIds -> postRepository.findPostIdsAfter(postIds.get(postIds.size() - 1), chunkSize))
+                .map(postIds -> postRepository.findAllWithTagsByIdIn(postIds).stream()
+                        .map(PostDocument::fromEntity)
+                        .collect(Collectors.toList()))
+                .iterator();
+
+        long indexed = postSearchIndex.rebuild(chunks);
+        log.info("[PostSearchService] {} 개의 게시글 재색인 완료", indexed);
+    }
+}
@@ -0,0 +1,45 @@
+package com.importH.domain.search;
+
+import com.importH.global.response.CommonResult;
+import com.importH.global.response.ListResult;
+import com.importH.global.response.ResponseService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Api(tags = "11. Search")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/search")
+public class SearchController {
+
+    private final ResponseService responseService;
+    private final PostSearchService postSearchService;
+
+    @ApiOperation(value = "게시글 검색", notes = "제목, 내용으로 게시글을 검색합니다. 게시판, 태그로 결과를 한정할 수 있습니다.")
+    @GetMapping
+    public ListResult<SearchDto.Response> search(@ApiParam(value = "검색어", required = true, example = "스프링") @RequestParam String q,
+                                                 @ApiParam(value = "게시판 유형", example = "free") @RequestParam(required = false) String boardId,
+                                                 @ApiParam(value = "태그", example = "자바") @RequestParam(required = false) List<String> tags,
+                                                 @PageableDefault Pageable pageable) {
+
+        return responseService.getListResult(postSearchService.search(q, boardId, tags == null ? new ArrayList<>() : tags, pageable));
+    }
+
+    @ApiOperation(value = "전체 재색인", notes = "검색 색인을 게시글 전체로 다시 생성합니다.")
+    @PostMapping("/reindex")
+    public CommonResult reindex() {
+
+        postSearchService.reindex();
+        return responseService.getSuccessResult();
+    }
+}
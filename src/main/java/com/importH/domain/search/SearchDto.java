@@ -0,0 +1,37 @@
+package com.importH.domain.search;
+
+import com.importH.domain.post.dto.PostDto;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@ApiModel(value = "검색 DTO")
+public class SearchDto {
+
+    @Getter
+    @Builder
+    @ApiModel(value = "검색 응답 DTO")
+    public static class Response {
+
+        private PostDto.ResponseAll post;
+
+        @ApiModelProperty(value = "검색 점수", example = "1.5")
+        private float score;
+
+        @ApiModelProperty(value = "제목 하이라이트", example = "<em>스프링</em> 질문")
+        private String titleHighlight;
+
+        @ApiModelProperty(value = "내용 하이라이트", example = "... <em>스프링</em> 트랜잭션이 ...")
+        private String contentHighlight;
+
+        public static Response of(PostDto.ResponseAll post, SearchHit hit) {
+            return Response.builder()
+                    .post(post)
+                    .score(hit.getScore())
+                    .titleHighlight(hit.getTitleHighlight())
+                    .contentHighlight(hit.getContentHighlight())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.importH.domain.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인 조회 결과 (게시글 ID, 점수, 하이라이트)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+    private final Long postId;
+    private final float score;
+    private final String titleHighlight;
+    private final String contentHighlight;
+}
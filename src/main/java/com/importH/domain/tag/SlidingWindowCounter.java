@@ -0,0 +1,50 @@
+package com.importH.domain.tag;
+
+/**
+ * 고정 길이 구간(bucket) 을 링 버퍼로 유지하는 슬라이딩 윈도우 카운터
+ * 지나간 구간은 해당 슬롯에 새 값이 쓰일 때 초기화된다.
+ */
+class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final long[] counts;
+    private final long[] epochs;
+
+    SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        this.bucketMillis = bucketMillis;
+        this.counts = new long[bucketCount];
+        this.epochs = new long[bucketCount];
+    }
+
+    synchronized void add(long now, long delta) {
+        long epoch = now / bucketMillis;
+        int slot = slot(epoch);
+        if (epochs[slot] > epoch) {
+            return; // 링 버퍼 범위보다 오래된 값
+        }
+        if (epochs[slot] < epoch) {
+            epochs[slot] = epoch;
+            counts[slot] = 0;
+        }
+        counts[slot] += delta;
+    }
+
+    /**
+     * 현재 구간부터 buckets 개 구간의 합
+     */
+    synchronized long sum(long now, int buckets) {
+        long epoch = now / bucketMillis;
+        long sum = 0;
+        for (int i = 0; i < Math.min(buckets, counts.length); i++) {
+            int slot = slot(epoch - i);
+            if (epochs[slot] == epoch - i) {
+                sum += counts[slot];
+            }
+        }
+        return Math.max(sum, 0);
+    }
+
+    private int slot(long epoch) {
+        return (int) (epoch % counts.length);
+    }
+}
@@ -1,5 +1,6 @@
 package com.importH.domain.tag;
 
+import com.importH.domain.BaseTimeEntity;
 import lombok.*;
 
 import javax.persistence.Column;
@@ -13,7 +14,7 @@ import javax.persistence.Id;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @EqualsAndHashCode(of = "name")
-public class Tag {
+public class Tag extends BaseTimeEntity {
 
     @Id @GeneratedValue
     @Column(name = "tag_id")
@@ -22,5 +23,8 @@ public class Tag {
     @Column(nullable = false, unique = true)
     private String name;
 
+    // 태그가 달린 게시글 수 (TagUsageCounter 가 주기적으로 저장)
+    private long usageCount;
+
 }
 
@@ -0,0 +1,50 @@
+package com.importH.domain.tag;
+
+import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.service.PostService;
+import com.importH.global.response.ListResult;
+import com.importH.global.response.ResponseService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Api(tags = "10. Tag")
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/tags")
+public class TagController {
+
+    // 인기 태그 최대 조회 개수
+    static final int MAX_TRENDING_SIZE = 100;
+
+    private final ResponseService responseService;
+    private final PostService postService;
+    private final TagService tagService;
+
+    @ApiOperation(value = "인기 태그 조회", notes = "최근 1시간(HOUR), 24시간(DAY), 7일(WEEK) 동안 많이 사용된 태그를 조회합니다.")
+    @GetMapping("/trending")
+    public ListResult<TagTrendingDto> findTrendingTags(@ApiParam(value = "집계 구간", defaultValue = "DAY") @RequestParam(defaultValue = "DAY") TrendingWindow window,
+                                                       @ApiParam(value = "조회 개수 (1 ~ 100)", defaultValue = "10") @RequestParam(defaultValue = "10") int size) {
+
+        // 범위를 벗어난 개수는 1 ~ MAX_TRENDING_SIZE 로 맞춤
+        int validSize = Math.min(Math.max(size, 1), MAX_TRENDING_SIZE);
+        return responseService.getListResult(tagService.getTrendingTags(window, validSize));
+    }
+
+    @ApiOperation(value = "태그로 게시글 조회", notes = "태그가 달린 게시글을 최신순으로 조회합니다. 여러 태그는 콤마(,)로 구분합니다.")
+    @GetMapping("/{tagNames}/posts")
+    public ListResult<PostDto.ResponseAll> findPostsByTags(@ApiParam(value = "태그 이름", example = "자바,스프링") @PathVariable List<String> tagNames,
+                                                           @ApiParam(value = "태그 조건", defaultValue = "AND") @RequestParam(defaultValue = "AND") TagMatch match,
+                                                           @PageableDefault Pageable pageable) {
+
+        return responseService.getListResult(postService.findAllPostByTags(tagNames, match, pageable));
+    }
+}
@@ -0,0 +1,60 @@
+package com.importH.domain.tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름 -> 태그 ID 사전
+ * 애플리케이션 시작시 전체 태그를 적재하고, 이후 저장/조회된 태그를 추가한다.
+ * 태그는 수정되지 않고, UnusedTagSweeper 가 오래 쓰이지 않은 태그를 삭제할 때만 항목을 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+
+    private final Map<String, Long> tagIds = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        registerAll(tagRepository.findAll());
+        log.info("[TagDictionary] {} 개의 태그 적재", tagIds.size());
+    }
+
+    /**
+     * 사전에 있는 태그는 DB 조회 없이 ID 만 채운 태그로 반환
+     */
+    public Optional<Tag> find(String name) {
+        Long id = tagIds.get(name);
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Tag.builder().id(id).name(name).build());
+    }
+
+    public void register(Tag tag) {
+        tagIds.put(tag.getName(), tag.getId());
+    }
+
+    public void registerAll(Collection<Tag> tags) {
+        tags.forEach(this::register);
+    }
+
+    public void removeAll(Collection<Tag> tags) {
+        tags.forEach(tag -> tagIds.remove(tag.getName(), tag.getId()));
+    }
+
+    public int size() {
+        return tagIds.size();
+    }
+}
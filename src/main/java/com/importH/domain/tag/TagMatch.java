@@ -0,0 +1,9 @@
+package com.importH.domain.tag;
+
+/**
+ * 여러 태그로 게시글 조회시 조건
+ * AND : 모든 태그가 달린 게시글, OR : 하나라도 달린 게시글
+ */
+public enum TagMatch {
+    AND, OR
+}
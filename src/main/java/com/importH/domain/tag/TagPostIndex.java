@@ -0,0 +1,115 @@
+package com.importH.domain.tag;
+
+import com.importH.domain.tag.TagRepository.TagPost;
+import com.importH.global.event.PostChangedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 -> 게시글 ID 역색인
+ * 시작시 post_tags 조인 테이블로 생성하고, 게시글 변경 이벤트가 커밋된 후 증분 반영한다.
+ * 비트맵은 변경시 복사본을 교체(copy-on-write) 하므로 조회는 락 없이 수행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagPostIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final TagRepository tagRepository;
+
+    private final Map<String, RoaringBitmap> postIdsByTag = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, RoaringBitmap> index = new HashMap<>();
+
+        for (TagPost tagPost : tagRepository.findAllTagPosts()) {
+            index.computeIfAbsent(tagPost.getName(), name -> new RoaringBitmap())
+                    .add(toIndex(tagPost.getPostId()));
+        }
+        index.values().forEach(RoaringBitmap::runOptimize);
+
+        postIdsByTag.clear();
+        postIdsByTag.putAll(index);
+        log.info("[TagPostIndex] {} 개의 태그 색인", index.size());
+    }
+
+    @TransactionalEventListener
+    public void handlePostChangedEvent(PostChangedEventDto event) {
+        int postId = toIndex(event.getPostId());
+
+        event.getAddedTags().forEach(tag -> postIdsByTag.compute(tag, (name, postIds) -> {
+            RoaringBitmap copy = postIds == null ? new RoaringBitmap() : postIds.clone();
+            copy.add(postId);
+            return copy;
+        }));
+
+        event.getRemovedTags().forEach(tag -> postIdsByTag.computeIfPresent(tag, (name, postIds) -> {
+            RoaringBitmap copy = postIds.clone();
+            copy.remove(postId);
+            return copy.isEmpty() ? null : copy;
+        }));
+    }
+
+    /**
+     * 태그 조건에 맞는 게시글 ID 를 최신순(ID 내림차순)으로 페이지 만큼 반환
+     */
+    public List<Long> findPostIds(Collection<String> tagNames, TagMatch match, Pageable pageable) {
+        RoaringBitmap postIds = match == TagMatch.AND ? intersect(tagNames) : union(tagNames);
+
+        List<Long> page = new ArrayList<>(pageable.getPageSize());
+        IntIterator iterator = postIds.getReverseIntIterator();
+
+        for (long skip = pageable.getOffset(); skip > 0 && iterator.hasNext(); skip--) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && page.size() < pageable.getPageSize()) {
+            page.add((long) iterator.next());
+        }
+        return page;
+    }
+
+    public int countPosts(String tagName) {
+        return getPostIds(tagName).getCardinality();
+    }
+
+    private RoaringBitmap intersect(Collection<String> tagNames) {
+        RoaringBitmap result = null;
+        for (String tagName : tagNames) {
+            RoaringBitmap postIds = getPostIds(tagName);
+            result = result == null ? postIds : RoaringBitmap.and(result, postIds);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? EMPTY : result;
+    }
+
+    private RoaringBitmap union(Collection<String> tagNames) {
+        RoaringBitmap result = EMPTY;
+        for (String tagName : tagNames) {
+            result = RoaringBitmap.or(result, getPostIds(tagName));
+        }
+        return result;
+    }
+
+    private RoaringBitmap getPostIds(String tagName) {
+        return postIdsByTag.getOrDefault(tagName, EMPTY);
+    }
+
+    private int toIndex(Long postId) {
+        return Math.toIntExact(postId);
+    }
+}
@@ -1,8 +1,14 @@
 package com.importH.domain.tag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -13,4 +19,50 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Set<Tag> findAllByNameIn(Set<String> names);
 
+    @Query("select t.name as name, p.id as postId from Post p join p.tags t")
+    List<TagPost> findAllTagPosts();
+
+    @Query("select t.name as name, count(p) as usageCount from Post p join p.tags t group by t.name")
+    List<TagUsage> countAllTagUsages();
+
+    @Query("select t.name as name, p.createdAt as createdAt from Post p join p.tags t where p.createdAt >= :since")
+    List<TagApplied> findAllTagsAppliedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("update Tag t set t.usageCount = :usageCount where t.name = :name")
+    int updateUsageCount(@Param("name") String name, @Param("usageCount") long usageCount);
+
+    @Query("select t from Tag t where t.createdAt < :before" +
+            " and not exists (select p.id from Post p join p.tags pt where pt.id = t.id)" +
+            " and not exists (select u.id from User u join u.tags ut where ut.id = t.id)" +
+            " and not exists (select b.id from Banner b join b.tags bt where bt.id = t.id)")
+    List<Tag> findAllUnusedCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Tag t where t.id in :ids" +
+            " and not exists (select p.id from Post p join p.tags pt where pt.id = t.id)" +
+            " and not exists (select u.id from User u join u.tags ut where ut.id = t.id)" +
+            " and not exists (select b.id from Banner b join b.tags bt where bt.id = t.id)")
+    int deleteUnusedByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface TagPost {
+        String getName();
+
+        Long getPostId();
+    }
+
+    interface TagUsage {
+        String getName();
+
+        Long getUsageCount();
+    }
+
+    interface TagApplied {
+        String getName();
+
+        LocalDateTime getCreatedAt();
+    }
+
 }
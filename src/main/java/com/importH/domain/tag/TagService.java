@@ -2,53 +2,78 @@ package com.importH.domain.tag;
 
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TagService {
 
+    private static final int MAX_INSERT_ATTEMPTS = 3;
+
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagWriter tagWriter;
+    private final TagUsageCounter tagUsageCounter;
 
     @Transactional
     public Set<Tag> getTags(List<TagDto> tags) {
 
-        Set<Tag> toEntityTags = tags.stream().map(TagDto::toEntity).collect(Collectors.toSet());
-        Set<String> tagNames = toEntityTags.stream().map(Tag::getName).collect(Collectors.toSet());
-
-        return findTags(toEntityTags, tagNames);
-
-    }
+        Set<String> tagNames = tags.stream().map(TagDto::getName).collect(Collectors.toSet());
 
-    private Set<Tag> findTags(Set<Tag> toEntityTags, Set<String> tagNames) {
-        Set<Tag> findTags = getAllByNameIn(tagNames);
+        Set<Tag> findTags = new HashSet<>();
+        Set<String> notCachedNames = new HashSet<>();
 
-        findTags.addAll(saveTagsNotExist(toEntityTags, findTags));
+        tagNames.forEach(name -> tagDictionary.find(name)
+                .ifPresentOrElse(findTags::add, () -> notCachedNames.add(name)));
 
+        if (!notCachedNames.isEmpty()) {
+            findTags.addAll(findOrSaveTags(notCachedNames));
+        }
         return findTags;
     }
 
-    private Set<Tag> getAllByNameIn(Set<String> tagNames) {
-        return tagRepository.findAllByNameIn(tagNames);
-    }
-
-    private Set<Tag> saveTagsNotExist(Set<Tag> collect, Set<Tag> tagList) {
-        return collect.stream()
-                .filter(tag -> !tagList.contains(tag))
-                .map(tagRepository::save)
-                .collect(Collectors.toSet());
+    /**
+     * 사전에 없는 태그는 TagWriter 의 별도 트랜잭션에서 조회 후, 없는 태그만 한번에 저장
+     * 다른 요청이 같은 태그를 먼저 저장한 경우 새 트랜잭션에서 다시 조회 해서 저장된 태그를 사용
+     * 새 태그는 게시글보다 먼저 커밋되므로 게시글이 롤백되면 남게 되는데, 그 사이 다른 요청이 사전에서 찾아 연결했을 수 있어
+     * 여기서 지우지 않고 UnusedTagSweeper 가 유예 기간이 지난 뒤 정리한다.
+     */
+    private Set<Tag> findOrSaveTags(Set<String> tagNames) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Set<Tag> tags = tagWriter.findOrInsertAll(tagNames);
+                tagDictionary.registerAll(tags);
+                return tags;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_INSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("[TagService] 동시에 저장된 태그 재조회 : {}", tagNames);
+            }
+        }
     }
 
     public Set<TagDto> getTagDtos(Set<Tag> tags) {
         return tags.stream().map(tag -> TagDto.fromEntity(tag)).collect(Collectors.toSet());
     }
 
+    /**
+     * 인기 태그 조회
+     */
+    public List<TagTrendingDto> getTrendingTags(TrendingWindow window, int size) {
+        return tagUsageCounter.getTrending(window, size);
+    }
+
     public Tag findByTitle(String name) {
         return tagRepository.findByName(name).orElse(null);
     }
@@ -0,0 +1,21 @@
+package com.importH.domain.tag;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@ApiModel(value = "인기 태그 응답 DTO")
+public class TagTrendingDto {
+
+    @ApiModelProperty(value = "태그 이름", example = "자바")
+    private String name;
+
+    @ApiModelProperty(value = "구간 내 사용 횟수", example = "12")
+    private long count;
+
+    @ApiModelProperty(value = "전체 게시글 수", example = "120")
+    private long usageCount;
+}
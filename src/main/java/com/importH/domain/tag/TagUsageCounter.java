@@ -0,0 +1,195 @@
+package com.importH.domain.tag;
+
+import com.importH.domain.tag.TagRepository.TagApplied;
+import com.importH.domain.tag.TagRepository.TagUsage;
+import com.importH.global.event.PostChangedEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 태그별 사용 횟수 집계
+ * 전체 게시글 수와 최근 1시간(분 단위), 24시간/7일(시간 단위) 구간 사용 횟수를 메모리에서 유지하고
+ * 전체 게시글 수는 변경된 태그만 주기적으로 Tag.usageCount 에 저장한다.
+ * 구간 집계는 시작시 복원과 같이 게시글 작성 시각을 기준으로 하므로, 오래된 게시글의 태그를 떼어내도 최근 구간은 줄지 않는다.
+ */
+@Slf4j
+@Component
+public class TagUsageCounter {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final int WEEK_HOURS = 7 * 24;
+    private static final long TRENDING_CACHE_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final TagRepository tagRepository;
+    private final Clock clock;
+
+    private final Map<String, Usage> usages = new ConcurrentHashMap<>();
+    private final Set<String> dirtyTags = ConcurrentHashMap.newKeySet();
+    private final Map<TrendingWindow, Trending> trendingCache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TagUsageCounter(TagRepository tagRepository) {
+        this(tagRepository, Clock.systemDefaultZone());
+    }
+
+    TagUsageCounter(TagRepository tagRepository, Clock clock) {
+        this.tagRepository = tagRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 시작시 조인 테이블로 전체 게시글 수를 맞추고, 최근 7일 게시글로 구간 집계를 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (TagUsage tagUsage : tagRepository.countAllTagUsages()) {
+            usage(tagUsage.getName()).total.set(tagUsage.getUsageCount());
+            dirtyTags.add(tagUsage.getName());
+        }
+
+        LocalDateTime since = LocalDateTime.now(clock).minusHours(WEEK_HOURS);
+        for (TagApplied tagApplied : tagRepository.findAllTagsAppliedSince(since)) {
+            usage(tagApplied.getName()).addWindow(toMillis(tagApplied.getCreatedAt()), 1);
+        }
+        log.info("[TagUsageCounter] {} 개의 태그 집계 적재", usages.size());
+    }
+
+    @TransactionalEventListener
+    public void handlePostChangedEvent(PostChangedEventDto event) {
+        long appliedAt = event.getCreatedAt() == null ? clock.millis() : toMillis(event.getCreatedAt());
+        event.getAddedTags().forEach(tag -> increase(tag, appliedAt, 1));
+        event.getRemovedTags().forEach(tag -> increase(tag, appliedAt, -1));
+    }
+
+    /**
+     * 구간 집계는 작성 시각이 7일 안인 게시글만 반영 (그 이전 게시글은 어느 구간에도 들어있지 않음)
+     */
+    private void increase(String tag, long appliedAt, long delta) {
+        Usage usage = usage(tag);
+        usage.total.addAndGet(delta);
+        if (clock.millis() - appliedAt < WEEK_HOURS * HOUR) {
+            usage.addWindow(appliedAt, delta);
+        }
+        dirtyTags.add(tag);
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Usage usage(String tag) {
+        return usages.computeIfAbsent(tag, name -> new Usage());
+    }
+
+    /**
+     * 변경된 태그의 전체 게시글 수 저장
+     * 저장에 실패한 태그는 다시 변경된 태그로 표시하고 다음 주기에 저장한다.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        Iterator<String> iterator = dirtyTags.iterator();
+        int flushed = 0;
+        while (iterator.hasNext()) {
+            String tag = iterator.next();
+            iterator.remove();
+            try {
+                tagRepository.updateUsageCount(tag, getUsageCount(tag));
+            } catch (RuntimeException e) {
+                dirtyTags.add(tag);
+                log.warn("[TagUsageCounter] 태그 사용 횟수 저장 실패, 다음 주기에 다시 저장", e);
+                break;
+            }
+            flushed++;
+        }
+        if (flushed > 0) {
+            log.debug("[TagUsageCounter] {} 개의 태그 사용 횟수 저장", flushed);
+        }
+    }
+
+    public long getUsageCount(String tag) {
+        Usage usage = usages.get(tag);
+        return usage == null ? 0 : usage.total.get();
+    }
+
+    public long getCount(String tag, TrendingWindow window) {
+        Usage usage = usages.get(tag);
+        return usage == null ? 0 : usage.count(clock.millis(), window);
+    }
+
+    /**
+     * 구간 내 사용 횟수가 많은 태그 (10초 동안 캐시)
+     */
+    public List<TagTrendingDto> getTrending(TrendingWindow window, int size) {
+        long now = clock.millis();
+        Trending trending = trendingCache.get(window);
+        if (trending == null || now - trending.createdAt > TRENDING_CACHE_MILLIS) {
+            trending = new Trending(now, rank(window, now));
+            trendingCache.put(window, trending);
+        }
+        return trending.tags.stream().limit(size).collect(Collectors.toList());
+    }
+
+    private List<TagTrendingDto> rank(TrendingWindow window, long now) {
+        List<TagTrendingDto> ranked = new ArrayList<>();
+        usages.forEach((tag, usage) -> {
+            long count = usage.count(now, window);
+            if (count > 0) {
+                ranked.add(TagTrendingDto.builder()
+                        .name(tag)
+                        .count(count)
+                        .usageCount(usage.total.get())
+                        .build());
+            }
+        });
+        ranked.sort(Comparator.comparingLong(TagTrendingDto::getCount).reversed()
+                .thenComparing(TagTrendingDto::getName));
+        return ranked;
+    }
+
+    private static class Usage {
+        private final AtomicLong total = new AtomicLong();
+        private final SlidingWindowCounter minutes = new SlidingWindowCounter(MINUTE, 60);
+        private final SlidingWindowCounter hours = new SlidingWindowCounter(HOUR, WEEK_HOURS);
+
+        void addWindow(long time, long delta) {
+            minutes.add(time, delta);
+            hours.add(time, delta);
+        }
+
+        long count(long now, TrendingWindow window) {
+            switch (window) {
+                case HOUR:
+                    return minutes.sum(now, 60);
+                case DAY:
+                    return hours.sum(now, 24);
+                default:
+                    return hours.sum(now, WEEK_HOURS);
+            }
+        }
+    }
+
+    private static class Trending {
+        private final long createdAt;
+        private final List<TagTrendingDto> tags;
+
+        Trending(long createdAt, List<TagTrendingDto> tags) {
+            this.createdAt = createdAt;
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.importH.domain.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 조회 후 없는 태그 저장
+ * 호출한 트랜잭션과 분리된 트랜잭션에서 조회, 저장 후 커밋한다.
+ * 동시에 같은 태그를 저장해 unique 제약에 걸리면 이 트랜잭션만 롤백되므로, 호출자가 다시 호출하면
+ * 새 트랜잭션(새 스냅샷)에서 먼저 커밋된 태그를 조회할 수 있다. (REPEATABLE READ 에서도 수렴)
+ */
+@Component
+@RequiredArgsConstructor
+public class TagWriter {
+
+    private final TagRepository tagRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Tag> findOrInsertAll(Set<String> names) {
+        Set<Tag> tags = new HashSet<>(tagRepository.findAllByNameIn(names));
+
+        Set<String> foundNames = tags.stream().map(Tag::getName).collect(Collectors.toSet());
+        List<Tag> newTags = names.stream()
+                .filter(name -> !foundNames.contains(name))
+                .map(name -> Tag.builder().name(name).build())
+                .collect(Collectors.toList());
+
+        if (!newTags.isEmpty()) {
+            tags.addAll(tagRepository.saveAllAndFlush(newTags));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,11 @@
+package com.importH.domain.tag;
+
+/**
+ * 인기 태그 집계 구간
+ */
+public enum TrendingWindow {
+
+    HOUR,
+    DAY,
+    WEEK
+}
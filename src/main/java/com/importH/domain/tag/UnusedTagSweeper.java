@@ -0,0 +1,44 @@
+package com.importH.domain.tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 저장이 롤백되어 남은 태그처럼 어디에도 연결되지 않은 태그를 주기적으로 삭제
+ * 방금 만들어진 태그는 커밋 전인 다른 요청이 연결하고 있을 수 있으므로 유예 기간이 지난 태그만 삭제하고,
+ * 사전에서 먼저 제거한 뒤 삭제한다. (사전은 노드마다 있으므로 각 노드에서 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnusedTagSweeper {
+
+    static final Duration GRACE_PERIOD = Duration.ofDays(1);
+
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+
+    @Scheduled(cron = "${tag.unused-cleanup-cron:0 0 5 * * *}")
+    public void sweep() {
+        sweep(LocalDateTime.now().minus(GRACE_PERIOD));
+    }
+
+    public int sweep(LocalDateTime createdBefore) {
+        List<Tag> unused = tagRepository.findAllUnusedCreatedBefore(createdBefore);
+        if (unused.isEmpty()) {
+            return 0;
+        }
+        tagDictionary.removeAll(unused);
+
+        int deleted = tagRepository.deleteUnusedByIdIn(unused.stream().map(Tag::getId).collect(Collectors.toList()));
+        log.info("[UnusedTagSweeper] 사용되지 않는 태그 {} 개 삭제", deleted);
+        return deleted;
+    }
+}
@@ -10,6 +10,7 @@ import com.importH.domain.user.token.TokenDto;
 import com.importH.global.response.CommonResult;
 import com.importH.global.response.ResponseService;
 import com.importH.global.response.SingleResult;
+import com.importH.global.security.throttle.LoginThrottle;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -18,8 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import springfox.documentation.annotations.ApiIgnore;
 
+import javax.servlet.http.HttpServletRequest;
+
 import static com.importH.domain.ControllerCommon.validParameter;
 
 @Api(tags = "1. SignUp / Login")
@@ -33,17 +37,25 @@ public class SignController {
     private final ResponseService responseService;
 
     private final OauthService oauthService;
+    private final LoginThrottle loginThrottle;
 
     @ApiOperation(value = "로그인", notes = "로그인을 합니다.")
     @PostMapping("/login")
     public SingleResult<TokenDto> login(
             @ApiParam(value = "로그인 요청 DTO", required = true) @RequestBody @Validated LoginDto request
             ,BindingResult bindingResult
+            ,@ApiIgnore HttpServletRequest httpRequest
             ) {
 
         validParameter(bindingResult);
 
-        return responseService.getSingleResult(signService.login(request.getEmail(), request.getPassword()));
+        // 한도를 넘은 시도는 DB 커넥션, bcrypt 없이 거절
+        // getRemoteAddr 는 프록시 뒤에서 server.forward-headers-strategy=native 로 신뢰하는 프록시의 X-Forwarded-For 를 반영
+        loginThrottle.acquire(request.getEmail(), httpRequest.getRemoteAddr());
+        TokenDto token = signService.login(request.getEmail(), request.getPassword());
+        loginThrottle.succeeded(request.getEmail());
+
+        return responseService.getSingleResult(token);
     }
 
     @ApiOperation(value = "회원가입 ", notes = "회원가입을 합니다.")
@@ -58,10 +70,10 @@ public class SignController {
 
     @ApiOperation(value = "소셜 로그인", notes = "소셜 아이디로 로그인 및 회원가입을 합니다.")
     @GetMapping("/social/{provider}")
-    public SingleResult<TokenDto> login(@ApiParam(value = "API 제공자" ,required = true, example = "google")@PathVariable String provider,
-                                          @ApiParam(value = "외부 API 로 부터 받은 code" ,required = true) @RequestParam String code) {
-        TokenDto loginResponse = oauthService.socialLogin(provider, code);
-        return responseService.getSingleResult(loginResponse);
+    public Mono<SingleResult<TokenDto>> login(@ApiParam(value = "API 제공자" ,required = true, example = "google")@PathVariable String provider,
+                                              @ApiParam(value = "외부 API 로 부터 받은 code" ,required = true) @RequestParam String code) {
+        // 비동기 요청으로 처리 - 제공자 API 를 기다리는 동안 요청 스레드를 반납
+        return oauthService.socialLogin(provider, code).map(responseService::getSingleResult);
     }
 
     @ApiOperation(value = "엑세스 , 리프레시 토큰 재발급",
@@ -74,6 +86,25 @@ public class SignController {
     }
 
 
+    @ApiOperation(value = "로그아웃", notes = "현재 액세스 토큰과 함께 보낸 리프레시 토큰을 폐기합니다.")
+    @PostMapping("/logout")
+    public CommonResult logout(@ApiIgnore @RequestHeader("Authorization") String accessToken,
+                               @ApiParam(value = "리프레시 토큰 (선택)") @RequestBody(required = false) TokenDto tokenDto) {
+
+        signService.logout(accessToken, tokenDto == null ? null : tokenDto.getRefreshToken());
+
+        return responseService.getSuccessResult();
+    }
+
+    @ApiOperation(value = "모든 기기 로그아웃", notes = "지금까지 발급된 모든 토큰을 폐기합니다.")
+    @PostMapping("/logout/all")
+    public CommonResult logoutAll(@ApiIgnore @CurrentUser User user) {
+
+        signService.logoutAll(user.getId());
+
+        return responseService.getSuccessResult();
+    }
+
     @ApiOperation(value = "이메일 인증", notes = "회원가입 후 이메일 인증을 진행합니다.")
     @GetMapping("/email-token")
     public CommonResult checkEmailToken(@ApiParam(value = "이메일 인증 토큰") @RequestParam String token,
@@ -13,6 +13,7 @@ import com.importH.global.response.ResponseService;
 import com.importH.global.response.CommonResult;
 import com.importH.global.response.ListResult;
 import com.importH.global.response.SingleResult;
+import com.importH.global.response.SliceResult;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -106,29 +107,38 @@ public class UserController {
         return responseService.getListResult(userService.findAllUsers(pageable));
     }
 
-    @ApiOperation(value = "스크랩한 게시글 가져오기", notes = "스크랩한 게시글을 가져옵니다.")
+    @ApiOperation(value = "스크랩한 게시글 가져오기", notes = "스크랩한 게시글을 최근 스크랩 순으로 가져옵니다. 다음 페이지는 nextCursor 를 lastId 로 전달합니다.")
     @GetMapping("/{userId}/scrap")
-    public ListResult<UserPostDto.Response> findAllScraps(@ApiIgnore @CurrentUser User user,
-                                                          @ApiParam(value = "?limit=...&page=...") Pageable pageable,
-                                                          @ApiParam(value = "회원 ID", required = true) @PathVariable Long userId) {
-        return responseService.getListResult(userService.findAllScrap(userId,user,pageable));
+    public SliceResult<UserPostDto.Response> findAllScraps(@ApiIgnore @CurrentUser User user,
+                                                           @ApiParam(value = "?limit=...&page=...") Pageable pageable,
+                                                           @ApiParam(value = "이전 페이지의 nextCursor") @RequestParam(required = false) Long lastId,
+                                                           @ApiParam(value = "회원 ID", required = true) @PathVariable Long userId) {
+        return responseService.getSliceResult(userService.findAllScrap(userId, user, lastId, pageable), UserPostDto.Response::getCursor);
     }
 
-    @ApiOperation(value = "좋아요 한 게시글 가져오기", notes = "좋아요한 게시글을 가져옵니다.")
+    @ApiOperation(value = "좋아요 한 게시글 가져오기", notes = "좋아요한 게시글을 최근 좋아요 순으로 가져옵니다. 다음 페이지는 nextCursor 를 lastId 로 전달합니다.")
     @GetMapping("/{userId}/like")
-    public ListResult<UserPostDto.Response> findAllPostByLike(@ApiIgnore @CurrentUser User user,
-                                                          @ApiParam(value = "?limit=...&page=...") Pageable pageable,
-                                                          @ApiParam(value = "회원 ID", required = true) @PathVariable Long userId) {
-        return responseService.getListResult(userService.findAllPostByLike(userId,user,pageable));
+    public SliceResult<UserPostDto.Response> findAllPostByLike(@ApiIgnore @CurrentUser User user,
+                                                               @ApiParam(value = "?limit=...&page=...") Pageable pageable,
+                                                               @ApiParam(value = "이전 페이지의 nextCursor") @RequestParam(required = false) Long lastId,
+                                                               @ApiParam(value = "회원 ID", required = true) @PathVariable Long userId) {
+        return responseService.getSliceResult(userService.findAllPostByLike(userId, user, lastId, pageable), UserPostDto.Response::getCursor);
     }
 
-    @ApiOperation(value = "작성 한 게시글 가져오기", notes = "작성 한 게시글을 가져옵니다.")
+    @ApiOperation(value = "작성 한 게시글 가져오기", notes = "작성한 게시글을 최신순으로 가져옵니다. 다음 페이지는 nextCursor 를 lastId 로 전달합니다.")
     @GetMapping("/{userId}/post")
-    public ListResult<UserPostDto.Response> findAllWrotePost(@ApiIgnore @CurrentUser User user,
+    public SliceResult<UserPostDto.Response> findAllWrotePost(@ApiIgnore @CurrentUser User user,
                                                               @ApiParam(value = "?limit=...&page=...") Pageable pageable,
+                                                              @ApiParam(value = "이전 페이지의 nextCursor") @RequestParam(required = false) Long lastId,
                                                               @ApiParam(value = "회원 ID", required = true) @PathVariable Long userId) {
-        return responseService.getListResult(userService.findAllWrotePost(userId,user,pageable));
+        return responseService.getSliceResult(userService.findAllWrotePost(userId, user, lastId, pageable), UserPostDto.Response::getCursor);
     }
 
-}
+    @ApiOperation(value = "스크랩/좋아요/작성한 게시글 수", notes = "각각 최대 1000 까지 셉니다.")
+    @GetMapping("/{userId}/post-counts")
+    public SingleResult<UserPostDto.Counts> countUserPosts(@ApiIgnore @CurrentUser User user,
+                                                           @ApiParam(value = "회원 ID", required = true) @PathVariable Long userId) {
+        return responseService.getSingleResult(userService.countUserPosts(userId, user));
+    }
 
+}
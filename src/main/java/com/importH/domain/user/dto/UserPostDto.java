@@ -1,9 +1,11 @@
 package com.importH.domain.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.importH.domain.post.entity.Post;
 import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,6 +18,10 @@ public class UserPostDto {
     @ApiModel(value = "유저 스크랩 DTO")
     public static class Response {
 
+        // 다음 페이지 커서 (스크랩/좋아요/게시글 ID)
+        @JsonIgnore
+        private Long cursor;
+
         @ApiModelProperty(value = "게시글 제목", example = "샘플 포스트")
         private String title;
 
@@ -33,9 +39,11 @@ public class UserPostDto {
 
         public static Response fromEntity(Post post) {
             return Response.builder()
+                    .cursor(post.getId())
                     .author(post.getUser().getNickname())
                     .profileImage(post.getUser().getProfileImage())
-                    .postUri(post.getType() + "/" + post.getId())
+                    .type(post.getType())
+                    .postId(post.getId())
                     .createdAt(post.getCreatedAt())
                     .title(post.getTitle())
                     .build();
@@ -45,12 +53,31 @@ public class UserPostDto {
 
         @QueryProjection
         @Builder
-        public Response(String title, LocalDateTime createdAt, String author, String profileImage, String postUri) {
+        public Response(Long cursor, String title, LocalDateTime createdAt, String author, String profileImage, String type, Long postId) {
+            this.cursor = cursor;
             this.title = title;
             this.createdAt = createdAt;
             this.author = author;
             this.profileImage = profileImage;
-            this.postUri = postUri;
+            this.postUri = type + "/" + postId;
         }
     }
+
+    @Getter
+    @AllArgsConstructor
+    @ApiModel(value = "유저 게시글 수 DTO")
+    public static class Counts {
+
+        // 많이 쓰는 유저도 목록 크기만큼만 읽도록 최대 LIMIT 까지만 센다
+        public static final long LIMIT = 1000;
+
+        @ApiModelProperty(value = "스크랩 수 (최대 1000)", example = "10")
+        private long scrapCount;
+
+        @ApiModelProperty(value = "좋아요 수 (최대 1000)", example = "10")
+        private long likeCount;
+
+        @ApiModelProperty(value = "작성한 게시글 수 (최대 1000)", example = "10")
+        private long postCount;
+    }
 }
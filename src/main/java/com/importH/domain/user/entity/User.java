@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.importH.domain.BaseTimeEntity;
 import com.importH.domain.tag.Tag;
 import com.importH.domain.user.dto.UserDto.Request;
-import com.importH.domain.user.token.RefreshToken;
 import lombok.*;
 
 import javax.persistence.*;
@@ -50,6 +49,8 @@ public class User extends BaseTimeEntity {
 
     private String personalUrl;
 
+    // 제공자:제공자 id (OauthAttributes)
+    @Column(unique = true)
     private String oauthId;
 
     private String commitUrl;
@@ -72,9 +73,6 @@ public class User extends BaseTimeEntity {
     @Builder.Default
     private Set<Tag> tags = new HashSet<>();
 
-    @OneToOne(fetch = FetchType.LAZY,orphanRemoval = true, cascade = CascadeType.ALL)
-    private RefreshToken refreshToken;
-
     public void setPassword(String encodePassword) {
         this.password = encodePassword;
     }
@@ -99,6 +97,7 @@ public class User extends BaseTimeEntity {
         password = "deleted" + getId();
         profileImage = "N";
         role = null;
+        oauthId = null;
         deletedTime = LocalDateTime.now();
     }
 
@@ -123,6 +122,10 @@ public class User extends BaseTimeEntity {
         return profileImage.substring(profileImage.indexOf("upload")+7);
     }
 
+    public void linkOauthId(String oauthId) {
+        this.oauthId = oauthId;
+    }
+
     public void setPathId(String pathId) {
         this.pathId = pathId;
     }
@@ -134,8 +137,4 @@ public class User extends BaseTimeEntity {
     public boolean isInfoByWeb() {
         return infoAgree.isInfoByWeb();
     }
-
-    public void setToken(RefreshToken token) {
-        this.refreshToken = token;
-    }
 }
@@ -1,7 +1,6 @@
 package com.importH.domain.user.repository;
 
 import com.importH.domain.user.entity.User;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,12 +11,6 @@ public interface UserRepository extends JpaRepository<User,Long> , UserCustomRep
 
     Optional<User> findByEmail(String email);
 
-    @EntityGraph(attributePaths = {"refreshToken"})
-    Optional<User> findWithTokenByEmail(String email);
-
-    @EntityGraph(attributePaths = {"refreshToken"})
-    Optional<User> findWithTokenById(Long id);
-
     Optional<User> findByNickname(String nickname);
 
     boolean existsByEmail(String email);
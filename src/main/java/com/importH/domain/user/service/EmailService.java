@@ -4,14 +4,18 @@ package com.importH.domain.user.service;
 import com.importH.domain.user.dto.EmailDto;
 import com.importH.domain.user.dto.EmailMessageDto;
 import com.importH.global.config.AppProperties;
-import com.importH.global.mail.EmailMessenger;
+import com.importH.global.mail.EmailOutbox;
+import com.importH.global.mail.EmailOutboxRepository;
+import com.importH.global.mail.EmailOutboxTrigger;
+import com.importH.global.mail.MailTemplateRenderer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import javax.validation.Valid;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @Validated
@@ -20,26 +24,31 @@ public class EmailService {
 
 
     private final AppProperties appProperties;
-    private final TemplateEngine templateEngine;
-    private final EmailMessenger emailMessenger;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxTrigger emailOutboxTrigger;
 
+    /**
+     * 이메일을 발송 대기함에 저장, 실제 발송은 커밋 후 EmailOutboxDispatcher 가 담당
+     */
+    @Transactional
     public void sendEmail(@Valid EmailDto emailDto) {
 
-        Context context = createContext(emailDto);
-        String message = createMessage(context);
+        String message = createMessage(createVariables(emailDto));
         EmailMessageDto emailMessageDto = getEmailMessage(message, emailDto.getEmail(), emailDto.getSubject());
 
-        emailMessenger.sendEmail(emailMessageDto);
+        emailOutboxRepository.save(EmailOutbox.create(emailMessageDto));
+        emailOutboxTrigger.dispatchAfterCommit();
     }
 
-    public Context createContext(EmailDto emailDto) {
-        Context context = new Context();
-        context.setVariable("link", emailDto.getLink());
-        context.setVariable("nickname", emailDto.getNickname());
-        context.setVariable("linkName", emailDto.getLinkName());
-        context.setVariable("message", emailDto.getMessage());
-        context.setVariable("host", appProperties.getHost());
-        return context;
+    public Map<String, Object> createVariables(EmailDto emailDto) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("link", emailDto.getLink());
+        variables.put("nickname", emailDto.getNickname());
+        variables.put("linkName", emailDto.getLinkName());
+        variables.put("message", emailDto.getMessage());
+        variables.put("host", appProperties.getHost());
+        return variables;
     }
 
     private EmailMessageDto getEmailMessage(String message, String email, String subject) {
@@ -50,7 +59,7 @@ public class EmailService {
                 .build();
     }
 
-    public String createMessage(Context context) {
-        return templateEngine.process("mail/simple-link", context);
+    public String createMessage(Map<String, Object> variables) {
+        return mailTemplateRenderer.render("mail/simple-link", variables);
     }
 }
@@ -3,15 +3,22 @@ package com.importH.domain.user.service;
 import com.importH.domain.user.entity.User;
 import com.importH.domain.user.repository.UserRepository;
 import com.importH.domain.user.social.*;
+import com.importH.domain.user.token.RefreshToken;
+import com.importH.domain.user.token.RefreshTokenRepository;
 import com.importH.domain.user.token.TokenDto;
 import com.importH.global.error.exception.SocialException;
 import com.importH.global.security.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Optional;
 
+import static com.importH.global.error.code.SocialErrorCode.NOT_VALID_ACCESS;
 import static com.importH.global.error.code.SocialErrorCode.SOCIAL_LOGIN_FAILED;
 
 
@@ -22,34 +29,85 @@ public class OauthService {
 
     private final OauthProviderRepository oauthProviderRepository;
     private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     private final JwtProvider jwtProvider;
 
     private final OauthAdapter oauthAdapter;
 
-    @Transactional
-    public TokenDto socialLogin(String providerName, String code) {
+    private final TransactionTemplate transactionTemplate;
+
+    private final SocialLoginCache socialLoginCache;
+
+    /**
+     * 요청 스레드를 막지 않는 소셜 로그인 : 토큰 교환과 사용자 정보 조회를 하나의 체인으로 실행하고,
+     * 블로킹인 JPA 작업만 boundedElastic 스케줄러에서 처리
+     * 제공자 API 를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션은 계정 저장, 토큰 발급 구간에서만 연다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<TokenDto> socialLogin(String providerName, String code) {
+        return fetchProfile(providerName, code)
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::login);
+    }
+
+    private Mono<SocialProfile> fetchProfile(String providerName, String code) {
         OauthProvider provider = oauthProviderRepository.findByProviderName(providerName);
+        if (provider == null) {
+            return Mono.error(new SocialException(NOT_VALID_ACCESS));
+        }
 
-        OauthTokenResponse tokenResponse = oauthAdapter.getToken(code, provider);
+        return oauthAdapter.getToken(code, provider)
+                .flatMap(tokenResponse -> oauthAdapter.getUserProfile(providerName, tokenResponse, provider))
+                .switchIfEmpty(Mono.error(() -> new SocialException(NOT_VALID_ACCESS)));
+    }
 
-        SocialProfile socialProfile = oauthAdapter.getUserProfile(providerName, tokenResponse, provider);
+    /**
+     * 최근에 로그인한 사용자는 회원 조회 없이 캐시된 정보로 토큰 발급
+     */
+    private TokenDto login(SocialProfile socialProfile) {
+        SocialLoginCache.Entry cached = socialLoginCache.get(socialProfile.getOauthId());
+        if (cached != null) {
+            return saveRefreshToken(cached.getUserId(),
+                    jwtProvider.createToken(cached.getUserId(), cached.getRole(), cached.getPathId()));
+        }
 
-        User user = saveOrUpdate(socialProfile);
+        User user = transactionTemplate.execute(status -> saveOrUpdate(socialProfile));
+        socialLoginCache.put(socialProfile.getOauthId(), user);
 
-        TokenDto token = jwtProvider.createToken(user);
+        return saveRefreshToken(user.getId(), jwtProvider.createToken(user));
+    }
 
-        return token;
+    /**
+     * 이메일 로그인과 같이 기기마다 리프레시 토큰 저장 (회원은 조회하지 않고 참조로 연결)
+     */
+    private TokenDto saveRefreshToken(Long userId, TokenDto tokenDto) {
+        transactionTemplate.execute(status -> refreshTokenRepository.save(RefreshToken.create(
+                userRepository.getById(userId), tokenDto.getRefreshToken(), jwtProvider.getRefreshTokenExpiresAt())));
+        return tokenDto;
     }
 
+    /**
+     * oauthId 로 먼저 찾고, 없으면 같은 이메일로 가입된 계정으로 로그인
+     * 이메일로 찾은 계정에 연결된 소셜 계정이 없으면 oauthId 를 저장해 다음 로그인부터는 oauthId 로 바로 찾는다
+     */
     private User saveOrUpdate(SocialProfile socialProfile) {
 
-        Optional<User> user = userRepository.findByEmail(socialProfile.getEmail());
+        Optional<User> user = userRepository.findByOauthId(socialProfile.getOauthId());
 
         if (user.isPresent()) {
             return user.get();
         }
 
+        user = userRepository.findByEmail(socialProfile.getEmail());
+
+        if (user.isPresent()) {
+            if (!isLinked(user.get())) {
+                user.get().linkOauthId(socialProfile.getOauthId());
+            }
+            return user.get();
+        }
+
         User member = user.orElseGet(() -> {
             validateProfile(socialProfile);
             return userRepository.save(socialProfile.toUser());
@@ -57,6 +115,13 @@ public class OauthService {
         return member;
     }
 
+    /**
+     * 제공자 이름 없이 저장된 이전 oauthId 는 연결되지 않은 것으로 보고 새 값으로 바꾼다
+     */
+    private boolean isLinked(User user) {
+        return user.getOauthId() != null && user.getOauthId().contains(":");
+    }
+
     private void validateProfile(SocialProfile socialProfile) {
         if (socialProfile.getEmail() == null || socialProfile.getName() == null) {
             throw new SocialException(SOCIAL_LOGIN_FAILED);
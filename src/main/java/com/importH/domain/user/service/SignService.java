@@ -36,6 +36,7 @@ public class SignService {
     private final JwtProvider jwtProvider;
     private final RefreshTokenRepository tokenRepository;
     private final EmailService emailService;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostConstruct
     public void init() {
@@ -118,31 +119,23 @@ public class SignService {
     }
 
 
-    /** 로그인 */
+    /**
+     * 로그인 : 기기마다 리프레시 토큰을 따로 저장
+     * 로그인 시도 제한(LoginThrottle)은 트랜잭션 밖인 컨트롤러에서 먼저 확인한다.
+     */
     @Transactional
     public TokenDto login(String email, String password) {
-        User user = findUserWithTokenByEmail(email, EMAIL_LOGIN_FAILED);
+        User user = findUserByEmail(email, EMAIL_LOGIN_FAILED);
         validatePassword(password, user);
 
         TokenDto tokenDto = createToken(user);
-        RefreshToken refreshToken = user.getRefreshToken();
-
-        saveRefreshToken(user, tokenDto, refreshToken);
+        saveRefreshToken(RefreshToken.create(user, tokenDto.getRefreshToken(), jwtProvider.getRefreshTokenExpiresAt()));
 
         return tokenDto;
     }
 
-    private void saveRefreshToken(User user, TokenDto tokenDto, RefreshToken refreshToken) {
-        if (refreshToken == null) {
-            RefreshToken newRefreshToken = RefreshToken.create(user, tokenDto.getRefreshToken());
-            saveRefreshToken(newRefreshToken);
-        } else {
-            refreshToken.updateToken(tokenDto.getRefreshToken());
-        }
-    }
-
-    private void saveRefreshToken(RefreshToken newRefreshToken) {
-        tokenRepository.save(newRefreshToken);
+    private void saveRefreshToken(RefreshToken refreshToken) {
+        tokenRepository.save(refreshToken);
     }
 
     private TokenDto createToken(User user) {
@@ -160,57 +153,65 @@ public class SignService {
         return passwordEncoder.matches(password, accountPassword);
     }
 
-    private User findUserWithTokenByEmail(String email, UserErrorCode errorCode) {
-        return userRepository.findWithTokenByEmail(email).orElseThrow(() -> new UserException(errorCode));
-    }
-
     private User findUserByEmail(String email, UserErrorCode errorCode) {
         return userRepository.findByEmail(email).orElseThrow(() -> new UserException(errorCode));
     }
 
-    private User findUserById(Long userId) {
-        return userRepository.findWithTokenById(userId).orElseThrow(() -> new UserException(NOT_FOUND_USERID));
-    }
-
-    /** 토큰 재발급 */
-    @Transactional
+    /**
+     * 토큰 재발급
+     * 해시로 토큰을 찾아 조건부 update 로 한 번만 사용 처리하고, 같은 family 로 새 토큰을 저장한다.
+     * 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다. (예외가 나도 폐기는 커밋)
+     */
+    @Transactional(noRollbackFor = SecurityException.class)
     public TokenDto reissue(TokenDto tokenRequestDto) {
 
-        Claims claims = jwtProvider.parseClaims(tokenRequestDto.getRefreshToken());
-        Long userId = Long.valueOf(claims.getSubject());
-
-        User user = findUserById(userId);
+        String requestRefreshToken = tokenRequestDto.getRefreshToken();
+        RefreshToken refreshToken = findValidRefreshToken(requestRefreshToken);
 
-        RefreshToken refreshToken = getValidateRefreshToken(user, tokenRequestDto.getRefreshToken());
+        if (tokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            tokenRepository.revokeFamily(refreshToken.getFamilyId());
+            log.warn("[SignService] 재사용된 리프레시 토큰 userId={}, family={}", refreshToken.getUser().getId(), refreshToken.getFamilyId());
+            throw new SecurityException(SecurityErrorCode.REFRESH_TOKEN_REUSED);
+        }
 
-        TokenDto newToken = createToken(user);
-        refreshToken.updateToken(newToken.getRefreshToken());
+        TokenDto newToken = createToken(refreshToken.getUser());
+        saveRefreshToken(refreshToken.rotate(newToken.getRefreshToken(), jwtProvider.getRefreshTokenExpiresAt()));
 
         return newToken;
     }
 
-
-    private RefreshToken getValidateRefreshToken(User user, String requestRefreshToken) {
-        RefreshToken refreshToken = user.getRefreshToken();
-        validateRefreshToken(refreshToken, requestRefreshToken);
-        return refreshToken;
-    }
-
-    private void validateRefreshToken(RefreshToken refreshToken, String requestRefreshToken) {
-        if (refreshToken == null ||
-            !isValidationRefreshToken(requestRefreshToken) ||
-            !isEqualsRefreshToken(refreshToken, requestRefreshToken)) {
-
+    private RefreshToken findValidRefreshToken(String requestRefreshToken) {
+        if (requestRefreshToken == null || !isValidationRefreshToken(requestRefreshToken)) {
             throw new SecurityException(SecurityErrorCode.REFRESH_TOKEN_VALID);
         }
+        return tokenRepository.findWithUserByTokenHash(RefreshToken.hash(requestRefreshToken))
+                .orElseThrow(() -> new SecurityException(SecurityErrorCode.REFRESH_TOKEN_VALID));
     }
 
     private boolean isValidationRefreshToken(String refreshToken) {
         return jwtProvider.validationToken(refreshToken);
     }
 
-    private boolean isEqualsRefreshToken(RefreshToken refreshToken, String requestRefreshToken) {
-        return refreshToken.getToken().equals(requestRefreshToken);
+    /**
+     * 로그아웃 : 현재 액세스 토큰과 (함께 보낸 경우) 이 기기의 리프레시 토큰 폐기
+     */
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        Claims claims = jwtProvider.parseClaims(accessToken);
+        tokenRevocationService.revoke(claims);
+
+        if (refreshToken != null) {
+            tokenRepository.revokeByTokenHash(RefreshToken.hash(refreshToken), Long.valueOf(claims.getSubject()));
+        }
+    }
+
+    /**
+     * 모든 기기 로그아웃 : 지금까지 발급된 액세스 토큰과 리프레시 토큰 모두 폐기
+     */
+    @Transactional
+    public void logoutAll(Long userId) {
+        tokenRevocationService.revokeAll(userId);
+        tokenRepository.revokeAllByUserId(userId);
     }
 
     /**
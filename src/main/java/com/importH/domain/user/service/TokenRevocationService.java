@@ -0,0 +1,79 @@
+package com.importH.domain.user.service;
+
+import com.importH.domain.user.token.RevokedToken;
+import com.importH.domain.user.token.RevokedTokenRepository;
+import com.importH.domain.user.token.TokenWatermark;
+import com.importH.domain.user.token.TokenWatermarkRepository;
+import com.importH.global.security.revocation.RevocationBroadcaster;
+import com.importH.global.security.revocation.RevocationMessage;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 액세스 토큰 폐기 : 저장소에 먼저 기록하고, 커밋 후 모든 인스턴스에 전파
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenWatermarkRepository tokenWatermarkRepository;
+    private final RevocationBroadcaster broadcaster;
+
+    /**
+     * 토큰 하나 폐기 (로그아웃)
+     * jti 가 없는 이전 형식의 토큰은 revokeAll 로만 폐기할 수 있다
+     */
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return;
+        }
+
+        Long userId = Long.valueOf(claims.getSubject());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()))
+                .build());
+
+        publishAfterCommit(RevocationMessage.token(jti, userId));
+    }
+
+    /**
+     * 지금까지 발급된 회원의 토큰 모두 폐기 (모든 기기 로그아웃, 탈퇴)
+     * 기준 시각은 초 단위라서 같은 초에 새로 발급된 토큰은 유효하다
+     */
+    public void revokeAll(Long userId) {
+        long issuedBefore = Instant.now().getEpochSecond();
+
+        tokenWatermarkRepository.findById(userId)
+                .orElseGet(() -> tokenWatermarkRepository.save(new TokenWatermark(userId, issuedBefore)))
+                .raise(issuedBefore);
+
+        publishAfterCommit(RevocationMessage.watermark(userId, issuedBefore));
+    }
+
+    private void publishAfterCommit(RevocationMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcaster.publish(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcaster.publish(message);
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.importH.domain.user.service;
 
 import com.importH.domain.image.FileService;
+import com.importH.domain.post.service.BoardVersion;
 import com.importH.domain.post.service.PostLikeService;
 import com.importH.domain.post.service.PostService;
 import com.importH.domain.user.dto.UserPostDto;
@@ -12,6 +13,8 @@ import com.importH.domain.user.dto.UserDto.Response;
 import com.importH.domain.user.dto.UserDto.Response_findAllUsers;
 import com.importH.domain.user.entity.User;
 import com.importH.domain.user.repository.UserRepository;
+import com.importH.domain.user.social.SocialLoginCache;
+import com.importH.domain.user.token.RefreshTokenRepository;
 import com.importH.global.error.code.SecurityErrorCode;
 import com.importH.global.error.exception.SecurityException;
 import com.importH.global.error.exception.UserException;
@@ -43,6 +46,14 @@ public class UserService {
 
     private final FileService fileService;
 
+    private final SocialLoginCache socialLoginCache;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private final BoardVersion boardVersion;
+
     /**
      * 유저 프로필 정보 조회
      */
@@ -77,6 +88,8 @@ public class UserService {
         User findUser = getValidatedUser(userId, user);
         duplicatedNickname(request.getNickname(), findUser.getNickname());
         findUser.update(request);
+        // 목록에 작성자 닉네임, 프로필 이미지가 포함됨
+        boardVersion.bump();
         return Response.fromEntity(findUser);
     }
 
@@ -114,6 +127,10 @@ public class UserService {
 //        deleteProfileImage(user);
 
         findUser.delete();
+        refreshTokenRepository.revokeAllByUserId(findUser.getId());
+        tokenRevocationService.revokeAll(findUser.getId());
+        socialLoginCache.evictAfterCommit(findUser.getId());
+        boardVersion.bump();
     }
 
     private void deleteProfileImage(User user) {
@@ -143,6 +160,7 @@ public class UserService {
             throw new UserException(USER_PATH_ID_DUPLICATED);
         }
         user.setPathId(socialDto.getPathId());
+        socialLoginCache.evictAfterCommit(user.getId());
     }
 
 
@@ -161,32 +179,43 @@ public class UserService {
     /**
      * 유저 스크랩 가져오기
      */
-    public List<UserPostDto.Response> findAllScrap(Long userId, User loginUser, Pageable pageable) {
-
-       isAuthorization(loginUser, userId);
+    public Slice<UserPostDto.Response> findAllScrap(Long userId, User loginUser, Long lastId, Pageable pageable) {
 
+        isAuthorization(loginUser, userId);
 
-        return postScrapService.findAllScrap(loginUser,pageable);
+        return postScrapService.findAllScrap(loginUser, lastId, pageable);
     }
 
     /**
      * 유저 좋아요 한 게시글 가져오기
      */
-    public List<UserPostDto.Response> findAllPostByLike(Long userId, User loginUser, Pageable pageable) {
+    public Slice<UserPostDto.Response> findAllPostByLike(Long userId, User loginUser, Long lastId, Pageable pageable) {
 
         isAuthorization(loginUser, userId);
 
-
-        return postLikeService.findAllPostLike(loginUser,pageable);
+        return postLikeService.findAllPostLike(loginUser, lastId, pageable);
     }
 
     /**
      * 유저 작성 한 게시글 가져오기
      */
-    public List<UserPostDto.Response> findAllWrotePost(Long userId, User loginUser, Pageable pageable) {
+    public Slice<UserPostDto.Response> findAllWrotePost(Long userId, User loginUser, Long lastId, Pageable pageable) {
+
+        isAuthorization(loginUser, userId);
+
+        return postService.findAllPostByWrote(loginUser, lastId, pageable);
+    }
+
+    /**
+     * 유저 스크랩/좋아요/작성한 게시글 수 (최대 Counts.LIMIT 까지)
+     */
+    public UserPostDto.Counts countUserPosts(Long userId, User loginUser) {
 
         isAuthorization(loginUser, userId);
 
-        return postService.findAllPostByWrote(loginUser,pageable);
+        return new UserPostDto.Counts(
+                postScrapService.countScrap(loginUser, UserPostDto.Counts.LIMIT),
+                postLikeService.countPostLike(loginUser, UserPostDto.Counts.LIMIT),
+                postService.countPostByWrote(loginUser, UserPostDto.Counts.LIMIT));
     }
 }
@@ -1,6 +1,7 @@
 package com.importH.domain.user.social;
 
 import com.importH.global.config.OauthProperties;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -15,8 +16,8 @@ public interface OauthAdapter {
         return oauthProvider;
     }
 
-    OauthTokenResponse getToken(String code, OauthProvider provider);
+    Mono<OauthTokenResponse> getToken(String code, OauthProvider provider);
 
-    SocialProfile getUserProfile(String providerName, OauthTokenResponse tokenResponse, OauthProvider provider);
+    Mono<SocialProfile> getUserProfile(String providerName, OauthTokenResponse tokenResponse, OauthProvider provider);
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.importH.domain.user.social;
 
+import com.importH.global.config.OauthProperties;
 import com.importH.global.error.code.SocialErrorCode;
 import com.importH.global.error.exception.SocialException;
 import lombok.extern.slf4j.Slf4j;
@@ -9,20 +10,36 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
 @Slf4j
 @Component
 public class OauthAdapterImpl implements OauthAdapter {
 
+    private final WebClient webClient;
+    private final OauthProperties.Http http;
+
+    public OauthAdapterImpl(WebClient oauthWebClient, OauthProperties properties) {
+        this.webClient = oauthWebClient;
+        this.http = properties.getHttp();
+    }
+
+    /**
+     * 인가 코드는 한번만 쓸 수 있으므로 요청이 전달되지 않은 연결 실패만 재시도
+     */
     @Override
-    public OauthTokenResponse getToken(String code, OauthProvider provider) {
-        return WebClient.create()
+    public Mono<OauthTokenResponse> getToken(String code, OauthProvider provider) {
+        return webClient
                 .post()
                 .uri(provider.getTokenUrl())
                 .headers(header -> {
@@ -34,8 +51,10 @@ public class OauthAdapterImpl implements OauthAdapter {
                 .bodyValue(tokenRequest(code, provider))
                 .retrieve()
                 .bodyToMono(OauthTokenResponse.class)
-                .block();
+                .retryWhen(retry(OauthAdapterImpl::isConnectFailure))
+                .onErrorMap(e -> toSocialException("token", e));
     }
+
     private MultiValueMap<String, String> tokenRequest(String code, OauthProvider provider) {
         MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
         formData.add("code", code);
@@ -44,29 +63,53 @@ public class OauthAdapterImpl implements OauthAdapter {
         return formData;
     }
 
+    /**
+     * 조회 요청이므로 연결 실패, 타임아웃, 5xx 응답 모두 재시도
+     */
+    private Mono<Map<String, Object>> getUserAttributes(OauthProvider provider, OauthTokenResponse tokenResponse) {
+        return webClient
+                .get()
+                .uri(provider.getUserInfoUrl())
+                .headers(header -> header.setBearerAuth(tokenResponse.getAccessToken()))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                })
+                .retryWhen(retry(e -> e instanceof WebClientRequestException || isServerError(e)))
+                .onErrorMap(e -> toSocialException("userinfo", e));
+    }
 
-    private Map<String, Object> getUserAttributes(OauthProvider provider, OauthTokenResponse tokenResponse) {
+    @Override
+    public Mono<SocialProfile> getUserProfile(String providerName, OauthTokenResponse tokenResponse, OauthProvider provider) {
+        return getUserAttributes(provider, tokenResponse)
+                .map(userAttributes -> OauthAttributes.extract(providerName, userAttributes));
+    }
 
-        Map<String, Object> userAttributes = new LinkedHashMap<>();
-        try {
-            userAttributes = WebClient.create()
-                    .get()
-                    .uri(provider.getUserInfoUrl())
-                    .headers(header -> header.setBearerAuth(tokenResponse.getAccessToken()))
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                    })
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("[SocialLogin Error] : {}" , e.getResponseBodyAsString());
-            throw new SocialException(SocialErrorCode.NOT_VALID_ACCESS);
-        }
-        return userAttributes;
+    private Retry retry(Predicate<Throwable> retryable) {
+        return Retry.backoff(http.getMaxRetries(), Duration.ofMillis(http.getRetryBackoffMillis()))
+                .filter(retryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private static boolean isConnectFailure(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() instanceof ConnectException;
     }
-    @Override
-    public SocialProfile getUserProfile(String providerName, OauthTokenResponse tokenResponse, OauthProvider provider) {
-        Map<String, Object> userAttributes = getUserAttributes(provider, tokenResponse);
 
-        return OauthAttributes.extract(providerName, userAttributes);
+    private static boolean isServerError(Throwable e) {
+        return e instanceof WebClientResponseException && ((WebClientResponseException) e).getStatusCode().is5xxServerError();
+    }
+
+    /**
+     * 4xx 는 잘못된 코드, 토큰 / 그 외 (5xx, 타임아웃, 연결 실패) 는 제공자 장애
+     */
+    private static Throwable toSocialException(String step, Throwable e) {
+        if (e instanceof SocialException) {
+            return e;
+        }
+        if (e instanceof WebClientResponseException && ((WebClientResponseException) e).getStatusCode().is4xxClientError()) {
+            log.error("[SocialLogin Error] {} : {}", step, ((WebClientResponseException) e).getResponseBodyAsString());
+            return new SocialException(SocialErrorCode.NOT_VALID_ACCESS);
+        }
+        log.error("[SocialLogin Error] {} : {}", step, e.toString());
+        return new SocialException(SocialErrorCode.PROVIDER_UNAVAILABLE);
     }
 }
@@ -9,7 +9,7 @@ public enum OauthAttributes {
         @Override
         public SocialProfile of(Map<String, Object> attributes) {
             return SocialProfile.builder()
-                    .oauthId(String.valueOf(attributes.get("id")))
+                    .oauthId(oauthId(attributes.get("id")))
                     .email((String) attributes.get("email"))
                     .login((String) attributes.get("login"))
                     .name((String) attributes.get("name"))
@@ -21,7 +21,7 @@ public enum OauthAttributes {
         @Override
         public SocialProfile of(Map<String, Object> attributes) {
             return SocialProfile.builder()
-                    .oauthId(String.valueOf(attributes.get("sub")))
+                    .oauthId(oauthId(attributes.get("sub")))
                     .email((String) attributes.get("email"))
                     .name((String) attributes.get("name"))
                     .imageUrl((String) attributes.get("picture"))
@@ -44,4 +44,11 @@ public enum OauthAttributes {
     }
 
     public abstract SocialProfile of(Map<String, Object> attributes);
+
+    /**
+     * 제공자마다 id 가 따로 매겨지므로 (github id, google sub) 제공자 이름을 붙여 저장, 조회한다 ex) github:100
+     */
+    protected String oauthId(Object id) {
+        return providerName + ":" + id;
+    }
 }
\ No newline at end of file
@@ -1,16 +1,22 @@
 package com.importH.domain.user.social;
 
-import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 제공자 설정은 변경이 드물어 불변 Map 으로 보관하고, 설정이 바뀌면 refresh 로 통째로 교체한다
+ */
 public class OauthProviderRepository {
-    private final Map<String, OauthProvider> providers;
+    private volatile Map<String, OauthProvider> providers;
 
     public OauthProviderRepository(Map<String, OauthProvider> providers) {
-        this.providers = new HashMap<>(providers);
+        this.providers = Map.copyOf(providers);
     }
 
     public OauthProvider findByProviderName(String name) {
-        return providers.get(name);
+        return name == null ? null : providers.get(name);
+    }
+
+    public void refresh(Map<String, OauthProvider> providers) {
+        this.providers = Map.copyOf(providers);
     }
 }
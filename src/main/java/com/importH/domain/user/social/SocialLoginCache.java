@@ -0,0 +1,112 @@
+package com.importH.domain.user.social;
+
+import com.importH.domain.user.entity.User;
+import com.importH.global.config.OauthProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 소셜 로그인한 사용자 (제공자:oauthId 기준) 의 토큰 발급 정보 캐시
+ * 토큰에 들어가는 값 (id, role, pathId) 만 보관하고, 값이 바뀌는 게시판 ID 생성, 탈퇴 시 비운다.
+ */
+@Component
+public class SocialLoginCache {
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public SocialLoginCache(OauthProperties properties) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(properties.getLoginCache().getTtlSeconds());
+        this.maxSize = properties.getLoginCache().getMaxSize();
+    }
+
+    public Entry get(String oauthId) {
+        return get(oauthId, System.currentTimeMillis());
+    }
+
+    Entry get(String oauthId, long now) {
+        if (oauthId == null) {
+            return null;
+        }
+        Entry entry = entries.get(oauthId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(oauthId, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(String oauthId, User user) {
+        put(oauthId, user, System.currentTimeMillis());
+    }
+
+    void put(String oauthId, User user, long now) {
+        if (oauthId == null || ttlMillis <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                return; // 가득 차면 만료될 때까지 캐시하지 않음
+            }
+        }
+        entries.put(oauthId, new Entry(user.getId(), user.getRole(), user.getPathId(), now + ttlMillis));
+    }
+
+    /**
+     * 커밋 전에 다른 로그인이 이전 값을 다시 넣을 수 있으므로 커밋 후에 한번 더 비운다
+     */
+    public void evictAfterCommit(Long userId) {
+        evict(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    void evict(Long userId) {
+        entries.values().removeIf(entry -> entry.userId.equals(userId));
+    }
+
+    public static class Entry {
+
+        private final Long userId;
+        private final String role;
+        private final String pathId;
+        private final long expiresAt;
+
+        private Entry(Long userId, String role, String pathId, long expiresAt) {
+            this.userId = userId;
+            this.role = role;
+            this.pathId = pathId;
+            this.expiresAt = expiresAt;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public String getPathId() {
+            return pathId;
+        }
+    }
+}
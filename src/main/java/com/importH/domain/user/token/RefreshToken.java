@@ -5,39 +5,82 @@ import com.importH.domain.user.entity.User;
 import lombok.*;
 
 import javax.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
+/**
+ * 발급한 리프레시 토큰 (기기마다 한 행)
+ * 토큰 원문 대신 SHA-256 해시만 저장하고, 해시 컬럼의 유니크 인덱스로 조회한다.
+ * 재발급할 때마다 새 행을 같은 familyId 로 만들고 이전 행은 revoked 처리한다.
+ */
 @Entity
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@Table(indexes = @Index(name = "idx_refresh_token_family", columnList = "familyId"))
 public class RefreshToken extends BaseTimeEntity {
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
     @Id
     @GeneratedValue
     @Column(name = "refresh_token_id")
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY, mappedBy = "refreshToken")
-    @JoinColumn(name = "user_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Lob
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // 로그인 한 번에서 이어진 재발급 토큰들을 묶는 값
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    private boolean revoked;
+
     @Column(nullable = false)
-    private String token;
+    private LocalDateTime expiresAt;
 
-    public static RefreshToken create(User user, String refreshToken) {
-        RefreshToken token = RefreshToken.builder()
+    /**
+     * 새 로그인 (새 기기)
+     */
+    public static RefreshToken create(User user, String refreshToken, LocalDateTime expiresAt) {
+        return of(user, refreshToken, UUID.randomUUID().toString(), expiresAt);
+    }
+
+    /**
+     * 재발급 : 이전 토큰과 같은 family 로 발급
+     */
+    public RefreshToken rotate(String refreshToken, LocalDateTime expiresAt) {
+        return of(user, refreshToken, familyId, expiresAt);
+    }
+
+    private static RefreshToken of(User user, String refreshToken, String familyId, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
                 .user(user)
-                .token(refreshToken)
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .expiresAt(expiresAt)
                 .build();
-        user.setToken(token);
-        return token;
     }
 
-    public RefreshToken updateToken(String token) {
-        this.token = token;
-        return this;
+    public static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-
 }
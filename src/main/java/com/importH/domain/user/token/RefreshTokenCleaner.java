@@ -0,0 +1,27 @@
+package com.importH.domain.user.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재발급할 때마다 행이 하나씩 늘어나므로 만료된 리프레시 토큰을 주기적으로 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleaner {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[RefreshTokenCleaner] 만료된 리프레시 토큰 {} 개 삭제", deleted);
+        }
+    }
+}
@@ -1,16 +1,49 @@
 package com.importH.domain.user.token;
 
-import com.importH.domain.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 
 @Transactional(readOnly = true)
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByUser(User user);
+    @EntityGraph(attributePaths = {"user"})
+    Optional<RefreshToken> findWithUserByTokenHash(String tokenHash);
 
-    boolean existsByToken(String refreshToken);
+    boolean existsByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰만 사용 처리 - 0 이면 이미 재발급에 사용된 토큰
+     */
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.id = :id and t.revoked = false")
+    int revokeIfActive(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.tokenHash = :tokenHash and t.user.id = :userId")
+    int revokeByTokenHash(@Param("tokenHash") String tokenHash, @Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.user.id = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,30 @@
+package com.importH.domain.user.token;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기한 액세스 토큰 (jti 기준)
+ * 메모리의 블룸 필터가 "폐기됐을 수 있다" 고 답할 때만 조회하는 원본 저장소
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+@Table(indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // 토큰 만료 시각 - 이후에는 서명 검증에서 걸러지므로 삭제해도 된다
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,26 @@
+package com.importH.domain.user.token;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 회원별 토큰 기준 시각 : 이 시각(초) 이전에 발급된 토큰은 모두 무효
+ * 모든 기기 로그아웃, 회원 탈퇴시 갱신한다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenWatermark {
+
+    @Id
+    private Long userId;
+
+    private long issuedBefore;
+
+    public void raise(long issuedBefore) {
+        this.issuedBefore = Math.max(this.issuedBefore, issuedBefore);
+    }
+}
@@ -0,0 +1,8 @@
+package com.importH.domain.user.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface TokenWatermarkRepository extends JpaRepository<TokenWatermark, Long> {
+}
@@ -1,29 +1,45 @@
 package com.importH.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import javax.annotation.PreDestroy;
 import java.util.concurrent.Executor;
 
+/**
+ * 이름을 지정하지 않은 @Async 작업용 풀
+ * 메일, 알림, 이미지 작업은 ExecutorConfig 의 전용 풀을 사용한다.
+ */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final MeterRegistry meterRegistry;
+    private final ExecutorProperties executorProperties;
+
+    private ThreadPoolTaskExecutor poolExecutor;
+
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        poolExecutor = NamedExecutors.create("async", executorProperties.getAsync(), meterRegistry);
+        poolExecutor.initialize();
+        return poolExecutor;
+    }
 
-        int processors = Runtime.getRuntime().availableProcessors(); // CPU 논리적 코어 갯수 얻기
-        executor.setCorePoolSize(processors); // 최적화 상태의 스레드 갯수
-        executor.setMaxPoolSize(processors * 2); // 큐 사이즈가 꽉 찼을시 생성할 최대 스레드 갯수
-        executor.setQueueCapacity(10); // 최대 큐 사이즈 크기
-        executor.setKeepAliveSeconds(60); // 큐가 꽉 찬후 만들어진 스레드 최대 동작 시간
-        executor.setThreadNamePrefix("Executor - "); // 스레드 이름 지정
-        executor.initialize();
-        return executor;
+    /**
+     * 빈으로 등록되지 않은 실행기이므로 직접 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (poolExecutor != null) {
+            poolExecutor.shutdown();
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("digest")
+public class DigestProperties {
+
+    // 한번에 읽어올 수신자 수
+    private int chunkSize = 500;
+
+    // 메일에 담을 인기 게시글 수
+    private int topPostCount = 5;
+
+    // 한번에 발송할 메일 수
+    private int sendBatchSize = 50;
+
+    // 초당 최대 발송 메일 수
+    private double permitsPerSecond = 20;
+
+    // 발송 작업을 맡은 노드가 청크마다 연장하는 점유 시간, 노드가 죽으면 이 시간이 지난 뒤 다른 노드가 이어서 발송
+    private long leaseSeconds = 600;
+}
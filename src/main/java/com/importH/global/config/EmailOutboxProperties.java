@@ -0,0 +1,27 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("mail.outbox")
+public class EmailOutboxProperties {
+
+    // 한번에 발송할 최대 이메일 수 (하나의 SMTP 연결로 발송)
+    private int batchSize = 50;
+
+    // 선점 후 결과를 기록하지 못하면 (노드 장애 등) 다른 노드가 다시 선점하기까지의 시간
+    private long claimTimeoutSeconds = 5 * 60;
+
+    // 최대 발송 시도 횟수
+    private int maxAttempts = 5;
+
+    // 재시도 대기 시간 (시도마다 2배씩 증가)
+    private long initialBackoffSeconds = 30;
+
+    private long maxBackoffSeconds = 60 * 60;
+}
@@ -0,0 +1,78 @@
+package com.importH.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+
+/**
+ * 작업 종류별 스레드 풀
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorConfig {
+
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+    public static final String DIGEST_RENDER_EXECUTOR = "digestRenderExecutor";
+
+    private final ExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        return NamedExecutors.create("mail", properties.getMail(), meterRegistry);
+    }
+
+    @Bean(NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return NamedExecutors.create("notification", properties.getNotification(), meterRegistry);
+    }
+
+    @Bean(IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor() {
+        return NamedExecutors.create("image", properties.getImage(), meterRegistry);
+    }
+
+    @Bean(DIGEST_RENDER_EXECUTOR)
+    public ThreadPoolTaskExecutor digestRenderExecutor() {
+        return NamedExecutors.create("digest-render", properties.getDigestRender(), meterRegistry);
+    }
+
+    /**
+     * 웹 서버가 요청 처리를 마친 뒤, DB 커넥션 풀 등 다른 빈이 정리되기 전에 풀마다 남은 작업을 처리하고 종료
+     */
+    @Bean
+    public SmartLifecycle executorDrain(List<ThreadPoolTaskExecutor> executors) {
+        return new SmartLifecycle() {
+            private volatile boolean running;
+
+            @Override
+            public void start() {
+                running = true;
+            }
+
+            @Override
+            public void stop() {
+                executors.forEach(ThreadPoolTaskExecutor::shutdown);
+                running = false;
+            }
+
+            @Override
+            public boolean isRunning() {
+                return running;
+            }
+
+            // 웹 서버 (Integer.MAX_VALUE - 1) 보다 나중에 종료
+            @Override
+            public int getPhase() {
+                return Integer.MAX_VALUE - 2;
+            }
+        };
+    }
+}
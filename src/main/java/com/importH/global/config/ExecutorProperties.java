@@ -0,0 +1,69 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종류별 스레드 풀 설정 (한 작업이 몰려도 다른 작업의 풀은 영향받지 않도록 분리)
+ */
+@Component
+@Getter
+@ConfigurationProperties("executor")
+public class ExecutorProperties {
+
+    // 이메일 발송 대기함 발송, 발송이 겹치지 않도록 스레드 하나
+    private final Pool mail = new Pool(1, 1, 1, SaturationPolicy.PERSIST_FOR_RETRY);
+
+    // 주간 다이제스트 발송 작업
+    private final Pool notification = new Pool(1, 1, 1, SaturationPolicy.DROP_OLDEST);
+
+    // 주간 다이제스트 메일 렌더링, 수신자 청크를 maxPoolSize 개로 나눠 렌더링
+    private final Pool digestRender = new Pool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 10, SaturationPolicy.CALLER_RUNS);
+
+    // 게시글 삭제 후 이미지 파일 정리
+    private final Pool image = new Pool(1, 2, 500, SaturationPolicy.CALLER_RUNS);
+
+    // 그 외 @Async
+    private final Pool async = new Pool(Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors() * 2, 100, SaturationPolicy.CALLER_RUNS);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+        private int keepAliveSeconds = 60;
+        private SaturationPolicy saturation;
+
+        // 종료 시 남은 작업을 기다리는 최대 시간
+        private int awaitTerminationSeconds = 30;
+
+        public Pool() {
+        }
+
+        Pool(int corePoolSize, int maxPoolSize, int queueCapacity, SaturationPolicy saturation) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+            this.saturation = saturation;
+        }
+    }
+
+    /**
+     * 풀과 큐가 가득 찼을 때 처리 방식
+     */
+    public enum SaturationPolicy {
+        // 제출한 스레드에서 직접 실행 (제출 속도를 늦춤)
+        CALLER_RUNS,
+        // 가장 오래 기다린 작업을 버리고 새 작업을 넣음
+        DROP_OLDEST,
+        // 버림, 작업 내용이 이미 저장되어 있어 주기적인 재시도가 처리하는 경우
+        PERSIST_FOR_RETRY,
+        // 예외 (TaskRejectedException)
+        ABORT
+    }
+}
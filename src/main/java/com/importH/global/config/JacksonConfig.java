@@ -0,0 +1,19 @@
+package com.importH.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 리플렉션 대신 LambdaMetafactory 로 getter 를 호출해 목록 응답 직렬화 비용을 줄인다
+     * Module 빈은 스프링 부트가 ObjectMapper 에 자동 등록
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
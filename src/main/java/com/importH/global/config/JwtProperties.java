@@ -0,0 +1,39 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("jwt")
+public class JwtProperties {
+
+    // HS256 서명 키 (UTF-8 32바이트 이상). ES256 으로 바꾼 뒤에도 남겨두면 이전 토큰을 만료될 때까지 검증한다
+    private String secret;
+
+    // 서명 알고리즘 : HS256 (secret) 또는 ES256 (keys 의 activeKid)
+    private String algorithm = "HS256";
+
+    // ES256 으로 서명할 때 사용할 키 ID (토큰 헤더의 kid)
+    private String activeKid;
+
+    // ES256 키 목록 (kid -> 키). 교체시 새 키 추가 후 activeKid 변경, 이전 키는 발급한 토큰이 모두 만료된 뒤 삭제
+    private Map<String, EcKey> keys = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class EcKey {
+
+        // PKCS#8 개인키 (PEM 또는 base64). 검증에만 쓰는 이전 키는 비워둔다
+        private String privateKey;
+
+        // X.509 공개키 (PEM 또는 base64)
+        private String publicKey;
+    }
+}
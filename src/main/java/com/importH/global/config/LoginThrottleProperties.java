@@ -0,0 +1,32 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    // 슬라이딩 윈도우 길이
+    private long windowSeconds = 60;
+
+    // 윈도우당 이메일 하나에 허용하는 실패(진행 중 포함) 횟수
+    private int maxAttemptsPerEmail = 10;
+
+    // 윈도우당 IP 하나에 허용하는 시도 횟수 (성공 포함)
+    // IP 는 request.getRemoteAddr() 기준 - 프록시 뒤에서는 server.forward-headers-strategy=native 로
+    // 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가 넘긴 X-Forwarded-For 만 반영해야 한다.
+    private int maxAttemptsPerIp = 100;
+
+    // 키를 나눠 담는 맵 수
+    private int stripes = 16;
+
+    // 이메일, IP 각각 기억하는 최대 키 수 - 가득 차면 새 이메일은 세지 않고 허용, 새 IP 는 거절
+    private int maxKeys = 100_000;
+}
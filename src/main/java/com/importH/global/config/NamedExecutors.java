@@ -0,0 +1,111 @@
+package com.importH.global.config;
+
+import com.importH.global.config.ExecutorProperties.Pool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 이름 붙은 스레드 풀 생성
+ * executor.active / queued / pool.size (게이지), executor.rejected (카운터),
+ * executor.task.wait (큐 대기) / executor.task.run (실행) 타이머를 name 태그로 구분해 기록한다.
+ */
+@Slf4j
+public final class NamedExecutors {
+
+    private NamedExecutors() {
+    }
+
+    public static ThreadPoolTaskExecutor create(String name, Pool pool, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setBeanName(name);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+
+        // 종료 시 새 작업은 받지 않고 큐에 남은 작업까지 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(pool.getAwaitTerminationSeconds());
+
+        Tags tags = Tags.of("name", name);
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("풀과 큐가 가득 차 거절된 작업 수")
+                .tags(tags)
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler(counting(rejected, handler(name, pool.getSaturation())));
+        executor.setTaskDecorator(timing(
+                Timer.builder("executor.task.wait").tags(tags).register(meterRegistry),
+                Timer.builder("executor.task.run").tags(tags).register(meterRegistry)));
+
+        gauge(meterRegistry, "executor.active", tags, executor, ThreadPoolExecutor::getActiveCount);
+        gauge(meterRegistry, "executor.queued", tags, executor, threadPool -> threadPool.getQueue().size());
+        gauge(meterRegistry, "executor.pool.size", tags, executor, ThreadPoolExecutor::getPoolSize);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler handler(String name, ExecutorProperties.SaturationPolicy saturation) {
+        switch (saturation) {
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case DROP_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            case PERSIST_FOR_RETRY:
+                return (task, executor) -> log.warn("[Executor] {} 풀이 가득 차 작업을 넘깁니다. 저장된 작업은 다음 주기에 처리됩니다", name);
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    private static RejectedExecutionHandler counting(Counter rejected, RejectedExecutionHandler delegate) {
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    /**
+     * 제출 시점부터 실행 시작까지 대기 시간, 실행 시간 측정
+     */
+    private static TaskDecorator timing(Timer wait, Timer run) {
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                wait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    run.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    /**
+     * 초기화 전, 종료 후에는 0
+     */
+    private static void gauge(MeterRegistry meterRegistry, String name, Tags tags, ThreadPoolTaskExecutor executor,
+                              ToDoubleFunction<ThreadPoolExecutor> value) {
+        Gauge.builder(name, executor, taskExecutor -> {
+                    try {
+                        return value.applyAsDouble(taskExecutor.getThreadPoolExecutor());
+                    } catch (IllegalStateException e) {
+                        return 0;
+                    }
+                })
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -3,11 +3,17 @@ package com.importH.global.config;
 import com.importH.domain.user.social.OauthProviderRepository;
 import com.importH.domain.user.social.OauthAdapter;
 import com.importH.domain.user.social.OauthProvider;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Configuration
@@ -21,4 +27,30 @@ public class OauthConfig {
         Map<String, OauthProvider> providers = OauthAdapter.getOauthProviders(properties);
         return new OauthProviderRepository(providers);
     }
-}
\ No newline at end of file
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider oauthConnectionProvider() {
+        OauthProperties.Http http = properties.getHttp();
+        return ConnectionProvider.builder("oauth")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(http.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofMillis(http.getMaxIdleTimeMillis()))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 로그인마다 WebClient 를 만들지 않고 커넥션 풀(keep-alive)을 재사용
+     */
+    @Bean
+    public WebClient oauthWebClient(WebClient.Builder builder, ConnectionProvider oauthConnectionProvider) {
+        OauthProperties.Http http = properties.getHttp();
+        HttpClient httpClient = HttpClient.create(oauthConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeoutMillis())
+                .responseTimeout(Duration.ofMillis(http.getResponseTimeoutMillis()));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
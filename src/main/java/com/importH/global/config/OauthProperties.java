@@ -14,6 +14,10 @@ public class OauthProperties {
 
     private final Map<String, Provider> provider = new HashMap<>();
 
+    private final Http http = new Http();
+
+    private final LoginCache loginCache = new LoginCache();
+
     @Getter
     @Setter
     public static class User {
@@ -29,4 +33,40 @@ public class OauthProperties {
         private String userInfoUri;
         private String userNameAttribute;
     }
-}
\ No newline at end of file
+
+    /**
+     * 소셜 로그인 API 호출용 WebClient 설정 (모든 제공자가 커넥션 풀 하나를 공유)
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        private long connectTimeoutMillis = 3_000;
+
+        // 요청을 보낸 뒤 응답 데이터가 오지 않고 지날 수 있는 최대 시간 (데이터를 받을 때마다 다시 잼, 전체 응답 시간 제한이 아님)
+        private long responseTimeoutMillis = 5_000;
+
+        private int maxConnections = 50;
+
+        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+        private long pendingAcquireTimeoutMillis = 3_000;
+
+        // 제공자 쪽에서 먼저 끊기 전에 정리되도록
+        private long maxIdleTimeMillis = 30_000;
+
+        private int maxRetries = 2;
+
+        // 재시도 대기 시간 (시도마다 2배씩 증가)
+        private long retryBackoffMillis = 200;
+    }
+
+    /**
+     * 최근 소셜 로그인 사용자 캐시 (배포 직후 재로그인이 몰릴 때 회원 조회를 줄이기 위함)
+     */
+    @Getter
+    @Setter
+    public static class LoginCache {
+        private long ttlSeconds = 300;
+
+        private int maxSize = 10_000;
+    }
+}
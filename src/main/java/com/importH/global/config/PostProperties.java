@@ -0,0 +1,16 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("post")
+public class PostProperties {
+
+    // 미리보기 채우기 작업에서 한번에 읽어올 게시글 수
+    private int previewBackfillChunkSize = 500;
+}
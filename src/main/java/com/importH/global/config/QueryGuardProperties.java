@@ -0,0 +1,22 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("sql.guard")
+public class QueryGuardProperties {
+
+    // 요청 하나에서 허용하는 최대 쿼리 수, 넘으면 실행된 쿼리와 함께 경고 로그
+    private int maxStatements = 20;
+
+    // 요청 하나의 쿼리 실행 시간 합계 기준 (ms)
+    private long slowMillis = 500;
+
+    // 경고 로그에 남길 최대 쿼리 수
+    private int maxLoggedStatements = 30;
+}
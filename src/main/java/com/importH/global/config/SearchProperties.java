@@ -0,0 +1,25 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("search")
+public class SearchProperties {
+
+    // 색인 저장 경로, 없으면 메모리에 색인 후 시작할 때마다 재색인
+    private String indexPath;
+
+    // 재색인시 한번에 읽어올 게시글 수
+    private int reindexChunkSize = 500;
+
+    // 하이라이트 조각 길이
+    private int fragmentSize = 100;
+
+    // 조회할 수 있는 최대 검색 결과 위치 (offset + size)
+    private int maxResultWindow = 1000;
+}
@@ -0,0 +1,17 @@
+package com.importH.global.config;
+
+import com.importH.global.security.revocation.LocalRevocationBroadcaster;
+import com.importH.global.security.revocation.RevocationBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "token-revocation.broadcast", havingValue = "local", matchIfMissing = true)
+    public RevocationBroadcaster localRevocationBroadcaster() {
+        return new LocalRevocationBroadcaster();
+    }
+}
@@ -0,0 +1,25 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("token-revocation")
+public class TokenRevocationProperties {
+
+    // 블룸 필터 크기 기준 : 액세스 토큰 유효기간(24시간) 동안 폐기될 것으로 예상하는 토큰 수
+    private int expectedInsertions = 100_000;
+
+    // 폐기되지 않은 토큰을 폐기됐을 수 있다고 답할 확률 (이 경우만 DB 조회)
+    private double falsePositiveRate = 0.01;
+
+    // 저장소 기준으로 필터를 다시 만드는 주기 (만료된 jti 정리, 놓친 브로드캐스트 복구)
+    private long rebuildIntervalMillis = 10 * 60 * 1000L;
+
+    // 폐기 전파 방식 : local (단일 인스턴스), 그 외 값이면 RevocationBroadcaster 빈을 직접 등록
+    private String broadcast = "local";
+}
@@ -0,0 +1,43 @@
+package com.importH.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * virtual-threads.enabled=true 이면 Tomcat 요청 처리 스레드를 가상 스레드로 교체
+ * 요청마다 가상 스레드를 만들므로 server.tomcat.threads.max 는 적용되지 않고, 동시 DB 작업 수는 커넥션 풀 크기로 제한된다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private ExecutorService requestExecutor;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        if (!VirtualThreads.isSupported()) {
+            log.warn("[VirtualThread] JDK {} 는 가상 스레드를 지원하지 않아 플랫폼 스레드 풀로 요청을 처리합니다", Runtime.version());
+            return protocolHandler -> { };
+        }
+        requestExecutor = VirtualThreads.newExecutor("http-vt-");
+        log.info("[VirtualThread] 요청을 가상 스레드에서 처리합니다");
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+
+    /**
+     * 외부에서 넣어준 실행기는 Tomcat 이 종료하지 않는다
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (requestExecutor != null) {
+            requestExecutor.shutdown();
+        }
+    }
+}
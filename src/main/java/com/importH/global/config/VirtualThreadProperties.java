@@ -0,0 +1,16 @@
+package com.importH.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties("virtual-threads")
+public class VirtualThreadProperties {
+
+    // 요청 처리(Tomcat)를 가상 스레드에서 실행 (JDK 21 이상에서만 적용)
+    private boolean enabled = false;
+}
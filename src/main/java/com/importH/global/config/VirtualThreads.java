@@ -0,0 +1,64 @@
+package com.importH.global.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 실행기 생성
+ * 컴파일 대상은 JDK 11 이므로 Thread.ofVirtual() 등은 리플렉션으로 호출하고, 실행 JDK 가 지원하지 않으면 사용하지 않는다.
+ */
+public final class VirtualThreads {
+
+    private static final boolean SUPPORTED = checkSupported();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 실행기 (스레드 이름 : namePrefix + 순번)
+     */
+    public static ExecutorService newExecutor(String namePrefix) {
+        if (!SUPPORTED) {
+            throw new IllegalStateException("가상 스레드를 지원하지 않는 JDK 입니다 : " + Runtime.version());
+        }
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다", e);
+        }
+    }
+
+    public static boolean isVirtual(Thread thread) {
+        if (!SUPPORTED) {
+            return false;
+        }
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * JDK 19, 20 에서는 --enable-preview 없이 호출하면 UnsupportedOperationException 이 난다
+     */
+    private static boolean checkSupported() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            ofVirtual.invoke(null);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
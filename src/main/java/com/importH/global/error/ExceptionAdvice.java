@@ -5,6 +5,7 @@ import com.importH.global.response.ResponseService;
 import com.importH.global.response.CommonResult;
 import com.importH.global.error.code.ErrorCode;
 import com.importH.global.error.exception.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -20,7 +21,10 @@ import javax.servlet.http.HttpServletRequest;
 @RestControllerAdvice
 public class ExceptionAdvice {
 
+    private static final String ERROR_COUNTER = "api.errors";
+
     private final ResponseService responseService;
+    private final MeterRegistry meterRegistry;
 
     @ExceptionHandler(CommonException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -32,6 +36,7 @@ public class ExceptionAdvice {
     }
 
     private void printError(HttpServletRequest request, CommonException e) {
+        countError(e.getErrorCode());
         log.error("requestUrl : {} , errorCode : {}, errorMessage : {}", request.getRequestURI(), e.getErrorCode(), e.getErrorMessage());
     }
 
@@ -99,8 +104,13 @@ public class ExceptionAdvice {
     }
 
     private void printError(HttpServletRequest request, ErrorCode e) {
+        countError(e);
         log.error("requestUrl : {} , errorCode : {}", request.getRequestURI(), e);
     }
+
+    private void countError(ErrorCode e) {
+        meterRegistry.counter(ERROR_COUNTER, "code", String.valueOf(e), "status", String.valueOf(e.getStatus())).increment();
+    }
     
 
 }
@@ -7,7 +7,8 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum SocialErrorCode implements ErrorCode{
     SOCIAL_LOGIN_FAILED("이메일 또는 이름이 없습니다.", 400),
-    NOT_VALID_ACCESS("유효하지 않은 접근입니다. 옳바른 경로로 접근 해주세요.", 401);
+    NOT_VALID_ACCESS("유효하지 않은 접근입니다. 옳바른 경로로 접근 해주세요.", 401),
+    PROVIDER_UNAVAILABLE("소셜 로그인 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.", 503);
     private final String description;
     private final int status;
 }
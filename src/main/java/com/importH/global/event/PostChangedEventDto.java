@@ -0,0 +1,73 @@
+package com.importH.global.event;
+
+import com.importH.domain.post.entity.Post;
+import com.importH.domain.tag.Tag;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 등록/수정/삭제 이벤트
+ * 커밋 후 처리하는 리스너(인덱스, 집계)가 엔티티를 다시 조회하지 않도록 필요한 값을 복사해서 전달한다.
+ */
+@Getter
+public class PostChangedEventDto {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Long postId;
+    private final String boardId;
+    private final String title;
+    private final String content;
+    // 태그 집계 구간의 기준 시각 (게시글 작성 시각)
+    private final LocalDateTime createdAt;
+    private final Set<String> tags;
+    private final Set<String> previousTags;
+
+    private PostChangedEventDto(ChangeType changeType, Post post, Set<String> tags, Set<String> previousTags) {
+        this.changeType = changeType;
+        this.postId = post.getId();
+        this.boardId = post.getType();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.createdAt = post.getCreatedAt();
+        this.tags = tags;
+        this.previousTags = previousTags;
+    }
+
+    public static PostChangedEventDto created(Post post) {
+        return new PostChangedEventDto(ChangeType.CREATED, post, tagNames(post.getTags()), Collections.emptySet());
+    }
+
+    public static PostChangedEventDto updated(Post post, Set<String> previousTags) {
+        return new PostChangedEventDto(ChangeType.UPDATED, post, tagNames(post.getTags()), previousTags);
+    }
+
+    public static PostChangedEventDto deleted(Post post, Set<String> previousTags) {
+        return new PostChangedEventDto(ChangeType.DELETED, post, Collections.emptySet(), previousTags);
+    }
+
+    public static Set<String> tagNames(Set<Tag> tags) {
+        return tags.stream().map(Tag::getName).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 이번 변경으로 새로 붙은 태그
+     */
+    public Set<String> getAddedTags() {
+        return tags.stream().filter(tag -> !previousTags.contains(tag)).collect(Collectors.toSet());
+    }
+
+    /**
+     * 이번 변경으로 떨어진 태그
+     */
+    public Set<String> getRemovedTags() {
+        return previousTags.stream().filter(tag -> !tags.contains(tag)).collect(Collectors.toSet());
+    }
+}
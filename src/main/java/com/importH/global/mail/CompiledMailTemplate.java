@@ -0,0 +1,86 @@
+package com.importH.global.mail;
+
+import java.util.Map;
+
+/**
+ * 변수 위치를 기준으로 나눈 메일 템플릿
+ * fragments[0] + value(slots[0]) + fragments[1] + ... + fragments[n]
+ * null 값은 Thymeleaf 가 표현식에 따라 다르게 처리하므로 (속성 제거, "null" 문자열 등) 모든 값이 있을 때만 사용한다.
+ */
+final class CompiledMailTemplate {
+
+    private static final int ESTIMATED_VALUE_LENGTH = 32;
+
+    private final String[] fragments;
+    private final String[] slots;
+    private final boolean[] raw;
+    private final int estimatedLength;
+
+    CompiledMailTemplate(String[] fragments, String[] slots, boolean[] raw) {
+        this.fragments = fragments;
+        this.slots = slots;
+        this.raw = raw;
+
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.estimatedLength = length + slots.length * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * 모든 변수에 값이 있는지 확인
+     */
+    boolean accepts(Map<String, ?> variables) {
+        for (String slot : slots) {
+            if (variables.get(slot) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String render(Map<String, ?> variables) {
+        StringBuilder builder = new StringBuilder(estimatedLength);
+        renderTo(builder, variables);
+        return builder.toString();
+    }
+
+    void renderTo(StringBuilder builder, Map<String, ?> variables) {
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(fragments[i]);
+            Object value = variables.get(slots[i]);
+            if (raw[i]) {
+                builder.append(value);
+            } else {
+                escape(builder, value.toString());
+            }
+        }
+        builder.append(fragments[slots.length]);
+    }
+
+    int getEstimatedLength() {
+        return estimatedLength;
+    }
+
+    /**
+     * th:text 와 같은 수준의 HTML 이스케이프
+     */
+    private static void escape(StringBuilder builder, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement;
+            switch (value.charAt(i)) {
+                case '&': replacement = "&amp;"; break;
+                case '<': replacement = "&lt;"; break;
+                case '>': replacement = "&gt;"; break;
+                case '"': replacement = "&quot;"; break;
+                case '\'': replacement = "&#39;"; break;
+                default: continue;
+            }
+            builder.append(value, start, i).append(replacement);
+            start = i + 1;
+        }
+        builder.append(value, start, value.length());
+    }
+}
@@ -3,7 +3,26 @@ package com.importH.global.mail;
 
 import com.importH.domain.user.dto.EmailMessageDto;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface EmailMessenger {
 
     void sendEmail(EmailMessageDto emailMessageDto);
+
+    /**
+     * 여러 이메일 발송 후 실패한 이메일과 원인을 반환 (같은 인스턴스 기준)
+     */
+    default Map<EmailMessageDto, Exception> sendEmails(List<EmailMessageDto> emailMessageDtos) {
+        Map<EmailMessageDto, Exception> failures = new IdentityHashMap<>();
+        for (EmailMessageDto emailMessageDto : emailMessageDtos) {
+            try {
+                sendEmail(emailMessageDto);
+            } catch (RuntimeException e) {
+                failures.put(emailMessageDto, e);
+            }
+        }
+        return failures;
+    }
 }
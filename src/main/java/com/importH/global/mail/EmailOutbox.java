@@ -0,0 +1,98 @@
+package com.importH.global.mail;
+
+import com.importH.domain.BaseTimeEntity;
+import com.importH.domain.user.dto.EmailMessageDto;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 이메일 (transactional outbox)
+ * 이메일을 요청한 트랜잭션과 함께 저장되고, EmailOutboxDispatcher 가 모아서 발송한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class EmailOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id @GeneratedValue
+    @Column(name = "email_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String message;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    public static EmailOutbox create(EmailMessageDto emailMessageDto) {
+        return EmailOutbox.builder()
+                .recipient(emailMessageDto.getTo())
+                .subject(emailMessageDto.getSubject())
+                .message(emailMessageDto.getMessage())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public EmailMessageDto toMessage() {
+        return EmailMessageDto.builder()
+                .to(recipient)
+                .subject(subject)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 발송 선점, leaseUntil 이 지나도록 결과가 기록되지 않으면 다시 선점 대상이 된다
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void sent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 기록, 최대 시도 횟수를 넘으면 더 이상 발송하지 않음
+     */
+    public void failed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = attempts >= maxAttempts ? EmailOutboxStatus.FAILED : EmailOutboxStatus.PENDING;
+    }
+
+    public boolean isFailed() {
+        return status == EmailOutboxStatus.FAILED;
+    }
+}
@@ -0,0 +1,113 @@
+package com.importH.global.mail;
+
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.EmailOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발송 대기함의 이메일을 배치로 발송, 실패 시 지수 백오프로 재시도
+ * 여러 노드가 동시에 실행해도 EmailOutboxStore 가 선점한 이메일만 발송하므로 중복 발송하지 않는다.
+ * 주기 발송, 즉시 발송은 EmailOutboxTrigger 가 메일 전용 풀에서 호출한다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxStore emailOutboxStore;
+    private final EmailMessenger emailMessenger;
+    private final EmailOutboxProperties properties;
+    private final Clock clock;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter abandonedCounter;
+
+    public EmailOutboxDispatcher(EmailOutboxStore emailOutboxStore, EmailMessenger emailMessenger,
+                                 EmailOutboxProperties properties, MeterRegistry meterRegistry) {
+        this(emailOutboxStore, emailMessenger, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    EmailOutboxDispatcher(EmailOutboxStore emailOutboxStore, EmailMessenger emailMessenger,
+                          EmailOutboxProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.emailOutboxStore = emailOutboxStore;
+        this.emailMessenger = emailMessenger;
+        this.properties = properties;
+        this.clock = clock;
+
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+                .description("발송 대기 중인 이메일 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("배치 발송 소요 시간")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.abandonedCounter = meterRegistry.counter("mail.outbox.abandoned");
+    }
+
+    /**
+     * 발송 시점이 된 이메일을 한 배치 발송하고 발송한 이메일 수 반환
+     * 선점, 결과 기록만 짧은 트랜잭션으로 실행하므로 트랜잭션 밖에서 호출해야 한다.
+     */
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<EmailOutbox> outboxes = emailOutboxStore.claim(now,
+                now.plusSeconds(properties.getClaimTimeoutSeconds()), properties.getBatchSize());
+
+        if (!outboxes.isEmpty()) {
+            send(outboxes, now);
+        }
+
+        pending.set(emailOutboxStore.countPending());
+        return outboxes.size();
+    }
+
+    private void send(List<EmailOutbox> outboxes, LocalDateTime now) {
+        Map<EmailMessageDto, Long> messages = new IdentityHashMap<>();
+        for (EmailOutbox outbox : outboxes) {
+            messages.put(outbox.toMessage(), outbox.getId());
+        }
+
+        Map<EmailMessageDto, Exception> failures = sendTimer.record(() -> emailMessenger.sendEmails(List.copyOf(messages.keySet())));
+
+        Map<Long, Exception> failuresById = new HashMap<>();
+        failures.forEach((message, failure) -> failuresById.put(messages.get(message), failure));
+
+        emailOutboxStore.record(messages.values(), outbox -> record(outbox, failuresById.get(outbox.getId()), now));
+    }
+
+    private void record(EmailOutbox outbox, Exception failure, LocalDateTime now) {
+        if (failure == null) {
+            outbox.sent(now);
+            sentCounter.increment();
+            return;
+        }
+        outbox.failed(failure.getMessage(), now.plus(backoff(outbox.getAttempts())), properties.getMaxAttempts());
+        failedCounter.increment();
+        if (outbox.isFailed()) {
+            abandonedCounter.increment();
+            log.error("give up sending email {} after {} attempts", outbox.getId(), outbox.getAttempts(), failure);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = properties.getInitialBackoffSeconds() << Math.min(attempts, 20);
+        return Duration.ofSeconds(Math.min(seconds, properties.getMaxBackoffSeconds()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.importH.global.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // org.hibernate.LockOptions.SKIP_LOCKED
+    String SKIP_LOCKED = "-2";
+
+    // 다른 노드가 선점 중인 행은 기다리지 않고 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("select o from EmailOutbox o where o.status in :statuses and o.nextAttemptAt <= :now order by o.id asc")
+    List<EmailOutbox> findClaimable(@Param("statuses") Collection<EmailOutboxStatus> statuses, @Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(EmailOutboxStatus status);
+}
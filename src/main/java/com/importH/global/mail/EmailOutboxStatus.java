@@ -0,0 +1,5 @@
+package com.importH.global.mail;
+
+public enum EmailOutboxStatus {
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,47 @@
+package com.importH.global.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 발송 대기함 트랜잭션 경계
+ * 발송할 이메일 선점(claim)과 결과 기록을 각각 짧은 트랜잭션으로 나누고, SMTP 발송은 트랜잭션 밖에서 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxStore {
+
+    private static final List<EmailOutboxStatus> CLAIMABLE = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    /**
+     * 발송 시점이 된 이메일을 SENDING 으로 바꾸고 leaseUntil 까지 선점
+     * 다른 노드가 잠근 행은 건너뛰고, 발송 중 죽은 노드의 행은 선점 시간이 지나면 다시 선점된다.
+     */
+    @Transactional
+    public List<EmailOutbox> claim(LocalDateTime now, LocalDateTime leaseUntil, int batchSize) {
+        List<EmailOutbox> outboxes = emailOutboxRepository.findClaimable(CLAIMABLE, now, PageRequest.of(0, batchSize));
+        outboxes.forEach(outbox -> outbox.claim(leaseUntil));
+        return outboxes;
+    }
+
+    /**
+     * 발송 결과 기록
+     */
+    @Transactional
+    public void record(Collection<Long> ids, Consumer<EmailOutbox> recorder) {
+        emailOutboxRepository.findAllById(ids).forEach(recorder);
+    }
+
+    public long countPending() {
+        return emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING);
+    }
+}
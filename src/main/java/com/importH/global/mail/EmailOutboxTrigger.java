@@ -0,0 +1,58 @@
+package com.importH.global.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+
+import static com.importH.global.config.ExecutorConfig.MAIL_EXECUTOR;
+
+/**
+ * 발송 대기함 발송을 메일 전용 풀에서 실행
+ * 풀의 스레드가 하나이므로 주기 발송과 즉시 발송이 겹치지 않고, 풀이 가득 차면 대기함에 남아 다음 주기에 발송된다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxTrigger {
+
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
+    private final Executor mailExecutor;
+
+    public EmailOutboxTrigger(EmailOutboxDispatcher emailOutboxDispatcher, @Qualifier(MAIL_EXECUTOR) Executor mailExecutor) {
+        this.emailOutboxDispatcher = emailOutboxDispatcher;
+        this.mailExecutor = mailExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.fixed-delay:5000}", initialDelayString = "${mail.outbox.fixed-delay:5000}")
+    public void scheduledDispatch() {
+        mailExecutor.execute(this::dispatch);
+    }
+
+    /**
+     * 대기함 저장이 커밋된 뒤 다음 주기를 기다리지 않고 발송
+     */
+    public void dispatchAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mailExecutor.execute(this::dispatch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mailExecutor.execute(EmailOutboxTrigger.this::dispatch);
+            }
+        });
+    }
+
+    private void dispatch() {
+        try {
+            emailOutboxDispatcher.dispatch();
+        } catch (RuntimeException e) {
+            log.error("failed to dispatch email outbox", e);
+        }
+    }
+}
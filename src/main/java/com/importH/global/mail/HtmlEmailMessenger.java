@@ -7,13 +7,17 @@ import com.importH.global.error.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -23,20 +27,57 @@ public class HtmlEmailMessenger implements EmailMessenger {
 
     private final JavaMailSender javaMailSender;
 
-    @Async
     @Override
     public void sendEmail(EmailMessageDto emailMessageDto) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(emailMessageDto.getTo());
-            mimeMessageHelper.setSubject(emailMessageDto.getSubject());
-            mimeMessageHelper.setText(emailMessageDto.getMessage(), true);
-            javaMailSender.send(mimeMessage);
+            javaMailSender.send(createMimeMessage(emailMessageDto));
         } catch (MessagingException e) {
             log.error("failed to send email", e);
             throw new UserException(UserErrorCode.NOT_VALID_EMAIL);
         }
     }
 
+    /**
+     * 하나의 SMTP 연결로 여러 이메일 발송
+     */
+    @Override
+    public Map<EmailMessageDto, Exception> sendEmails(List<EmailMessageDto> emailMessageDtos) {
+        Map<EmailMessageDto, Exception> failures = new IdentityHashMap<>();
+        Map<MimeMessage, EmailMessageDto> messages = new IdentityHashMap<>();
+
+        for (EmailMessageDto emailMessageDto : emailMessageDtos) {
+            try {
+                messages.put(createMimeMessage(emailMessageDto), emailMessageDto);
+            } catch (MessagingException e) {
+                failures.put(emailMessageDto, e);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message), cause));
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(dto -> failures.put(dto, e));
+            }
+        } catch (MailException e) {
+            log.error("failed to send emails", e);
+            messages.values().forEach(dto -> failures.put(dto, e));
+        }
+        return failures;
+    }
+
+    private MimeMessage createMimeMessage(EmailMessageDto emailMessageDto) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessageDto.getTo());
+        mimeMessageHelper.setSubject(emailMessageDto.getSubject());
+        mimeMessageHelper.setText(emailMessageDto.getMessage(), true);
+        return mimeMessage;
+    }
+
 }
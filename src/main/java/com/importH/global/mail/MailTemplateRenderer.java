@@ -0,0 +1,188 @@
+package com.importH.global.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메일 템플릿 렌더러
+ * 템플릿을 한번만 Thymeleaf 로 처리해 정적 조각으로 나눠두고, 이후에는 변수만 이어붙여 렌더링한다.
+ * th:utext 변수는 이스케이프 없이 그대로 넣고, 조건/반복 등 값에 따라 구조가 바뀌는 템플릿은 매번 Thymeleaf 로 처리한다.
+ * 값이 null 인 변수가 있으면 그 메일만 Thymeleaf 로 처리한다.
+ */
+@Slf4j
+@Component
+public class MailTemplateRenderer {
+
+    private static final String TEMPLATE_LOCATION = "classpath*:templates/mail/*.html";
+    private static final String TEMPLATE_PREFIX = "mail/";
+    private static final String TEMPLATE_SUFFIX = ".html";
+
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]*)}");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*'");
+    private static final Pattern VARIABLE = Pattern.compile("(?<![\\w.#])([A-Za-z_]\\w*)(?![\\w(])");
+    private static final Pattern UNESCAPED = Pattern.compile("th:utext=\"([^\"]*)\"");
+    private static final Pattern DYNAMIC_STRUCTURE =
+            Pattern.compile("th:(if|unless|each|switch|case|insert|replace|include|with|object)\\b");
+    private static final String PROBE_VALUE = "<a href=\"x\">'&'</a>";
+
+    private final ITemplateEngine templateEngine;
+    private final Map<String, Optional<CompiledMailTemplate>> templates = new ConcurrentHashMap<>();
+
+    public MailTemplateRenderer(ITemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    @PostConstruct
+    public void precompile() throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION)) {
+            String filename = Objects.requireNonNull(resource.getFilename());
+            String template = TEMPLATE_PREFIX + filename.substring(0, filename.length() - TEMPLATE_SUFFIX.length());
+            templates.computeIfAbsent(template, name -> compile(name, resource));
+        }
+        log.info("precompiled {} mail templates", templates.values().stream().filter(Optional::isPresent).count());
+    }
+
+    public String render(String template, Map<String, ?> variables) {
+        Optional<CompiledMailTemplate> compiled = getCompiled(template);
+        if (compiled.isEmpty() || !compiled.get().accepts(variables)) {
+            return process(template, variables);
+        }
+        return compiled.get().render(variables);
+    }
+
+    /**
+     * 여러 수신자의 메일을 한번에 렌더링, 버퍼를 재사용한다.
+     */
+    public List<String> renderAll(String template, List<? extends Map<String, ?>> variablesList) {
+        List<String> messages = new ArrayList<>(variablesList.size());
+        Optional<CompiledMailTemplate> compiled = getCompiled(template);
+        if (compiled.isEmpty()) {
+            for (Map<String, ?> variables : variablesList) {
+                messages.add(process(template, variables));
+            }
+            return messages;
+        }
+
+        CompiledMailTemplate compiledTemplate = compiled.get();
+        StringBuilder builder = new StringBuilder(compiledTemplate.getEstimatedLength());
+        for (Map<String, ?> variables : variablesList) {
+            if (!compiledTemplate.accepts(variables)) {
+                messages.add(process(template, variables));
+                continue;
+            }
+            builder.setLength(0);
+            compiledTemplate.renderTo(builder, variables);
+            messages.add(builder.toString());
+        }
+        return messages;
+    }
+
+    private Optional<CompiledMailTemplate> getCompiled(String template) {
+        return templates.computeIfAbsent(template, name ->
+                compile(name, new PathMatchingResourcePatternResolver().getResource("classpath:templates/" + name + TEMPLATE_SUFFIX)));
+    }
+
+    private String process(String template, Map<String, ?> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(template, context);
+    }
+
+    private Optional<CompiledMailTemplate> compile(String template, Resource resource) {
+        try {
+            String source = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+            if (DYNAMIC_STRUCTURE.matcher(source).find()) {
+                return Optional.empty();
+            }
+
+            Set<String> rawVariables = findVariables(source, UNESCAPED);
+            Set<String> variables = findVariables(UNESCAPED.matcher(source).replaceAll(""), EXPRESSION);
+            if (!Collections.disjoint(variables, rawVariables)) {
+                return Optional.empty();
+            }
+            variables.addAll(rawVariables);
+
+            String token = "__mail_" + Long.toHexString(new Random().nextLong()) + "_";
+            Map<String, String> sentinels = new HashMap<>();
+            for (String variable : variables) {
+                sentinels.put(variable, token + variable + "__");
+            }
+
+            Optional<CompiledMailTemplate> compiled = split(process(template, sentinels), token, sentinels, rawVariables);
+            if (compiled.isPresent() && !verify(template, compiled.get(), variables)) {
+                log.warn("mail template {} falls back to thymeleaf rendering", template);
+                return Optional.empty();
+            }
+            return compiled;
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to precompile mail template {}", template, e);
+            return Optional.empty();
+        }
+    }
+
+    private Set<String> findVariables(String source, Pattern pattern) {
+        Set<String> variables = new LinkedHashSet<>();
+        Matcher expression = pattern.matcher(source);
+        while (expression.find()) {
+            Matcher variable = VARIABLE.matcher(STRING_LITERAL.matcher(expression.group(1)).replaceAll(""));
+            while (variable.find()) {
+                variables.add(variable.group(1));
+            }
+        }
+        return variables;
+    }
+
+    private Optional<CompiledMailTemplate> split(String rendered, String token, Map<String, String> sentinels, Set<String> rawVariables) {
+        List<String> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+        Set<String> found = new HashSet<>();
+
+        int start = 0;
+        int index;
+        while ((index = rendered.indexOf(token, start)) >= 0) {
+            int end = rendered.indexOf("__", index + token.length());
+            String variable = end < 0 ? null : rendered.substring(index + token.length(), end);
+            if (variable == null || !sentinels.containsKey(variable)) {
+                return Optional.empty();
+            }
+            fragments.add(rendered.substring(start, index));
+            slots.add(variable);
+            raw.add(rawVariables.contains(variable));
+            found.add(variable);
+            start = end + 2;
+        }
+        fragments.add(rendered.substring(start));
+
+        // 표현식 안에서 값이 가공되어 sentinel 이 남지 않은 경우
+        if (!found.equals(sentinels.keySet())) {
+            return Optional.empty();
+        }
+        boolean[] rawSlots = new boolean[raw.size()];
+        for (int i = 0; i < rawSlots.length; i++) {
+            rawSlots[i] = raw.get(i);
+        }
+        return Optional.of(new CompiledMailTemplate(fragments.toArray(new String[0]), slots.toArray(new String[0]), rawSlots));
+    }
+
+    private boolean verify(String template, CompiledMailTemplate compiled, Set<String> variables) {
+        Map<String, String> probe = new HashMap<>();
+        for (String variable : variables) {
+            probe.put(variable, variable + PROBE_VALUE);
+        }
+        return process(template, probe).equals(compiled.render(probe));
+    }
+}
@@ -2,9 +2,11 @@ package com.importH.global.response;
 
 import com.importH.global.error.code.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Service
 @Slf4j
@@ -26,6 +28,18 @@ public class ResponseService {
         return result;
     }
 
+    // 커서 기반 복수건 결과 처리 메서드
+    public <T> SliceResult<T> getSliceResult(Slice<T> slice, Function<T, Long> cursor) {
+        SliceResult<T> result = new SliceResult<>();
+        result.setList(slice.getContent());
+        result.setHasNext(slice.hasNext());
+        if (slice.hasNext()) {
+            result.setNextCursor(cursor.apply(slice.getContent().get(slice.getNumberOfElements() - 1)));
+        }
+        setSuccessResult(result);
+        return result;
+    }
+
     // 성공 결과만 처리
     public CommonResult getSuccessResult() {
         CommonResult result = new CommonResult();
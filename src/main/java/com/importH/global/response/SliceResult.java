@@ -0,0 +1,14 @@
+package com.importH.global.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SliceResult<T> extends ListResult<T> {
+
+    private boolean hasNext;
+
+    // 다음 페이지 요청시 lastId 로 전달
+    private Long nextCursor;
+}
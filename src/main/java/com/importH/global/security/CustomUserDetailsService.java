@@ -24,10 +24,12 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String token) throws UsernameNotFoundException {
+        return loadUser(jwtProvider.parseClaims(token));
+    }
 
-        Claims claims = jwtProvider.parseClaims(token);
+    private CustomUser loadUser(Claims claims) {
 
-        if (claims.get("roles") == null) {
+        if (claims.get("roles") == null || !jwtProvider.isAccessToken(claims)) {
             throw new SecurityException(AUTHENTICATION_ENTRYPOINT);
         }
 
@@ -42,16 +44,9 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .build();
     }
 
-    public Authentication getAuthentication(String token) {
-
-        // JWT 에서 CLAIMS 추출
-        Claims claims = jwtProvider.parseClaims(token);
-
-        if (claims.get("roles") == null) {
-            throw new SecurityException(AUTHENTICATION_ENTRYPOINT);
-        }
-
-        CustomUser customUser = (CustomUser) loadUserByUsername(token);
+    // 필터에서 검증한 Claims 로 인증 객체 생성 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(Claims claims) {
+        CustomUser customUser = loadUser(claims);
         return new UsernamePasswordAuthenticationToken(customUser, "", customUser.getAuthorities());
     }
 }
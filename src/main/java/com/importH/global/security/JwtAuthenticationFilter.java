@@ -1,10 +1,11 @@
 package com.importH.global.security;
 
+import com.importH.global.security.revocation.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.GenericFilterBean;
 
 import javax.servlet.FilterChain;
@@ -24,8 +25,9 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
 
-    // request 에 들어오는 Jwt 의 유효성을 검증 -> jwtProvider.validationToken() 을 필터로서 FilterChain 에 추가
+    // request 에 들어오는 Jwt 의 유효성을 검증 -> jwtProvider.validClaims() 를 필터로서 FilterChain 에 추가
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
 
@@ -34,8 +36,11 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         log.info("[Verifying token]");
         log.info(((HttpServletRequest) request).getRequestURL().toString());
 
-        if (token != null && jwtProvider.validationToken(token)) {
-                Authentication authentication = userDetailsService.getAuthentication(token);
+        // 서명 검증(파싱)은 요청당 한 번 - 이후 단계는 같은 Claims 를 사용
+        Claims claims = token == null ? null : jwtProvider.validClaims(token);
+
+        if (claims != null && jwtProvider.isAccessToken(claims) && !tokenRevocationList.isRevoked(claims)) {
+                Authentication authentication = userDetailsService.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         chain.doFilter(request,response);
@@ -0,0 +1,123 @@
+package com.importH.global.security;
+
+import com.importH.global.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.security.WeakKeyException;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 설정의 키를 시작할 때 한 번만 디코딩해서 보관
+ * 서명은 현재 알고리즘의 키로 하고, 검증은 토큰 헤더(alg, kid)로 키를 고른다.
+ */
+public class JwtKeys extends SigningKeyResolverAdapter {
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKid;
+    private final Key signingKey;
+    private final SecretKey secretKey;
+    private final Map<String, PublicKey> publicKeys;
+
+    private JwtKeys(SignatureAlgorithm algorithm, String activeKid, Key signingKey,
+                    SecretKey secretKey, Map<String, PublicKey> publicKeys) {
+        this.algorithm = algorithm;
+        this.activeKid = activeKid;
+        this.signingKey = signingKey;
+        this.secretKey = secretKey;
+        this.publicKeys = publicKeys;
+    }
+
+    public static JwtKeys from(JwtProperties properties) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+        SecretKey secretKey = properties.getSecret() == null ? null : hmacKey(properties.getSecret());
+
+        if (algorithm == SignatureAlgorithm.HS256) {
+            if (secretKey == null) {
+                throw new IllegalStateException("jwt.secret 이 없습니다.");
+            }
+            return new JwtKeys(algorithm, null, secretKey, secretKey, Map.of());
+        }
+
+        if (algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("지원하지 않는 jwt.algorithm : " + properties.getAlgorithm());
+        }
+
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        properties.getKeys().forEach((kid, key) -> publicKeys.put(kid, publicKey(kid, key.getPublicKey())));
+
+        String activeKid = properties.getActiveKid();
+        JwtProperties.EcKey active = activeKid == null ? null : properties.getKeys().get(activeKid);
+        if (active == null || active.getPrivateKey() == null) {
+            throw new IllegalStateException("jwt.keys 에 activeKid(" + activeKid + ") 의 개인키가 없습니다.");
+        }
+
+        return new JwtKeys(algorithm, activeKid, privateKey(activeKid, active.getPrivateKey()), secretKey, Map.copyOf(publicKeys));
+    }
+
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (activeKid != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, activeKid);
+        }
+        return builder.signWith(signingKey, algorithm);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        SignatureAlgorithm tokenAlgorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+
+        Key key = tokenAlgorithm.isHmac() ? secretKey : publicKeys.get(String.valueOf(header.getKeyId()));
+        if (key == null) {
+            throw new SignatureException("검증 키가 없는 토큰입니다. alg=" + header.getAlgorithm() + ", kid=" + header.getKeyId());
+        }
+        return key;
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        try {
+            return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (WeakKeyException e) {
+            throw new IllegalStateException("jwt.secret 은 UTF-8 기준 32바이트 이상이어야 합니다.", e);
+        }
+    }
+
+    private static PrivateKey privateKey(String kid, String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.keys." + kid + ".private-key 를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PublicKey publicKey(String kid, String encoded) {
+        if (encoded == null) {
+            throw new IllegalStateException("jwt.keys." + kid + ".public-key 가 없습니다.");
+        }
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.keys." + kid + ".public-key 를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // PEM 헤더, 줄바꿈이 있어도 읽도록
+    private static byte[] decode(String encoded) {
+        return Base64.getMimeDecoder().decode(encoded.replaceAll("-----[A-Z ]+-----", ""));
+    }
+}
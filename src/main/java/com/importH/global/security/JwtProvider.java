@@ -2,16 +2,18 @@ package com.importH.global.security;
 
 import com.importH.domain.user.entity.User;
 import com.importH.domain.user.token.TokenDto;
+import com.importH.global.config.JwtProperties;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
-import java.util.Base64;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 
 /**
@@ -25,8 +27,15 @@ import java.util.Date;
 public class JwtProvider {
 
     public static final String ROLES = "roles";
-    @Value("${jwt.secret}")
-    private String secretKey;
+    public static final String TOKEN_TYPE = "typ";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    private final JwtProperties jwtProperties;
+
+    // 키 디코딩과 파서 생성은 시작할 때 한 번만 (JwtParser 는 불변이라 스레드 간 공유 가능)
+    private JwtKeys keys;
+    private JwtParser parser;
 
     // 토큰 유효시간 30분
     private Long accessTokenValidTime = 24 * 60 * 60 * 1000L; // 30 min // 24 hours
@@ -34,43 +43,65 @@ public class JwtProvider {
 
     @PostConstruct
     protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        keys = JwtKeys.from(jwtProperties);
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keys)
+                .build();
     }
 
     //JWT 토큰 생성
     public TokenDto createToken(User user) {
+        return createToken(user.getId(), user.getRole(), user.getPathId());
+    }
 
-        Claims claims = Jwts.claims().setSubject(String.valueOf(user.getId())); // JWT PALYLOAD 에 저장되는 정보단위
-        claims.put(ROLES, user.getRole());
-        claims.put("pathId", user.getPathId());
+    public TokenDto createToken(Long userId, String role, String pathId) {
 
         Date now = new Date();
 
-        String accessToken = Jwts.builder()
+        String accessToken = keys.sign(Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
-                .setClaims(claims) // 정보 저장
+                .setClaims(claims(userId, role, pathId, ACCESS_TOKEN)) // 정보 저장
+                .setId(UUID.randomUUID().toString()) // 폐기(로그아웃) 대상 식별
                 .setIssuedAt(now) // 토큰 발행 시간 정보
-                .setExpiration(new Date(now.getTime() + accessTokenValidTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .setExpiration(new Date(now.getTime() + accessTokenValidTime)))
                 .compact();
 
-        String refreshToken = Jwts.builder()
+        String refreshToken = keys.sign(Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
-                .setClaims(claims) // 정보 저장
+                .setClaims(claims(userId, role, pathId, REFRESH_TOKEN)) // 정보 저장
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급해도 토큰(해시)이 겹치지 않도록
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + refreshTokenValidTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .setExpiration(new Date(now.getTime() + refreshTokenValidTime)))
                 .compact();
 
         return TokenDto.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
-                .isNew(isNewUser(user))
+                .isNew(isNewUser(pathId))
                 .build();
     }
 
-    private boolean isNewUser(User user) {
-        return user.getPathId() == null;
+    // 같은 키로 서명하므로 토큰 종류(typ)로 액세스 토큰과 리프레시 토큰을 구분
+    private Claims claims(Long userId, String role, String pathId, String tokenType) {
+        Claims claims = Jwts.claims().setSubject(String.valueOf(userId)); // JWT PALYLOAD 에 저장되는 정보단위
+        claims.put(ROLES, role);
+        claims.put("pathId", pathId);
+        claims.put(TOKEN_TYPE, tokenType);
+        return claims;
+    }
+
+    // 리프레시 토큰, typ 이 없는 이전 토큰은 API 인증에 쓸 수 없다
+    public boolean isAccessToken(Claims claims) {
+        return ACCESS_TOKEN.equals(claims.get(TOKEN_TYPE));
+    }
+
+    // 지금 발급하는 리프레시 토큰의 만료 시각
+    public LocalDateTime getRefreshTokenExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidTime));
+    }
+
+    private boolean isNewUser(String pathId) {
+        return pathId == null;
     }
 
 
@@ -78,9 +109,7 @@ public class JwtProvider {
     public Claims parseClaims(String token) {
 
         try {
-            return Jwts.parser().
-                    setSigningKey(secretKey).
-                    parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             log.error("ExpiredJwtException : ", e);
             return e.getClaims();
@@ -94,10 +123,14 @@ public class JwtProvider {
 
     // Jwt 의 유효성 및 만료일자 확인
     public boolean validationToken(String token) {
+        return validClaims(token) != null;
+    }
+
+    // 서명 검증과 만료일자 확인을 한 번에 하고 Claims 를 돌려줌 (유효하지 않으면 null)
+    public Claims validClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
-        } catch (java.lang.SecurityException | MalformedJwtException | SignatureException e) {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (java.lang.SecurityException | io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("잘못된 Jwt 서명입니다.");
         } catch (ExpiredJwtException e) {
             log.error("만료된 토큰입니다.");
@@ -106,7 +139,7 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.error("잘못된 토큰입니다.");
         }
-        return false;
+        return null;
     }
 
 }
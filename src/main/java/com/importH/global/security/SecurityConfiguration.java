@@ -1,5 +1,6 @@
 package com.importH.global.security;
 
+import com.importH.global.security.revocation.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.http.HttpMethod;
@@ -17,6 +18,7 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
 
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
@@ -37,9 +39,13 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.GET, "/v1/social/*").permitAll()
                 .antMatchers(HttpMethod.GET, "/exception/**").permitAll()
                 .antMatchers(HttpMethod.GET, "/v1/posts/*", "/v1/users", "/v1/boards/*", "/v1/file/upload/**"
-                        , "/v1/main", "/v1/banners", "/v1/email-token").permitAll()
+                        , "/v1/main", "/v1/banners", "/v1/email-token", "/v1/tags/**", "/v1/search").permitAll()
                 .antMatchers(HttpMethod.POST, "/v1/banners").hasAnyRole("ADMIN")
                 .antMatchers(HttpMethod.DELETE, "/v1/banners/**").hasAnyRole("ADMIN")
+                .antMatchers(HttpMethod.POST, "/v1/search/reindex").hasAnyRole("ADMIN")
+                .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                // 메트릭(/actuator/prometheus 포함)은 관리자만 - 수집기는 관리자 토큰을 쓰거나 management.server.port 로 내부망에 분리
+                .antMatchers("/actuator/**").hasAnyRole("ADMIN")
                 .anyRequest().hasAnyRole("USER", "ADMIN")
 
 
@@ -49,7 +55,7 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .accessDeniedHandler(customAccessDeniedHandler);
 
 
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtProvider,userDetailsService), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtProvider,userDetailsService,tokenRevocationList), UsernamePasswordAuthenticationFilter.class);
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.importH.global.security.revocation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 인스턴스용 : 같은 프로세스의 구독자에게 바로 전달
+ */
+public class LocalRevocationBroadcaster implements RevocationBroadcaster {
+
+    private final List<Consumer<RevocationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(RevocationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<RevocationMessage> listener) {
+        listeners.add(listener);
+    }
+}
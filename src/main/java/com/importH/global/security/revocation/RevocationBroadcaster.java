@@ -0,0 +1,15 @@
+package com.importH.global.security.revocation;
+
+import java.util.function.Consumer;
+
+/**
+ * 폐기 내용을 모든 인스턴스(자기 자신 포함)에 전달
+ * 여러 인스턴스로 운영할 때는 메시지 브로커(Redis pub/sub 등) 구현을 빈으로 등록하고 token-revocation.broadcast 를 바꾼다.
+ * 전달이 누락돼도 TokenRevocationList 가 주기적으로 저장소에서 다시 읽어 복구한다.
+ */
+public interface RevocationBroadcaster {
+
+    void publish(RevocationMessage message);
+
+    void subscribe(Consumer<RevocationMessage> listener);
+}
@@ -0,0 +1,33 @@
+package com.importH.global.security.revocation;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인스턴스 사이에 전파하는 폐기 내용
+ * TOKEN : jti 하나 폐기, WATERMARK : userId 의 issuedBefore(초) 이전 발급 토큰 모두 폐기
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RevocationMessage {
+
+    public enum Type {
+        TOKEN, WATERMARK
+    }
+
+    private final Type type;
+    private final String jti;
+    private final Long userId;
+    private final long issuedBefore;
+
+    public static RevocationMessage token(String jti, Long userId) {
+        return new RevocationMessage(Type.TOKEN, jti, userId, 0);
+    }
+
+    public static RevocationMessage watermark(Long userId, long issuedBefore) {
+        return new RevocationMessage(Type.WATERMARK, null, userId, issuedBefore);
+    }
+}
@@ -0,0 +1,118 @@
+package com.importH.global.security.revocation;
+
+import com.importH.domain.user.token.RevokedTokenRepository;
+import com.importH.domain.user.token.TokenWatermark;
+import com.importH.domain.user.token.TokenWatermarkRepository;
+import com.importH.global.config.TokenRevocationProperties;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청마다 액세스 토큰 폐기 여부를 확인
+ * 1. 회원별 기준 시각(watermark) 이전에 발급된 토큰이면 폐기 - Map 조회
+ * 2. jti 가 블룸 필터에 없으면 폐기되지 않은 토큰 - DB 조회 없음
+ * 3. 블룸 필터에 있을 때만 RevokedToken 저장소에서 확인
+ * 폐기 내용은 RevocationBroadcaster 로 받아 반영하고, 주기적으로 저장소 기준으로 필터를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenWatermarkRepository tokenWatermarkRepository;
+    private final TokenRevocationProperties properties;
+
+    private final Map<Long, Long> watermarks = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    // 다시 만드는 중인 필터 - 그 사이에 들어온 폐기도 빠지지 않도록 함께 추가
+    private volatile BloomFilter building;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               TokenWatermarkRepository tokenWatermarkRepository,
+                               TokenRevocationProperties properties,
+                               RevocationBroadcaster broadcaster) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenWatermarkRepository = tokenWatermarkRepository;
+        this.properties = properties;
+        this.filter = newFilter();
+        broadcaster.subscribe(this::apply);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Long watermark = watermarks.get(Long.valueOf(claims.getSubject()));
+        Date issuedAt = claims.getIssuedAt();
+        if (watermark != null && issuedAt != null && issuedAt.getTime() / 1000 < watermark) {
+            return true;
+        }
+
+        String jti = claims.getId();
+        return jti != null && filter.mightContain(jti) && revokedTokenRepository.existsById(jti);
+    }
+
+    void apply(RevocationMessage message) {
+        if (message.getType() == RevocationMessage.Type.WATERMARK) {
+            watermarks.merge(message.getUserId(), message.getIssuedBefore(), Math::max);
+            return;
+        }
+
+        BloomFilter current;
+        do {
+            current = filter;
+            current.put(message.getJti());
+            BloomFilter next = building;
+            if (next != null) {
+                next.put(message.getJti());
+            }
+        } while (current != filter);
+    }
+
+    /**
+     * 만료된 jti 를 지우고 저장소 기준으로 필터와 기준 시각을 다시 읽는다 (블룸 필터는 삭제가 안 되므로 통째로 교체)
+     * 락을 잡은 채 DB 를 조회하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${token-revocation.rebuild-interval-millis:600000}",
+            initialDelayString = "${token-revocation.rebuild-interval-millis:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            revokedTokenRepository.deleteExpired(now);
+
+            BloomFilter next = newFilter();
+            building = next;
+            List<String> jtis;
+            try {
+                jtis = revokedTokenRepository.findAllActiveJtis(now);
+                jtis.forEach(next::put);
+                filter = next;
+            } finally {
+                building = null;
+            }
+
+            for (TokenWatermark watermark : tokenWatermarkRepository.findAll()) {
+                watermarks.merge(watermark.getUserId(), watermark.getIssuedBefore(), Math::max);
+            }
+            log.debug("[TokenRevocationList] 폐기된 토큰 {} 개, 기준 시각 {} 명 반영", jtis.size(), watermarks.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+    }
+}
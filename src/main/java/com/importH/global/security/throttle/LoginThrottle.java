@@ -0,0 +1,91 @@
+package com.importH.global.security.throttle;
+
+import com.importH.global.config.LoginThrottleProperties;
+import com.importH.global.error.exception.UserException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static com.importH.global.error.code.UserErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+
+/**
+ * 로그인 무차별 대입 제한
+ * 비밀번호 확인(bcrypt) 전에 이메일, IP 별로 1 회씩 차감하고 로그인에 성공하면 이메일 차감만 되돌린다.
+ * 이메일은 윈도우 동안 실패한(또는 진행 중인) 시도만 세고, IP 는 성공한 시도도 세서
+ * 자기 계정으로 로그인해 IP 횟수를 되돌리며 다른 계정을 대입하는 것을 막는다.
+ * 트랜잭션(DB 커넥션)을 잡기 전에 호출해야 하므로 컨트롤러에서 호출한다.
+ */
+@Component
+public class LoginThrottle {
+
+    private final LoginThrottleProperties properties;
+    private final SlidingWindowRateLimiter emailLimiter;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final Counter emailRejected;
+    private final Counter ipRejected;
+
+    @Autowired
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        long windowMillis = TimeUnit.SECONDS.toMillis(properties.getWindowSeconds());
+        this.properties = properties;
+        // 임의의 이메일로 키를 가득 채워 모든 회원의 로그인을 막지 못하도록 이메일은 fail open
+        this.emailLimiter = new SlidingWindowRateLimiter(properties.getMaxAttemptsPerEmail(), windowMillis,
+                properties.getStripes(), properties.getMaxKeys(), true, clock);
+        this.ipLimiter = new SlidingWindowRateLimiter(properties.getMaxAttemptsPerIp(), windowMillis,
+                properties.getStripes(), properties.getMaxKeys(), clock);
+        this.emailRejected = meterRegistry.counter("login.throttled", "key", "email");
+        this.ipRejected = meterRegistry.counter("login.throttled", "key", "ip");
+    }
+
+    /**
+     * 비밀번호 확인 전에 호출 - 한도를 넘었으면 예외
+     */
+    public void acquire(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+            ipRejected.increment();
+            throw new UserException(TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (!emailLimiter.tryAcquire(emailKey(email))) {
+            if (clientIp != null) {
+                ipLimiter.release(clientIp);
+            }
+            emailRejected.increment();
+            throw new UserException(TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * 로그인 성공 - 이메일 차감만 되돌림
+     */
+    public void succeeded(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        emailLimiter.release(emailKey(email));
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void evictIdle() {
+        emailLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+
+    private String emailKey(String email) {
+        return String.valueOf(email).trim().toLowerCase(Locale.ROOT);
+    }
+}
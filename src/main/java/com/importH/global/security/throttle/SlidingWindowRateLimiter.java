@@ -0,0 +1,201 @@
+package com.importH.global.security.throttle;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 슬라이딩 윈도우 카운터 (락 없음)
+ * 키마다 AtomicLong 하나에 [윈도우 번호 32bit | 직전 윈도우 횟수 16bit | 현재 윈도우 횟수 16bit] 를 담아 CAS 로 갱신하고,
+ * 직전 윈도우 횟수 × 남은 비율 + 현재 윈도우 횟수 로 최근 windowMillis 동안의 횟수를 추정한다.
+ * 키는 해시로 나눈 여러 맵(stripe)에 담고, 맵마다 크기 상한을 둔다.
+ * 상한에 걸린 새 키는 failOpen 이면 세지 않고 허용, 아니면 거절한다.
+ * 오래된 키는 상태를 EVICTED 로 CAS 한 뒤에 맵에서 지우므로, 정리와 겹친 요청은 EVICTED 를 보고 새 상태로 다시 센다.
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final long COUNT_MASK = 0xFFFFL;
+    private static final long WINDOW_MASK = 0xFFFFFFFFL;
+    // 횟수는 limit 보다 클 수 없으므로 실제 상태와 겹치지 않는다
+    private static final long EVICTED = -1L;
+
+    private final int limit;
+    private final long windowMillis;
+    private final int maxKeysPerStripe;
+    private final Stripe[] stripes;
+    private final boolean failOpen;
+    private final LongSupplier clock;
+
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int stripes, int maxKeys, LongSupplier clock) {
+        this(limit, windowMillis, stripes, maxKeys, false, clock);
+    }
+
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int stripes, int maxKeys, boolean failOpen, LongSupplier clock) {
+        if (limit < 1 || limit >= COUNT_MASK) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + (COUNT_MASK - 1) + " 사이여야 합니다.");
+        }
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.stripes = new Stripe[Math.max(1, stripes)];
+        this.maxKeysPerStripe = Math.max(1, maxKeys / this.stripes.length);
+        this.failOpen = failOpen;
+        this.clock = clock;
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 한도 안이면 1 회 차감하고 true
+     */
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        long window = window(now);
+        Stripe stripe = stripe(key);
+        AtomicLong state = state(stripe, key, window);
+        if (state == null) {
+            return failOpen;
+        }
+
+        double remaining = 1 - (double) (now % windowMillis) / windowMillis;
+        while (true) {
+            long current = state.get();
+            if (current == EVICTED) {
+                // 정리된 상태 - 맵에서 치우고 새 상태로 다시 센다
+                discard(stripe, key, state);
+                state = state(stripe, key, window);
+                if (state == null) {
+                    return failOpen;
+                }
+                continue;
+            }
+            long previousCount = previousCount(current, window);
+            long currentCount = currentCount(current, window);
+            if (previousCount * remaining + currentCount >= limit) {
+                return false;
+            }
+            long next = (window << 32) | (previousCount << 16) | (currentCount + 1);
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 차감한 1 회를 되돌림 (성공한 시도는 세지 않을 때)
+     */
+    public void release(String key) {
+        AtomicLong state = stripe(key).states.get(key);
+        if (state == null) {
+            return;
+        }
+
+        long window = window(clock.getAsLong());
+        while (true) {
+            long current = state.get();
+            if (current == EVICTED || (current >>> 32) != window || (current & COUNT_MASK) == 0) {
+                return;
+            }
+            if (state.compareAndSet(current, current - 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 직전 윈도우보다 오래된 키 정리
+     */
+    public void evictIdle() {
+        long window = window(clock.getAsLong());
+        for (Stripe stripe : stripes) {
+            evictIdle(stripe, window);
+        }
+    }
+
+    /**
+     * 키 상태 조회, 없으면 자리를 먼저 확보한 뒤 만든다 (동시에 새 키가 몰려도 상한을 넘지 않음)
+     */
+    private AtomicLong state(Stripe stripe, String key, long window) {
+        AtomicLong state = stripe.states.get(key);
+        if (state != null) {
+            return state;
+        }
+
+        if (!stripe.reserve(maxKeysPerStripe)) {
+            evictIdle(stripe, window);
+            if (!stripe.reserve(maxKeysPerStripe)) {
+                return null;
+            }
+        }
+        AtomicLong created = new AtomicLong();
+        state = stripe.states.putIfAbsent(key, created);
+        if (state != null) {
+            stripe.size.decrementAndGet();
+            return state;
+        }
+        return created;
+    }
+
+    /**
+     * 오래된 상태는 EVICTED 로 CAS 한 뒤에 지운다 - CAS 사이에 요청이 갱신했다면 지우지 않는다
+     */
+    private void evictIdle(Stripe stripe, long window) {
+        long previous = (window - 1) & WINDOW_MASK;
+        for (Map.Entry<String, AtomicLong> entry : stripe.states.entrySet()) {
+            AtomicLong state = entry.getValue();
+            long current = state.get();
+            long stateWindow = current >>> 32;
+            boolean idle = stateWindow != window && stateWindow != previous;
+            if (current == EVICTED || (idle && state.compareAndSet(current, EVICTED))) {
+                discard(stripe, entry.getKey(), state);
+            }
+        }
+    }
+
+    private void discard(Stripe stripe, String key, AtomicLong state) {
+        if (stripe.states.remove(key, state)) {
+            stripe.size.decrementAndGet();
+        }
+    }
+
+    private Stripe stripe(String key) {
+        return stripes[(key.hashCode() & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    private long window(long now) {
+        return (now / windowMillis) & WINDOW_MASK;
+    }
+
+    private long previousCount(long state, long window) {
+        long stateWindow = state >>> 32;
+        if (stateWindow == window) {
+            return (state >>> 16) & COUNT_MASK;
+        }
+        return stateWindow == ((window - 1) & WINDOW_MASK) ? state & COUNT_MASK : 0;
+    }
+
+    private long currentCount(long state, long window) {
+        return (state >>> 32) == window ? state & COUNT_MASK : 0;
+    }
+
+    private static class Stripe {
+
+        private final Map<String, AtomicLong> states = new ConcurrentHashMap<>();
+        // 맵 크기와 별도로 세는 키 수 - 새 키는 CAS 로 자리를 먼저 확보한다
+        private final AtomicInteger size = new AtomicInteger();
+
+        private boolean reserve(int max) {
+            while (true) {
+                int current = size.get();
+                if (current >= max) {
+                    return false;
+                }
+                if (size.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
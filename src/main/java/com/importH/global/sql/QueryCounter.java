@@ -0,0 +1,46 @@
+package com.importH.global.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드별 쿼리 측정 구간 관리
+ * 구간은 중첩될 수 있고, 실행된 쿼리는 열려있는 모든 구간에 기록된다.
+ */
+public final class QueryCounter {
+
+    private static final int DEFAULT_CAPTURED_STATEMENTS = 30;
+
+    private static final ThreadLocal<Deque<QueryScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private QueryCounter() {
+    }
+
+    public static QueryScope open() {
+        return open(DEFAULT_CAPTURED_STATEMENTS);
+    }
+
+    public static QueryScope open(int maxCapturedStatements) {
+        QueryScope scope = new QueryScope(maxCapturedStatements);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    static void record(String sql, long nanos) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            return;
+        }
+        for (QueryScope scope : scopes) {
+            scope.record(sql, nanos);
+        }
+    }
+
+    static void close(QueryScope scope) {
+        Deque<QueryScope> scopes = SCOPES.get();
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+}
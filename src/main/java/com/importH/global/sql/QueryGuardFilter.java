@@ -0,0 +1,65 @@
+package com.importH.global.sql;
+
+import com.importH.global.config.QueryGuardProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 쿼리 수와 실행 시간 측정, 기준을 넘으면 실행된 쿼리와 함께 경고 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryGuardFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryGuardProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryScope scope = QueryCounter.open(properties.getMaxLoggedStatements());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryScope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.getCount());
+        Timer.builder("http.server.sql.time")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (scope.getCount() > properties.getMaxStatements() || scope.getElapsedMillis() > properties.getSlowMillis()) {
+            log.warn("{} {} executed {} statements in {} ms\n{}", request.getMethod(), request.getRequestURI(),
+                    scope.getCount(), scope.getElapsedMillis(), String.join("\n", scope.getStatements()));
+        }
+    }
+}
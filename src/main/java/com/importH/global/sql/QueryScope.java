@@ -0,0 +1,50 @@
+package com.importH.global.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구간 안에서 실행된 쿼리 수와 실행 시간, close 하면 측정 종료
+ */
+public class QueryScope implements AutoCloseable {
+
+    private final int maxCapturedStatements;
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+    private long elapsedNanos;
+
+    QueryScope(int maxCapturedStatements) {
+        this.maxCapturedStatements = maxCapturedStatements;
+    }
+
+    void record(String sql, long nanos) {
+        count++;
+        elapsedNanos += nanos;
+        if (statements.size() < maxCapturedStatements) {
+            statements.add(sql);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    @Override
+    public void close() {
+        QueryCounter.close(this);
+    }
+}
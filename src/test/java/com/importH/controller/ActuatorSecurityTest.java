@@ -0,0 +1,74 @@
+package com.importH.controller;
+
+import com.importH.core.WithAccount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@TestPropertySource(locations = "classpath:/application-test.properties",
+        properties = "management.endpoints.web.exposure.include=health,prometheus")
+class ActuatorSecurityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("[실패] 메트릭 조회 - 인증하지 않은 사용자")
+    void prometheus_fail_anonymous() throws Exception {
+        // when
+        ResultActions perform = mockMvc.perform(get("/actuator/prometheus"));
+
+        //then
+        perform.andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/entryPoint"));
+    }
+
+    @Test
+    @WithAccount("테스트")
+    @DisplayName("[실패] 메트릭 조회 - 관리자가 아닌 사용자")
+    void prometheus_fail_notAdmin() throws Exception {
+        // when
+        ResultActions perform = mockMvc.perform(get("/actuator/prometheus"));
+
+        //then
+        perform.andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/accessDenied"));
+    }
+
+    @Test
+    @WithAccount("관리자")
+    @DisplayName("[성공] 메트릭 조회 - 관리자")
+    void prometheus_success_admin() throws Exception {
+        // when
+        ResultActions perform = mockMvc.perform(get("/actuator/prometheus"));
+
+        //then
+        perform.andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("[성공] 헬스 체크는 인증 없이 조회 (상태는 메일 서버 등 외부 의존성에 따라 다름)")
+    void health_success_anonymous() throws Exception {
+        // when
+        ResultActions perform = mockMvc.perform(get("/actuator/health"));
+
+        //then
+        perform.andExpect(result -> assertThat(result.getResponse().getRedirectedUrl()).isNull());
+    }
+}
@@ -3,6 +3,7 @@ package com.importH.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.importH.core.WithAccount;
 import com.importH.domain.banner.Banner;
+import com.importH.domain.banner.BannerCache;
 import com.importH.domain.banner.BannerDto.Request;
 import com.importH.domain.banner.BannerDto.Response;
 import com.importH.domain.banner.BannerRepository;
@@ -48,6 +49,9 @@ class BannerControllerTest {
     @Autowired
     BannerRepository bannerRepository;
 
+    @Autowired
+    BannerCache bannerCache;
+
 
     @Test
     @WithAccount("관리자")
@@ -102,6 +106,9 @@ class BannerControllerTest {
             Request request = getRequest(i);
             bannerService.registerBanner(request);
         }
+        // 테스트 트랜잭션은 커밋되지 않으므로 직접 스냅샷 갱신
+        bannerCache.refresh();
+
         // when
         ResultActions perform = mockMvc.perform(get("/v1/banners"));
 
@@ -118,6 +125,26 @@ class BannerControllerTest {
 
     }
 
+    @Test
+    @DisplayName("[성공] 배너 가져오기 - 변경이 없으면 ETag 로 304 응답")
+    void getBanners_notModified() throws Exception {
+
+        // given
+        String etag = mockMvc.perform(get("/v1/banners"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/v1/banners").header("If-None-Match", etag));
+
+        //then
+        perform.andExpect(status().isNotModified());
+
+        bannerCache.refresh();
+        mockMvc.perform(get("/v1/banners").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @WithAccount("관리자")
     @DisplayName("[성공] 관리자가 존재하는 배너 삭제하기")
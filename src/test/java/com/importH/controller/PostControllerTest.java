@@ -12,6 +12,7 @@ import com.importH.domain.post.repository.PostRepository;
 import com.importH.domain.post.service.PostService;
 import com.importH.domain.tag.TagDto;
 import com.importH.domain.tag.TagRepository;
+import com.importH.domain.tag.UnusedTagSweeper;
 import com.importH.domain.user.entity.User;
 import com.importH.domain.user.repository.UserRepository;
 import com.importH.global.error.code.CommonErrorCode;
@@ -25,10 +26,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.transaction.BeforeTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
@@ -73,9 +76,18 @@ class PostControllerTest {
     @Autowired
     CommentService commentService;
 
+    @Autowired
+    UnusedTagSweeper unusedTagSweeper;
+
     Post post;
     User user;
 
+    // 새 태그는 테스트 트랜잭션과 별도로 커밋되므로, 다른 테스트에서 남은 태그를 먼저 정리
+    @BeforeTransaction
+    void deleteUnusedTags() {
+        unusedTagSweeper.sweep(LocalDateTime.now().plusSeconds(1));
+    }
+
     @BeforeEach
     void before() {
         user = userRepository.findByNickname("test1").get();
@@ -510,6 +522,27 @@ class PostControllerTest {
     }
 
 
+    @Test
+    @DisplayName("[성공] 전체 게시글 조회 - 변경이 없으면 ETag 로 304 응답")
+    void findAllPost_NotModified() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            postService.registerPost(user, getRequest("테스트", "테스트 게시글 입니다.",FREE));
+        }
+        String etag = mockMvc.perform(get("/v1/boards/"+FREE+"?size=10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/v1/boards/"+FREE+"?size=10").header("If-None-Match", etag));
+
+        //then
+        assertThat(etag).startsWith("W/");
+        perform.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     private PostDto.Request getRequest(String title, String content, String type, String... tagName) {
         return getRequest(title, content, type, false, tagName);
     }
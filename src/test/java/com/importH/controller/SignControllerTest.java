@@ -10,10 +10,11 @@ import com.importH.domain.user.service.SignService;
 import com.importH.domain.user.social.OauthAdapterImpl;
 import com.importH.domain.user.social.OauthTokenResponse;
 import com.importH.domain.user.social.SocialProfile;
-import com.importH.domain.user.token.RefreshToken;
 import com.importH.domain.user.token.RefreshTokenRepository;
+import com.importH.domain.user.token.TokenDto;
 import com.importH.global.error.code.CommonErrorCode;
 import com.importH.global.error.code.UserErrorCode;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,17 +24,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -176,20 +183,33 @@ class SignControllerTest {
     }
 
     public static final String OAUTH_URL = "/v1/social/";
+    public static final String SOCIAL_EMAIL = "소셜@mail.com";
+
+    /**
+     * 소셜 로그인은 다른 스레드에서 계정을 저장하므로 테스트 트랜잭션으로 롤백되지 않음
+     */
+    @AfterEach
+    void deleteSocialUser() {
+        userRepository.findByEmail(SOCIAL_EMAIL).ifPresent(userRepository::delete);
+    }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @DisplayName("[성공] 소셜 로그인")
     void socialLogin_success() throws Exception {
 
         // given
         String provider = "google";
-        given(oauthAdapter.getToken(any(),any())).willReturn(OauthTokenResponse.builder().build());
-        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(socialProfile("테스트", "테스트@mail.com"));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(socialProfile("new", "테스트", SOCIAL_EMAIL)));
 
 
         // when
-        ResultActions perform = mvc.perform(get(OAUTH_URL + provider)
-                .param("code", "code"));
+        MvcResult result = mvc.perform(get(OAUTH_URL + provider)
+                        .param("code", "code"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions perform = mvc.perform(asyncDispatch(result));
 
 
         //then
@@ -204,20 +224,24 @@ class SignControllerTest {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @DisplayName("[성공] 소셜 로그인 - 기존 계정 존재시 기존 계정으로 로그인")
     void socialLogin_success_existUser() throws Exception {
 
         // given
         String provider = "google";
-        User user = userRepository.findByNickname("test1").get();
+        User user = userFactory.createNewAccount("소셜", SOCIAL_EMAIL, "social", true);
 
-        given(oauthAdapter.getToken(any(),any())).willReturn(OauthTokenResponse.builder().build());
-        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(socialProfile("테스트", user.getEmail()));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(socialProfile("exist", "테스트", user.getEmail())));
 
 
         // when
-        ResultActions perform = mvc.perform(get(OAUTH_URL + provider)
-                .param("code", "code"));
+        MvcResult result = mvc.perform(get(OAUTH_URL + provider)
+                        .param("code", "code"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions perform = mvc.perform(asyncDispatch(result));
 
 
         //then
@@ -232,17 +256,21 @@ class SignControllerTest {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @DisplayName("[실패] 소셜 로그인 - 사용자 정보에 이메일 , 이름 존재하지 않음")
     void socialLogin_fail() throws Exception {
 
         // given
         String provider = "google";
-        given(oauthAdapter.getToken(any(),any())).willReturn(OauthTokenResponse.builder().build());
-        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(socialProfile(null, null));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(socialProfile("fail", null, null)));
 
         // when
-        ResultActions perform = mvc.perform(get(OAUTH_URL + provider)
-                .param("code", "code"));
+        MvcResult result = mvc.perform(get(OAUTH_URL + provider)
+                        .param("code", "code"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions perform = mvc.perform(asyncDispatch(result));
 
         //then
         perform
@@ -256,7 +284,7 @@ class SignControllerTest {
     @DisplayName("[성공] 로그인 - 정상적인 요청 ")
     void login_success() throws Exception {
         // given
-        User user = getNewUser(null);
+        User user = getNewUser();
         LoginDto loginDto = getLoginDto(user, "12341234");
 
         // when
@@ -274,11 +302,14 @@ class SignControllerTest {
     }
 
     @Test
-    @DisplayName("[성공] 로그인 - 리프레시 토큰 저장이 아닌 업데이트되는 경우")
-    void login_success_update_refreshToken() throws Exception {
+    @DisplayName("[성공] 로그인 - 다른 기기에서 다시 로그인하면 리프레시 토큰을 추가로 저장")
+    void login_success_multiple_devices() throws Exception {
         // given
-        User user = getNewUser(RefreshToken.builder().token("token").build());
+        User user = getNewUser();
         LoginDto loginDto = getLoginDto(user, "12341234");
+        mvc.perform(post(V_1_LOGIN)
+                .content(mapper.writeValueAsString(loginDto))
+                .contentType(MediaType.APPLICATION_JSON));
 
         // when
         ResultActions perform = mvc.perform(post(V_1_LOGIN)
@@ -291,15 +322,36 @@ class SignControllerTest {
                 .andExpect(jsonPath("$.data.accessToken").exists())
                 .andExpect(jsonPath("$.data.refreshToken").exists());
 
-        verify(refreshTokenRepository, never()).save(any());
+        verify(refreshTokenRepository, times(2)).save(any());
 
     }
 
+    @Test
+    @DisplayName("[실패] 로그아웃한 기기의 리프레시 토큰으로 API 인증 - 401 (entryPoint)")
+    void logout_fail_refreshToken_as_accessToken() throws Exception {
+        // given
+        User user = getNewUser();
+        TokenDto token = signService.login(user.getEmail(), "12341234");
+        mvc.perform(post("/v1/logout")
+                        .header("Authorization", token.getAccessToken())
+                        .content(mapper.writeValueAsString(TokenDto.builder().refreshToken(token.getRefreshToken()).build()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // when
+        ResultActions perform = mvc.perform(post("/v1/logout/all")
+                .header("Authorization", token.getRefreshToken()));
+
+        //then
+        perform.andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/entryPoint"));
+    }
+
     @Test
     @DisplayName("[실패] 로그인 실패 - 옳바르지 않은 패스워드")
     void login_fail_different_Password() throws Exception {
         // given
-        User user = getNewUser(null);
+        User user = getNewUser();
         LoginDto loginDto = getLoginDto(user, "123412345");
         UserErrorCode errorCode = UserErrorCode.EMAIL_LOGIN_FAILED;
 
@@ -316,16 +368,16 @@ class SignControllerTest {
         verify(refreshTokenRepository, times(0)).save(any());
     }
 
-    private User getNewUser(RefreshToken token) {
-        return userFactory.createNewAccount("테스트", "테스트", "테스트", true,false,false,token);
+    private User getNewUser() {
+        return userFactory.createNewAccount("테스트", "테스트", "테스트", true,false,false);
     }
 
     private LoginDto getLoginDto(User user, String password) {
         return LoginDto.builder().email(user.getEmail()).password(password).build();
     }
 
-    private SocialProfile socialProfile(String name, String email) {
-        return SocialProfile.builder().name(name).email(email).oauthId("..").imageUrl("...").build();
+    private SocialProfile socialProfile(String oauthId, String name, String email) {
+        return SocialProfile.builder().name(name).email(email).oauthId("google:" + oauthId).imageUrl("...").build();
     }
 
 
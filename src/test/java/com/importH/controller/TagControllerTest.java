@@ -0,0 +1,52 @@
+package com.importH.controller;
+
+import com.importH.domain.tag.TagService;
+import com.importH.domain.tag.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:/application-test.properties")
+class TagControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    TagService tagService;
+
+    @Test
+    @DisplayName("[성공] 인기 태그 조회 - 최대 개수를 넘으면 100 개로 제한")
+    void findTrendingTags_success_maxSize() throws Exception {
+        // when
+        mockMvc.perform(get("/v1/tags/trending").param("window", "WEEK").param("size", "100000"))
+                .andExpect(status().isOk());
+
+        //then
+        verify(tagService).getTrendingTags(TrendingWindow.WEEK, 100);
+    }
+
+    @Test
+    @DisplayName("[성공] 인기 태그 조회 - 0 이하의 개수는 1 개로 조회")
+    void findTrendingTags_success_minSize() throws Exception {
+        // when
+        mockMvc.perform(get("/v1/tags/trending").param("size", "-5"))
+                .andExpect(status().isOk());
+
+        //then
+        verify(tagService).getTrendingTags(TrendingWindow.DAY, 1);
+    }
+}
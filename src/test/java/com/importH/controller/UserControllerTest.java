@@ -393,6 +393,54 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.list[*]", hasSize(10)));
     }
 
+    @Test
+    @WithAccount("테스트1")
+    @DisplayName("[성공] 유저 스크랩 가져오기 - nextCursor 로 다음 페이지")
+    void findAllScraps_cursor() throws Exception {
+        // given
+        user = userRepository.findByNickname("테스트1").get();
+        for (int i = 0; i < 15; i++) {
+            Post post = postFactory.createPost(user);
+            postScrapFactory.createScrap(user,post);
+        }
+        String first = mockMvc.perform(get("/v1/users/" + user.getId() + "/scrap?size=10"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+        Long nextCursor = objectMapper.readTree(first).get("nextCursor").asLong();
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/v1/users/" + user.getId() + "/scrap?size=10&lastId=" + nextCursor));
+
+        //then
+        perform
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.list[*]", hasSize(5)));
+    }
+
+    @Test
+    @WithAccount("테스트1")
+    @DisplayName("[성공] 유저 스크랩/좋아요/작성한 게시글 수")
+    void countUserPosts_success() throws Exception {
+        // given
+        user = userRepository.findByNickname("테스트1").get();
+        for (int i = 0; i < 3; i++) {
+            Post post = postFactory.createPost(user);
+            postScrapFactory.createScrap(user,post);
+        }
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/v1/users/" + user.getId() + "/post-counts"));
+
+        //then
+        perform
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.scrapCount").value(3))
+                .andExpect(jsonPath("$.data.likeCount").value(0))
+                .andExpect(jsonPath("$.data.postCount").value(3));
+    }
+
 
     @Test
     @WithAccount("테스트")
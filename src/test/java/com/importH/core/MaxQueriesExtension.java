@@ -0,0 +1,32 @@
+package com.importH.core;
+
+import com.importH.global.sql.QueryCounter;
+import com.importH.global.sql.QueryScope;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.open(Integer.MAX_VALUE));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryScope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryScope.class);
+        scope.close();
+
+        int maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+        assertThat(scope.getCount())
+                .withFailMessage("expected at most %d queries but %d executed:%n%s",
+                        maxQueries, scope.getCount(), String.join(System.lineSeparator(), scope.getStatements()))
+                .isLessThanOrEqualTo(maxQueries);
+    }
+}
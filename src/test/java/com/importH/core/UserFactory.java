@@ -3,8 +3,6 @@ package com.importH.core;
 import com.importH.domain.user.entity.InfoAgree;
 import com.importH.domain.user.entity.User;
 import com.importH.domain.user.repository.UserRepository;
-import com.importH.domain.user.token.RefreshToken;
-import com.importH.domain.user.token.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -18,21 +16,18 @@ public class UserFactory {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
-    private final RefreshTokenRepository refreshTokenRepository;
-
-
     public User createNewAccount(String nickname, String email, String pathId, boolean emailVerified) {
 
-        return createNewAccount(nickname,email,pathId,emailVerified,false,false,null);
+        return createNewAccount(nickname,email,pathId,emailVerified,false,false);
     }
 
     public User createNewAccount(String nickname, boolean infoByWeb, boolean infoByEmail) {
-        return createNewAccount(nickname, nickname, nickname, true, infoByWeb, infoByEmail,null);
+        return createNewAccount(nickname, nickname, nickname, true, infoByWeb, infoByEmail);
     }
 
-    public User createNewAccount(String nickname, String email, String pathId, boolean emailVerified, boolean infoByWeb , boolean infoByEmail, RefreshToken token) {
+    public User createNewAccount(String nickname, String email, String pathId, boolean emailVerified, boolean infoByWeb , boolean infoByEmail) {
 
-        User save = userRepository.save(User.builder()
+        return userRepository.save(User.builder()
                 .email(email)
                 .nickname(nickname)
                 .introduction("테스트 입니다.")
@@ -43,7 +38,5 @@ public class UserFactory {
                 .weekAgree(true)
                 .infoAgree(new InfoAgree(infoByEmail, infoByWeb))
                 .build());
-        save.setToken(token);
-        return save;
     }
 }
\ No newline at end of file
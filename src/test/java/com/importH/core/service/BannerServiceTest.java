@@ -1,6 +1,7 @@
 package com.importH.core.service;
 
 import com.importH.domain.banner.Banner;
+import com.importH.domain.banner.BannerCache;
 import com.importH.domain.banner.BannerDto.Request;
 import com.importH.domain.banner.BannerDto.Response;
 import com.importH.domain.banner.BannerRepository;
@@ -11,10 +12,10 @@ import com.importH.domain.tag.TagDto;
 import com.importH.domain.tag.TagService;
 import com.importH.global.error.code.BannerErrorCode;
 import com.importH.global.error.exception.BannerException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -39,9 +40,16 @@ class BannerServiceTest {
     @Mock
     FileService fileService;
 
-    @InjectMocks
+    BannerCache bannerCache;
+
     BannerService bannerService;
 
+    @BeforeEach
+    void before() {
+        bannerCache = new BannerCache(bannerRepository);
+        bannerService = new BannerService(bannerRepository, fileService, tagService, bannerCache);
+    }
+
 
     @Test
     @DisplayName("[성공] 배너 등록")
@@ -92,13 +100,15 @@ class BannerServiceTest {
     }*/
 
     @Test
-    @DisplayName("[성공] 배너 조회 성공")
+    @DisplayName("[성공] 배너 조회 성공 - 스냅샷에서 조회")
     void getBanner_success() throws Exception {
         // given
         Request req = getRequest();
-        when(bannerRepository.findAll()).thenReturn(List.of(getEntity(req),getEntity(req),getEntity(req)));
+        when(bannerRepository.findAllWithTags()).thenReturn(List.of(getEntity(req),getEntity(req),getEntity(req)));
+        bannerCache.refresh();
 
         // when
+        bannerService.getBanners();
         List<Response> banners = bannerService.getBanners();
 
         //then
@@ -112,7 +122,7 @@ class BannerServiceTest {
 
         assertThat(banners.get(0).getTags()).hasSameElementsAs(req.getTags());
 
-        verify(bannerRepository, times(1)).findAll();
+        verify(bannerRepository, times(1)).findAllWithTags();
     }
 
 
@@ -131,6 +141,7 @@ class BannerServiceTest {
 
         //then
         verify(bannerRepository, times(1)).delete(any());
+        verify(bannerRepository, times(1)).findAllWithTags();
 
     }
 
@@ -5,6 +5,7 @@ import com.importH.domain.comment.CommentDto.Request;
 import com.importH.domain.comment.CommentRepository;
 import com.importH.domain.comment.CommentService;
 import com.importH.domain.post.entity.Post;
+import com.importH.domain.post.service.BoardVersion;
 import com.importH.domain.post.service.PostService;
 import com.importH.domain.user.entity.User;
 import com.importH.global.error.code.CommentErrorCode;
@@ -43,6 +44,9 @@ class CommentServiceTest {
     @Mock
     PostService postService;
 
+    @Mock
+    BoardVersion boardVersion;
+
     @Spy
     ApplicationEventPublisher publisher;
 
@@ -15,10 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -112,7 +112,7 @@ class PostLikeServiceTest {
         PageRequest of = PageRequest.of(0, 10);
         // when
 
-        List<UserPostDto.Response> allPostLike = postLikeService.findAllPostLike(user, of);
+        Slice<UserPostDto.Response> allPostLike = postLikeService.findAllPostLike(user, null, of);
 
         //then
         assertThat(allPostLike).hasSize(10);
@@ -134,7 +134,7 @@ class PostLikeServiceTest {
         PageRequest of = PageRequest.of(0, 10);
 
         // when
-        List<UserPostDto.Response> allPostLike = postLikeService.findAllPostLike(user, of);
+        Slice<UserPostDto.Response> allPostLike = postLikeService.findAllPostLike(user, null, of);
 
         //then
         assertThat(allPostLike)
@@ -0,0 +1,67 @@
+package com.importH.core.service;
+
+import com.importH.core.MaxQueries;
+import com.importH.core.UserFactory;
+import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.service.PostService;
+import com.importH.domain.tag.TagDto;
+import com.importH.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:/application-test.properties")
+class PostQueryCountTest {
+
+    private static final String FREE = "free";
+    private static final int POST_COUNT = 10;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    UserFactory userFactory;
+
+    @Autowired
+    EntityManager em;
+
+    @BeforeEach
+    void before() {
+        User user = userFactory.createNewAccount("test", "test" + "@email.com", "pathId", true);
+        for (int i = 0; i < POST_COUNT; i++) {
+            postService.registerPost(user, PostDto.Request.builder()
+                    .title("테스트")
+                    .type(FREE)
+                    .content("테스트 게시글 입니다.")
+                    .tags(List.of(TagDto.builder().name("자바").build()))
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @MaxQueries(6)
+    @DisplayName("[성공] 전체 게시글 조회 - 게시글 수와 관계없이 쿼리 수 일정")
+    void findAll_queryCount() throws Exception {
+        // when
+        List<PostDto.ResponseAll> allPost = postService.findAllPost(FREE, PageRequest.of(0, POST_COUNT, Sort.by("createdAt").descending()));
+
+        //then
+        assertThat(allPost).hasSize(POST_COUNT);
+        assertThat(allPost).allSatisfy(responseAll -> assertThat(responseAll.getResponseInfo().getTags()).hasSize(1));
+    }
+}
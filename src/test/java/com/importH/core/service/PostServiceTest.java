@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
@@ -430,7 +431,7 @@ class PostServiceTest {
         PageRequest of = PageRequest.of(0, 10);
         // when
 
-        List<UserPostDto.Response> allPostByWrote = postService.findAllPostByWrote(user, of);
+        Slice<UserPostDto.Response> allPostByWrote = postService.findAllPostByWrote(user, null, of);
 
         //then
         assertThat(allPostByWrote).hasSize(10);
@@ -459,7 +460,7 @@ class PostServiceTest {
         PageRequest of = PageRequest.of(0, 10);
         // when
 
-        List<UserPostDto.Response> allPostByWrote = postService.findAllPostByWrote(another, of);
+        Slice<UserPostDto.Response> allPostByWrote = postService.findAllPostByWrote(another, null, of);
 
         //then
         assertThat(allPostByWrote).hasSize(size);
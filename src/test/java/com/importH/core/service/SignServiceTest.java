@@ -2,6 +2,8 @@ package com.importH.core.service;
 
 import com.importH.domain.user.token.RefreshToken;
 import com.importH.domain.user.token.RefreshTokenRepository;
+import com.importH.domain.user.token.RevokedTokenRepository;
+import com.importH.domain.user.token.TokenWatermarkRepository;
 import com.importH.domain.user.token.TokenDto;
 import com.importH.domain.user.service.SignService;
 import com.importH.domain.user.dto.SignupDto;
@@ -42,6 +44,12 @@ class SignServiceTest {
     @Autowired
     RefreshTokenRepository tokenRepository;
 
+    @Autowired
+    RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    TokenWatermarkRepository tokenWatermarkRepository;
+
     @Autowired
     PasswordEncoder passwordEncoder;
 
@@ -167,7 +175,7 @@ class SignServiceTest {
                 .hasFieldOrProperty("accessToken")
                 .hasFieldOrProperty("refreshToken");
 
-        assertThat(tokenRepository.existsByToken(tokenDto.getRefreshToken())).isTrue();
+        assertThat(tokenRepository.existsByTokenHash(RefreshToken.hash(tokenDto.getRefreshToken()))).isTrue();
     }
 
     @Test
@@ -194,11 +202,48 @@ class SignServiceTest {
 
         // when
         TokenDto reissue = signService.reissue(tokenDto);
-        RefreshToken refreshToken = user.getRefreshToken();
+        RefreshToken oldToken = tokenRepository.findWithUserByTokenHash(RefreshToken.hash(tokenDto.getRefreshToken())).get();
+        RefreshToken newToken = tokenRepository.findWithUserByTokenHash(RefreshToken.hash(reissue.getRefreshToken())).get();
+
+        //then
+        assertThat(reissue.getRefreshToken()).isNotEqualTo(tokenDto.getRefreshToken());
+        assertThat(newToken.getFamilyId()).isEqualTo(oldToken.getFamilyId());
+        assertThat(newToken.getUser().getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("[실패] 토큰 재발급 - 이미 사용된 토큰을 다시 사용하면 같은 family 의 토큰 모두 폐기")
+    void reissue_fail_reused() throws Exception {
+        // given
+        TokenDto tokenDto = loginUser();
+        TokenDto reissue = signService.reissue(tokenDto);
+        SecurityErrorCode errorCode = SecurityErrorCode.REFRESH_TOKEN_REUSED;
+
+        // when
+        SecurityException exception = assertThrows(SecurityException.class, () -> signService.reissue(tokenDto));
 
         //then
-        assertThat(refreshToken.getToken()).isEqualTo(reissue.getRefreshToken());
+        assertThat(exception)
+                .hasFieldOrPropertyWithValue("errorCode", errorCode)
+                .hasFieldOrPropertyWithValue("errorMessage", errorCode.getDescription());
 
+        assertThrows(SecurityException.class, () -> signService.reissue(reissue));
+    }
+
+    @Test
+    @DisplayName("[성공] 토큰 재발급 - 다른 기기의 토큰은 재사용 폐기에 영향 없음")
+    void reissue_success_other_device() throws Exception {
+        // given
+        TokenDto device1 = loginUser();
+        TokenDto device2 = loginUser();
+        signService.reissue(device1);
+        assertThrows(SecurityException.class, () -> signService.reissue(device1));
+
+        // when
+        TokenDto reissue = signService.reissue(device2);
+
+        //then
+        assertThat(reissue.getRefreshToken()).isNotNull();
     }
 
 
@@ -224,6 +269,37 @@ class SignServiceTest {
 
     }
 
+    @Test
+    @DisplayName("[성공] 로그아웃 - 액세스 토큰 jti 와 리프레시 토큰 폐기")
+    void logout_success() throws Exception {
+        // given
+        TokenDto tokenDto = loginUser();
+        String jti = jwtProvider.parseClaims(tokenDto.getAccessToken()).getId();
+
+        // when
+        signService.logout(tokenDto.getAccessToken(), tokenDto.getRefreshToken());
+
+        //then
+        assertThat(revokedTokenRepository.existsById(jti)).isTrue();
+        assertThrows(SecurityException.class, () -> signService.reissue(tokenDto));
+    }
+
+    @Test
+    @DisplayName("[성공] 모든 기기 로그아웃 - 기준 시각 저장, 모든 리프레시 토큰 폐기")
+    void logoutAll_success() throws Exception {
+        // given
+        TokenDto device1 = loginUser();
+        TokenDto device2 = loginUser();
+
+        // when
+        signService.logoutAll(user.getId());
+
+        //then
+        assertThat(tokenWatermarkRepository.findById(user.getId())).isPresent();
+        assertThrows(SecurityException.class, () -> signService.reissue(device1));
+        assertThrows(SecurityException.class, () -> signService.reissue(device2));
+    }
+
     @Test
     @DisplayName("토큰 정보 확인")
     void existInfoInToken() throws Exception {
@@ -5,6 +5,7 @@ import com.importH.core.PostScrapFactory;
 import com.importH.core.UserFactory;
 import com.importH.core.WithAccount;
 import com.importH.domain.image.FileService;
+import com.importH.domain.post.service.BoardVersion;
 import com.importH.domain.post.service.PostLikeService;
 import com.importH.domain.user.dto.UserPostDto;
 import com.importH.domain.post.entity.Post;
@@ -27,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +38,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Transactional
@@ -49,6 +52,9 @@ class UserServiceTest {
     @MockBean
     FileService fileService;
 
+    @MockBean
+    BoardVersion boardVersion;
+
     @Autowired
     UserFactory userFactory;
 
@@ -92,6 +98,7 @@ class UserServiceTest {
                 .hasFieldOrPropertyWithValue("pathId", user.getPathId())
                 .hasFieldOrPropertyWithValue("oauthId", user.getOauthId())
                 .hasFieldOrPropertyWithValue("emailVerified", user.isEmailVerified());
+        verify(boardVersion).bump();
 
     }
 
@@ -198,6 +205,7 @@ class UserServiceTest {
                 .hasFieldOrPropertyWithValue("role", null)
                 .hasFieldOrPropertyWithValue("deleted", true)
                 .hasFieldOrProperty("deletedTime");
+        verify(boardVersion).bump();
     }
 
     @Test
@@ -410,7 +418,7 @@ class UserServiceTest {
         PageRequest request = PageRequest.of(0, 10);
 
         // when
-        List<UserPostDto.Response> responses = userService.findAllScrap(user.getId(), user, request);
+        Slice<UserPostDto.Response> responses = userService.findAllScrap(user.getId(), user, null, request);
 
         //then
         assertThat(responses).hasSize(10)
@@ -429,7 +437,7 @@ class UserServiceTest {
         SecurityErrorCode err = SecurityErrorCode.ACCESS_DENIED;
 
         // when
-        SecurityException securityException = assertThrows(SecurityException.class, () -> userService.findAllScrap(another.getId(), this.user, request));
+        SecurityException securityException = assertThrows(SecurityException.class, () -> userService.findAllScrap(another.getId(), this.user, null, request));
 
         //then
         assertThat(securityException).hasMessageContaining(err.getDescription());
@@ -452,7 +460,7 @@ class UserServiceTest {
         PageRequest request = PageRequest.of(0, 10);
 
         // when
-        List<UserPostDto.Response> responses = userService.findAllPostByLike(user.getId(), user, request);
+        Slice<UserPostDto.Response> responses = userService.findAllPostByLike(user.getId(), user, null, request);
 
         //then
         assertThat(responses).hasSize(10)
@@ -471,7 +479,7 @@ class UserServiceTest {
         SecurityErrorCode err = SecurityErrorCode.ACCESS_DENIED;
 
         // when
-        SecurityException securityException = assertThrows(SecurityException.class, () -> userService.findAllPostByLike(another.getId(), this.user, request));
+        SecurityException securityException = assertThrows(SecurityException.class, () -> userService.findAllPostByLike(another.getId(), this.user, null, request));
 
         //then
         assertThat(securityException).hasMessageContaining(err.getDescription());
@@ -0,0 +1,60 @@
+package com.importH.domain.banner;
+
+import com.importH.domain.banner.BannerDto.Response;
+import com.importH.domain.tag.Tag;
+import com.importH.domain.tag.TagDto;
+import com.importH.domain.tag.TagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BannerCacheTest {
+
+    @Autowired
+    BannerRepository bannerRepository;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @AfterEach
+    void after() {
+        bannerRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[성공] 트랜잭션 밖(기동 시점)에서 스냅샷 생성 - 태그까지 읽음")
+    void refresh_outsideTransaction() throws Exception {
+        // given
+        Tag tag = tagRepository.save(Tag.builder().name("자바").build());
+        bannerRepository.save(Banner.builder()
+                .nickname("관리자")
+                .title("배너")
+                .url("https://importh.com")
+                .content("배너 내용")
+                .imageUrl("/upload/banner.png")
+                .tags(new HashSet<>(List.of(tag)))
+                .build());
+
+        BannerCache bannerCache = new BannerCache(bannerRepository);
+
+        // when
+        bannerCache.refresh();
+
+        //then
+        List<Response> banners = bannerCache.getBanners();
+        assertThat(banners).hasSize(1);
+        assertThat(banners.get(0).getTags()).extracting(TagDto::getName).containsExactly("자바");
+    }
+}
@@ -0,0 +1,98 @@
+package com.importH.domain.digest;
+
+import com.importH.domain.digest.DigestDto.NewComment;
+import com.importH.domain.digest.DigestDto.Recipient;
+import com.importH.domain.digest.DigestDto.TopPost;
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.AppProperties;
+import com.importH.global.config.ExecutorProperties;
+import com.importH.global.config.NamedExecutors;
+import com.importH.global.mail.MailTemplateRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DigestComposerTest {
+
+    DigestComposer digestComposer;
+
+    ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void before() throws Exception {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        MailTemplateRenderer mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+        mailTemplateRenderer.precompile();
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost("http://localhost:8090");
+        ExecutorProperties executorProperties = new ExecutorProperties();
+        executorProperties.getDigestRender().setCorePoolSize(4);
+        executorProperties.getDigestRender().setMaxPoolSize(4);
+        executor = NamedExecutors.create("digest-render", executorProperties.getDigestRender(), new SimpleMeterRegistry());
+        executor.initialize();
+
+        digestComposer = new DigestComposer(mailTemplateRenderer, appProperties, executorProperties, executor);
+    }
+
+    @AfterEach
+    void after() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 수신자별 새 댓글과 공통 인기 게시글로 메일 작성")
+    void compose_success() throws Exception {
+        // given
+        String topPosts = digestComposer.renderTopPosts(List.of(new TopPost(1L, "인기 <글>", "free", 10, 100)));
+        List<Recipient> recipients = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            recipients.add(new Recipient(userId, "user" + userId + "@email.com", "사용자" + userId));
+        }
+        Map<Long, List<NewComment>> newComments = Map.of(3L, List.of(new NewComment(3L, 7L, "내 글", "questions", 2L)));
+
+        // when
+        List<EmailMessageDto> messages = digestComposer.compose(recipients, topPosts, newComments);
+
+        //then
+        assertThat(messages).hasSize(10);
+        assertThat(messages.get(0).getTo()).isEqualTo("user1@email.com");
+        assertThat(messages.get(0).getMessage())
+                .contains("사용자1")
+                .contains("http://localhost:8090/free/1")
+                .contains("인기 &lt;글&gt;")
+                .contains("새로운 댓글이 없습니다.");
+        assertThat(messages.get(2).getMessage())
+                .contains("http://localhost:8090/questions/7")
+                .contains("새 댓글 2개");
+    }
+
+    @Test
+    @DisplayName("[성공] 이번 주 게시글이 없으면 안내 문구")
+    void renderTopPosts_empty() throws Exception {
+        // when
+        String topPosts = digestComposer.renderTopPosts(List.of());
+
+        //then
+        assertThat(topPosts).contains("이번 주에 작성된 게시글이 없습니다.");
+    }
+}
@@ -0,0 +1,157 @@
+package com.importH.domain.digest;
+
+import com.importH.domain.digest.DigestDto.Recipient;
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.DigestProperties;
+import com.importH.global.mail.EmailMessenger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+class WeeklyDigestServiceTest {
+
+    private static final int USER_COUNT = 5;
+    private static final LocalDate WEEK_START = LocalDate.of(2022, 2, 28);
+
+    @Autowired
+    DigestJobRepository digestJobRepository;
+
+    DigestQueryRepository digestQueryRepository;
+    DigestComposer digestComposer;
+    EmailMessenger emailMessenger;
+    DigestProperties properties;
+    Clock clock;
+
+    List<String> sent = new ArrayList<>();
+
+    @BeforeEach
+    void before() {
+        digestQueryRepository = mock(DigestQueryRepository.class);
+        digestComposer = mock(DigestComposer.class);
+        emailMessenger = mock(EmailMessenger.class);
+
+        properties = new DigestProperties();
+        properties.setChunkSize(2);
+        properties.setPermitsPerSecond(0);
+        clock = Clock.fixed(Instant.parse("2022-03-02T00:00:00Z"), ZoneId.of("UTC"));
+
+        when(digestQueryRepository.findTopPosts(any(), any(), anyInt())).thenReturn(List.of());
+        when(digestQueryRepository.findNewComments(any(), any(), any())).thenReturn(List.of());
+        when(digestQueryRepository.findRecipients(anyLong(), eq(2))).thenAnswer(invocation -> recipientsAfter(invocation.getArgument(0)));
+        when(digestComposer.renderTopPosts(any())).thenReturn("");
+        when(digestComposer.compose(any(), any(), any())).thenAnswer(invocation -> {
+            List<Recipient> recipients = invocation.getArgument(0);
+            return recipients.stream()
+                    .map(recipient -> EmailMessageDto.builder().to(recipient.getEmail()).subject("digest").message("").build())
+                    .collect(Collectors.toList());
+        });
+        when(emailMessenger.sendEmails(any())).thenAnswer(invocation -> {
+            List<EmailMessageDto> batch = invocation.getArgument(0);
+            batch.forEach(message -> sent.add(message.getTo()));
+            return Map.of();
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 이번 주 작업을 만들고 청크마다 진행 상황을 기록하며 모두 발송")
+    void send_success() throws Exception {
+        // when
+        DigestJob job = service().send();
+
+        //then
+        assertThat(job.isCompleted()).isTrue();
+        assertThat(job.getWeekStart()).isEqualTo(WEEK_START);
+        assertThat(job.getLastUserId()).isEqualTo(USER_COUNT);
+        assertThat(job.getSentCount()).isEqualTo(USER_COUNT);
+        assertThat(job.getLeaseUntil()).isNull();
+        assertThat(sent).hasSize(USER_COUNT);
+        assertThat(digestJobRepository.findByWeekStart(WEEK_START)).isPresent();
+    }
+
+    @Test
+    @DisplayName("[성공] 종료가 시작되면 진행 중인 청크까지 발송하고 멈춘 뒤, 재시작시 이어서 발송")
+    void send_pauseAndResume() throws Exception {
+        // given
+        WeeklyDigestService service = service();
+        doAnswer(invocation -> {
+            service.close();
+            return recipientsAfter(2L);
+        }).when(digestQueryRepository).findRecipients(2L, 2);
+
+        // when
+        DigestJob paused = service.send();
+
+        //then
+        assertThat(paused.isCompleted()).isFalse();
+        assertThat(paused.getLastUserId()).isEqualTo(2);
+        assertThat(paused.getSentCount()).isEqualTo(2);
+        assertThat(paused.getLeaseUntil()).isNull();
+        assertThat(sent).containsExactly("user1@email.com", "user2@email.com");
+
+        // when - 재시작
+        doAnswer(invocation -> recipientsAfter(2L)).when(digestQueryRepository).findRecipients(2L, 2);
+        service().resume();
+
+        //then
+        DigestJob resumed = digestJobRepository.findByWeekStart(WEEK_START).get();
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getSentCount()).isEqualTo(USER_COUNT);
+        assertThat(sent).doesNotHaveDuplicates().hasSize(USER_COUNT);
+    }
+
+    @Test
+    @DisplayName("[성공] 이번 주 작업이 끝났으면 다시 발송하지 않음")
+    void send_completed() throws Exception {
+        // given
+        service().send();
+        sent.clear();
+
+        // when
+        DigestJob job = service().send();
+
+        //then
+        assertThat(job.isCompleted()).isTrue();
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[실패] 다른 노드가 발송 중인 작업은 발송하지 않음")
+    void send_fail_claimedByOtherNode() throws Exception {
+        // given
+        DigestJob job = digestJobRepository.save(DigestJob.start(WEEK_START));
+        LocalDateTime now = LocalDateTime.now(clock);
+        digestJobRepository.claim(job.getId(), DigestJobStatus.RUNNING, now, now.plusMinutes(10));
+
+        // when
+        DigestJob result = service().send();
+
+        //then
+        assertThat(result).isNull();
+        assertThat(sent).isEmpty();
+    }
+
+    private WeeklyDigestService service() {
+        return new WeeklyDigestService(digestQueryRepository, digestJobRepository, digestComposer, emailMessenger,
+                properties, Runnable::run, clock);
+    }
+
+    private List<Recipient> recipientsAfter(long lastUserId) {
+        return LongStream.rangeClosed(lastUserId + 1, Math.min(lastUserId + 2, USER_COUNT))
+                .mapToObj(userId -> new Recipient(userId, "user" + userId + "@email.com", "사용자" + userId))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,7 @@
 package com.importH.domain.post;
 
+import com.importH.domain.post.dto.PostDto;
+import com.importH.domain.post.entity.ContentPreview;
 import com.importH.domain.post.entity.Post;
 import com.importH.domain.post.entity.PostType;
 import com.importH.domain.post.repository.PostRepository;
@@ -7,6 +9,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,13 +46,35 @@ class PostCustomRepositoryImplTest {
 
 
         // when
-        List<Post> posts = postRepository.findAllByImportantIsTrue();
+        List<PostDto.ResponseAll> posts = postRepository.findAllImportantCards();
 
         //then
         assertThat(posts).hasSize(3);
+        assertThat(posts).allSatisfy(card -> assertThat(card.getResponseInfo().isImportant()).isTrue());
 
     }
 
+    @Test
+    @DisplayName("목록 카드는 본문 대신 미리보기를 담음")
+    void findAllCards_preview() throws Exception {
+
+        // given
+        String content = "<p>" + "가".repeat(ContentPreview.MAX_LENGTH) + "</p>";
+        for (int i = 0; i < 3; i++) {
+            postRepository.save(Post.builder().title("테스트").content(content).type(PostType.FREE.getType()).important(false).build());
+        }
+
+        // when
+        Slice<PostDto.ResponseAll> cards = postRepository.findAllCardsByType(PostType.FREE.getType(), PageRequest.of(0, 2));
+
+        //then
+        assertThat(cards.getContent()).hasSize(2);
+        assertThat(cards.hasNext()).isTrue();
+        assertThat(cards.getContent()).allSatisfy(card -> assertThat(card.getResponseInfo().getContent())
+                .isEqualTo(ContentPreview.of(content))
+                .doesNotContain("<p>"));
+    }
+
 
 
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.importH.domain.post.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentPreviewTest {
+
+    @Test
+    @DisplayName("[성공] 마크업 제거 후 공백 정리")
+    void strip_markup() throws Exception {
+        // given
+        String content = "<p>## 안녕하세요</p>\n\n**스프링** &amp; [링크](http://a.b) ![사진](/img.png)";
+
+        // when
+        String preview = ContentPreview.of(content);
+
+        // then
+        assertThat(preview).isEqualTo("안녕하세요 스프링 & 링크 사진");
+    }
+
+    @Test
+    @DisplayName("[성공] 마크다운 문법 위치가 아닌 기호는 본문으로 남김")
+    void keep_plainSymbols() throws Exception {
+        // given
+        String content = "C# 에서 a*b 와 x &gt; y 비교, 2 * 3 = 6";
+        String markdown = "&gt; 인용문\n- 목록 *강조* ~~취소~~ `code`\n```java\nint a = 1;\n```";
+
+        // when
+        String preview = ContentPreview.of(content);
+        String markdownPreview = ContentPreview.of(markdown);
+
+        // then
+        assertThat(preview).isEqualTo("C# 에서 a*b 와 x > y 비교, 2 * 3 = 6");
+        assertThat(markdownPreview).isEqualTo("인용문 목록 강조 취소 code int a = 1;");
+    }
+
+    @Test
+    @DisplayName("[성공] 이스케이프된 태그는 엔티티를 푼 뒤 제거되어 태그로 살아나지 않음")
+    void strip_escapedTag() throws Exception {
+        // given
+        String content = "<p>&lt;script&gt;alert(1)&lt;/script&gt; 본문</p>";
+        String unclosed = "본문 &lt;img src=x onerror=alert(1)";
+
+        // when
+        String preview = ContentPreview.of(content);
+        String unclosedPreview = ContentPreview.of(unclosed);
+
+        // then
+        assertThat(preview).isEqualTo("alert(1) 본문");
+        assertThat(unclosedPreview).isEqualTo("본문 < img src=x onerror=alert(1)");
+    }
+
+    @Test
+    @DisplayName("[성공] 최대 길이를 넘으면 자르고 말줄임")
+    void truncate() throws Exception {
+        // given
+        String content = "가".repeat(ContentPreview.MAX_LENGTH + 10);
+
+        // when
+        String preview = ContentPreview.of(content);
+
+        // then
+        assertThat(preview).isEqualTo("가".repeat(ContentPreview.MAX_LENGTH) + "...");
+    }
+
+    @Test
+    @DisplayName("[성공] 서로게이트 쌍은 중간에서 자르지 않음")
+    void truncate_surrogate() throws Exception {
+        // given
+        String content = "😀".repeat(5);
+
+        // when
+        String preview = ContentPreview.of(content, 3);
+
+        // then
+        assertThat(preview).isEqualTo("😀".repeat(3) + "...");
+    }
+
+    @Test
+    @DisplayName("[성공] 짧은 내용은 그대로")
+    void short_content() throws Exception {
+        assertThat(ContentPreview.of("테스트 게시글 입니다.")).isEqualTo("테스트 게시글 입니다.");
+        assertThat(ContentPreview.of(null)).isNull();
+    }
+}
@@ -10,8 +10,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,7 +45,7 @@ class PostScrapRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 10);
 
         // when
-        Page<UserPostDto.Response> allByUser = postScrapRepository.findAllByUser(user, pageRequest);
+        Slice<UserPostDto.Response> allByUser = postScrapRepository.findAllByUser(user, null, pageRequest);
 
         //then
         assertThat(allByUser.getSize()).isEqualTo(10);
@@ -71,10 +71,54 @@ class PostScrapRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 10);
 
         // when
-        Page<UserPostDto.Response> allByUser = postScrapRepository.findAllByUser(user, pageRequest);
+        Slice<UserPostDto.Response> allByUser = postScrapRepository.findAllByUser(user, null, pageRequest);
 
         //then
         assertThat(allByUser).hasSize(5);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("유저 스크랩 커서 페이징 - 최근 스크랩 순으로 겹치지 않게 이어서 가져오기")
+    void findAllScraps_keyset() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().nickname("테스트3").email("테스트3").build());
+        for (int i = 0; i < 25; i++) {
+            Post post = postRepository.save(Post.builder().user(user).title("테스트" +i).content("테스트"+ i).type(PostType.FREE.getType()).important(false).build());
+            postScrapRepository.save(PostScrap.create(post, user));
+        }
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // when
+        Slice<UserPostDto.Response> first = postScrapRepository.findAllByUser(user, null, pageRequest);
+        Slice<UserPostDto.Response> second = postScrapRepository.findAllByUser(user, last(first), pageRequest);
+        Slice<UserPostDto.Response> third = postScrapRepository.findAllByUser(user, last(second), pageRequest);
+
+        //then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getContent().get(0).getTitle()).isEqualTo("테스트24");
+        assertThat(second.getContent()).hasSize(10)
+                .allSatisfy(response -> assertThat(response.getCursor()).isLessThan(last(first)));
+        assertThat(third.getContent()).hasSize(5);
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("유저 스크랩 수 - 최대 개수까지만 센다")
+    void countByUserUpTo() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().nickname("테스트4").email("테스트4").build());
+        for (int i = 0; i < 5; i++) {
+            Post post = postRepository.save(Post.builder().user(user).title("테스트" +i).content("테스트"+ i).type(PostType.FREE.getType()).important(false).build());
+            postScrapRepository.save(PostScrap.create(post, user));
+        }
+
+        // when, then
+        assertThat(postScrapRepository.countByUserUpTo(user, 10)).isEqualTo(5);
+        assertThat(postScrapRepository.countByUserUpTo(user, 3)).isEqualTo(3);
+    }
+
+    private Long last(Slice<UserPostDto.Response> slice) {
+        return slice.getContent().get(slice.getNumberOfElements() - 1).getCursor();
+    }
+
+}
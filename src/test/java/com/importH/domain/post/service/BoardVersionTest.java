@@ -0,0 +1,50 @@
+package com.importH.domain.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardVersionTest {
+
+    BoardVersion boardVersion = new BoardVersion();
+
+    @AfterEach
+    void after() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 밖에서는 바로 버전 증가")
+    void bump_withoutTransaction() throws Exception {
+        // given
+        String before = boardVersion.etag();
+
+        // when
+        boardVersion.bump();
+
+        // then
+        assertThat(boardVersion.etag()).isNotEqualTo(before).startsWith("W/\"");
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 안에서는 커밋 후에 버전 증가")
+    void bump_afterCommit() throws Exception {
+        // given
+        String before = boardVersion.etag();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        boardVersion.bump();
+
+        // then
+        assertThat(boardVersion.etag()).isEqualTo(before);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(boardVersion.etag()).isNotEqualTo(before);
+    }
+}
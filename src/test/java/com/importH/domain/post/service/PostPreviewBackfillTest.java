@@ -0,0 +1,94 @@
+package com.importH.domain.post.service;
+
+import com.importH.domain.post.entity.Post;
+import com.importH.domain.post.entity.PostType;
+import com.importH.domain.post.repository.PostRepository;
+import com.importH.global.config.PostProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class PostPreviewBackfillTest {
+
+    private static final int POST_COUNT = 7;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    PostPreviewBackfill postPreviewBackfill;
+
+    @BeforeEach
+    void before() {
+        PostProperties postProperties = new PostProperties();
+        postProperties.setPreviewBackfillChunkSize(3);
+        postPreviewBackfill = new PostPreviewBackfill(postRepository, postProperties, new TransactionTemplate(transactionManager));
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            postRepository.save(Post.builder().title("테스트").content("<p>테스트 게시글 " + i + "</p>").type(PostType.FREE.getType()).build());
+        }
+        em.flush();
+        // 컬럼 추가 전에 작성된 게시글
+        em.createQuery("update Post p set p.contentPreview = null").executeUpdate();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("[성공] 미리보기가 없는 게시글을 나눠서 채움")
+    void backfill_success() throws Exception {
+        // when
+        long filled = postPreviewBackfill.backfill();
+        em.clear();
+
+        // then
+        List<Post> posts = postRepository.findAll();
+        assertThat(filled).isEqualTo(POST_COUNT);
+        assertThat(posts).allSatisfy(post -> assertThat(post.getContentPreview()).startsWith("테스트 게시글"));
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 채워진 게시글은 다시 처리하지 않음")
+    void backfill_idempotent() throws Exception {
+        // given
+        postPreviewBackfill.backfill();
+
+        // when
+        long filled = postPreviewBackfill.backfill();
+
+        // then
+        assertThat(filled).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 조회 후 수정되어 미리보기가 채워진 게시글은 덮어쓰지 않음")
+    void backfill_skipEdited() throws Exception {
+        // given
+        Post post = postRepository.findAll().get(0);
+        em.createQuery("update Post p set p.contentPreview = '수정된 미리보기' where p.id = :postId")
+                .setParameter("postId", post.getId())
+                .executeUpdate();
+
+        // when
+        int updated = postRepository.updateContentPreview(post.getId(), "이전 미리보기");
+        em.clear();
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(postRepository.findById(post.getId()).get().getContentPreview()).isEqualTo("수정된 미리보기");
+    }
+}
@@ -0,0 +1,133 @@
+package com.importH.domain.search;
+
+import com.importH.global.config.SearchProperties;
+import com.importH.global.error.code.CommonErrorCode;
+import com.importH.global.error.exception.CommonException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostSearchIndexTest {
+
+    PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void before() throws Exception {
+        postSearchIndex = new PostSearchIndex(new SearchProperties());
+        postSearchIndex.open();
+
+        postSearchIndex.indexAll(List.of(
+                document(1L, "free", "스프링 트랜잭션 질문", "트랜잭션 전파 속성이 헷갈립니다.", "스프링"),
+                document(2L, "questions", "자바 스트림", "스트림에서 트랜잭션을 쓰면 어떻게 되나요?", "자바"),
+                document(3L, "free", "오늘의 일기", "날씨가 좋습니다.", "일상")));
+    }
+
+    @AfterEach
+    void after() throws Exception {
+        postSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("[성공] 제목에 검색어가 있는 게시글이 먼저 조회")
+    void search_relevance() throws Exception {
+        // when
+        List<SearchHit> hits = postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(0, 10));
+
+        //then
+        assertThat(hits).extracting(SearchHit::getPostId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).getTitleHighlight()).contains("<em>");
+    }
+
+    @Test
+    @DisplayName("[성공] 게시판, 태그로 검색 결과 한정")
+    void search_filter() throws Exception {
+        // when
+        List<SearchHit> byBoard = postSearchIndex.search("트랜잭션", "questions", List.of(), PageRequest.of(0, 10));
+        List<SearchHit> byTag = postSearchIndex.search("트랜잭션", null, List.of("스프링"), PageRequest.of(0, 10));
+
+        //then
+        assertThat(byBoard).extracting(SearchHit::getPostId).containsExactly(2L);
+        assertThat(byTag).extracting(SearchHit::getPostId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 삭제된 게시글은 검색되지 않음")
+    void search_deleted() throws Exception {
+        // when
+        postSearchIndex.delete(1L);
+
+        //then
+        assertThat(postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(0, 10)))
+                .extracting(SearchHit::getPostId).containsExactly(2L);
+        assertThat(postSearchIndex.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 전체 재색인 - 기존 문서를 지우고 새 문서로 교체")
+    void rebuild_success() throws Exception {
+        // when
+        long indexed = postSearchIndex.rebuild(List.of(
+                List.of(document(4L, "free", "트랜잭션 격리 수준", "REPEATABLE READ", "스프링"))).iterator());
+
+        //then
+        assertThat(indexed).isEqualTo(1);
+        assertThat(postSearchIndex.count()).isEqualTo(1);
+        assertThat(postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(0, 10)))
+                .extracting(SearchHit::getPostId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("[실패] 전체 재색인 도중 실패하면 이전 색인 유지")
+    void rebuild_fail_keepPrevious() throws Exception {
+        // given
+        Iterator<List<PostDocument>> chunks = Stream.<List<PostDocument>>of(
+                        List.of(document(4L, "free", "트랜잭션 격리 수준", "REPEATABLE READ", "스프링")),
+                        null)
+                .map(chunk -> {
+                    if (chunk == null) {
+                        throw new IllegalStateException("게시글 조회 실패");
+                    }
+                    return chunk;
+                })
+                .iterator();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> postSearchIndex.rebuild(chunks));
+
+        //then
+        assertThat(postSearchIndex.count()).isEqualTo(3);
+        assertThat(postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(0, 10)))
+                .extracting(SearchHit::getPostId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("[실패] 최대 검색 결과 위치를 넘는 페이지 조회")
+    void search_fail_maxResultWindow() throws Exception {
+        // when
+        CommonException exception = assertThrows(CommonException.class,
+                () -> postSearchIndex.search("트랜잭션", null, List.of(), PageRequest.of(100, 10)));
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(CommonErrorCode.NOT_VALID_PARAM);
+    }
+
+    private PostDocument document(Long postId, String boardId, String title, String content, String tag) {
+        return PostDocument.builder()
+                .postId(postId)
+                .boardId(boardId)
+                .title(title)
+                .content(content)
+                .tags(Set.of(tag))
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.importH.domain.tag;
+
+import com.importH.domain.post.entity.Post;
+import com.importH.domain.tag.TagRepository.TagPost;
+import com.importH.global.event.PostChangedEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TagPostIndexTest {
+
+    @Mock
+    TagRepository tagRepository;
+
+    TagPostIndex tagPostIndex;
+
+    @BeforeEach
+    void before() {
+        tagPostIndex = new TagPostIndex(tagRepository);
+        given(tagRepository.findAllTagPosts()).willReturn(List.of(
+                tagPost("자바", 1L), tagPost("자바", 2L), tagPost("자바", 3L),
+                tagPost("스프링", 2L), tagPost("스프링", 3L), tagPost("스프링", 4L)));
+        tagPostIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("[성공] AND 조건은 모든 태그가 달린 게시글을 최신순으로 반환")
+    void findPostIds_and() throws Exception {
+        // when
+        List<Long> postIds = tagPostIndex.findPostIds(List.of("자바", "스프링"), TagMatch.AND, PageRequest.of(0, 10));
+
+        //then
+        assertThat(postIds).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("[성공] OR 조건은 하나라도 달린 게시글을 페이지 만큼 반환")
+    void findPostIds_or() throws Exception {
+        // when
+        List<Long> first = tagPostIndex.findPostIds(List.of("자바", "스프링"), TagMatch.OR, PageRequest.of(0, 3));
+        List<Long> second = tagPostIndex.findPostIds(List.of("자바", "스프링"), TagMatch.OR, PageRequest.of(1, 3));
+
+        //then
+        assertThat(first).containsExactly(4L, 3L, 2L);
+        assertThat(second).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 없는 태그가 포함된 AND 조건은 빈 결과")
+    void findPostIds_notExistTag() throws Exception {
+        // when
+        List<Long> postIds = tagPostIndex.findPostIds(List.of("자바", "없는태그"), TagMatch.AND, PageRequest.of(0, 10));
+
+        //then
+        assertThat(postIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 수정 이벤트시 바뀐 태그만 반영")
+    void handlePostChangedEvent_updated() throws Exception {
+        // given
+        Post post = post(3L, "자바", "코틀린");
+
+        // when
+        tagPostIndex.handlePostChangedEvent(PostChangedEventDto.updated(post, Set.of("자바", "스프링")));
+
+        //then
+        assertThat(tagPostIndex.findPostIds(List.of("스프링"), TagMatch.AND, PageRequest.of(0, 10))).containsExactly(4L, 2L);
+        assertThat(tagPostIndex.findPostIds(List.of("코틀린"), TagMatch.AND, PageRequest.of(0, 10))).containsExactly(3L);
+        assertThat(tagPostIndex.countPosts("자바")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 삭제 이벤트시 모든 태그에서 제거")
+    void handlePostChangedEvent_deleted() throws Exception {
+        // given
+        Post post = post(2L, "자바", "스프링");
+
+        // when
+        tagPostIndex.handlePostChangedEvent(PostChangedEventDto.deleted(post, Set.of("자바", "스프링")));
+
+        //then
+        assertThat(tagPostIndex.findPostIds(List.of("자바", "스프링"), TagMatch.OR, PageRequest.of(0, 10))).containsExactly(4L, 3L, 1L);
+    }
+
+    private Post post(Long id, String... tags) {
+        return Post.builder()
+                .id(id)
+                .type("free")
+                .tags(Set.of(tags).stream().map(name -> Tag.builder().name(name).build()).collect(Collectors.toSet()))
+                .build();
+    }
+
+    private TagPost tagPost(String name, Long postId) {
+        return new TagPost() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getPostId() {
+                return postId;
+            }
+        };
+    }
+}
@@ -1,15 +1,21 @@
 package com.importH.domain.tag;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,20 +29,30 @@ class TagServiceTest {
     @Mock
     TagRepository tagRepository;
 
-    @InjectMocks
+    @Mock
+    TagUsageCounter tagUsageCounter;
+
+    TagWriter tagWriter;
+
+    TagDictionary tagDictionary;
+
     TagService tagService;
 
+    AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void before() {
+        tagWriter = new TagWriter(tagRepository);
+        tagDictionary = new TagDictionary(tagRepository);
+        tagService = new TagService(tagRepository, tagDictionary, tagWriter, tagUsageCounter);
+    }
+
     @Test
-    @DisplayName("데이터베이스에 없는 태그 2개 조회시 2개 모두 저장 안되고 반환")
+    @DisplayName("데이터베이스에 있는 태그 2개 조회시 2개 모두 저장 안되고 반환")
     void findTags_02() throws Exception {
         // given
-        List<TagDto> list = new ArrayList<>();
-
-        for (int i = 0; i < 2; i++) {
-            TagDto tagDto = getTagDto("name"+i);
-            list.add(tagDto);
-        }
-        given(tagRepository.findAllByNameIn(any())).willReturn(list.stream().map(tagDto -> tagDto.toEntity()).collect(Collectors.toSet()));
+        List<TagDto> list = getTagDtos(2);
+        given(tagRepository.findAllByNameIn(any())).willReturn(toTags(list));
 
         // when
         Set<Tag> tags = tagService.getTags(list);
@@ -45,28 +61,24 @@ class TagServiceTest {
                 .containsAnyElementsOf(list.stream().map(TagDto::getName).collect(Collectors.toSet()));
 
         //then
-        verify(tagRepository, never()).save(any());
+        verify(tagRepository, never()).saveAllAndFlush(any());
         verify(tagRepository, times(1)).findAllByNameIn(any());
     }
 
 
     @Test
-    @DisplayName("데이터베이스에 있는 태그 2개 조회시 2개 모두 저장되고 반환")
+    @DisplayName("데이터베이스에 없는 태그 2개 조회시 2개 모두 한번에 저장되고 반환")
     void findTags_01() throws Exception {
         // given
-        List<TagDto> list = new ArrayList<>();
-
-        for (int i = 0; i < 2; i++) {
-            TagDto tagDto = getTagDto("name"+i);
-            list.add(tagDto);
-        }
-        given(tagRepository.save(any())).willReturn(Tag.builder().name(any()).build());
+        List<TagDto> list = getTagDtos(2);
+        given(tagRepository.saveAllAndFlush(any())).willReturn(new ArrayList<>(toTags(list)));
 
         // when
-        tagService.getTags(list);
+        Set<Tag> tags = tagService.getTags(list);
 
         //then
-        verify(tagRepository, times(2)).save(any());
+        assertThat(tags).hasSize(2);
+        verify(tagRepository, times(1)).saveAllAndFlush(argThat(names(List.of("name0", "name1"))));
         verify(tagRepository, times(1)).findAllByNameIn(any());
     }
 
@@ -74,14 +86,9 @@ class TagServiceTest {
     @DisplayName("데이터베이스에 없는 태그 3개 조회시 1개는 저장 되고 2개는 저장 안되고 반환")
     void findTags_03() throws Exception {
         // given
-        List<TagDto> list = new ArrayList<>();
-
-        for (int i = 0; i < 3; i++) {
-            TagDto tagDto = getTagDto("name"+i);
-            list.add(tagDto);
-        }
-        given(tagRepository.findAllByNameIn(any())).willReturn(list.stream().limit(2).map(tagDto -> tagDto.toEntity()).collect(Collectors.toSet()));
-        given(tagRepository.save(any())).willReturn(any());
+        List<TagDto> list = getTagDtos(3);
+        given(tagRepository.findAllByNameIn(any())).willReturn(toTags(list.subList(0, 2)));
+        given(tagRepository.saveAllAndFlush(any())).willReturn(new ArrayList<>(toTags(list.subList(2, 3))));
 
         // when
         Set<Tag> tags = tagService.getTags(list);
@@ -89,12 +96,88 @@ class TagServiceTest {
         assertThat(tags.size()).isEqualTo(3);
 
         //then
-        verify(tagRepository, times(1)).save(any());
+        verify(tagRepository, times(1)).saveAllAndFlush(argThat(names(List.of("name2"))));
         verify(tagRepository, times(1)).findAllByNameIn(any());
     }
 
+    @Test
+    @DisplayName("사전에 적재된 태그는 데이터베이스 조회 없이 반환")
+    void findTags_04() throws Exception {
+        // given
+        List<TagDto> list = getTagDtos(2);
+        tagDictionary.registerAll(toTags(list));
+
+        // when
+        Set<Tag> tags = tagService.getTags(list);
+
+        //then
+        assertThat(tags).extracting(Tag::getId).doesNotContainNull();
+        verify(tagRepository, never()).findAllByNameIn(any());
+        verify(tagRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 같은 태그를 먼저 저장한 경우 새 트랜잭션에서 재조회 해서 반환")
+    void findTags_05() throws Exception {
+        // given
+        List<TagDto> list = getTagDtos(1);
+        given(tagRepository.findAllByNameIn(any())).willReturn(Set.of(), toTags(list));
+        given(tagRepository.saveAllAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicated"));
+
+        // when
+        Set<Tag> tags = tagService.getTags(list);
+
+        //then
+        assertThat(tags).extracting(Tag::getName).containsExactly("name0");
+        assertThat(tagDictionary.find("name0")).isPresent();
+        verify(tagRepository, times(1)).saveAllAndFlush(any());
+        verify(tagRepository, times(2)).findAllByNameIn(any());
+    }
+
+    @Test
+    @DisplayName("게시글 트랜잭션이 롤백되어도 새로 저장한 태그는 다른 요청이 쓰고 있을 수 있으므로 삭제하지 않음")
+    void findTags_06() throws Exception {
+        // given
+        List<TagDto> list = getTagDtos(1);
+        given(tagRepository.saveAllAndFlush(any())).willReturn(new ArrayList<>(toTags(list)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagService.getTags(list);
+
+            // when
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        //then
+        assertThat(tagDictionary.find("name0")).isPresent();
+        verify(tagRepository, never()).deleteUnusedByIdIn(any());
+    }
+
+    private List<TagDto> getTagDtos(int count) {
+        List<TagDto> list = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            list.add(getTagDto("name" + i));
+        }
+        return list;
+    }
+
+    private Set<Tag> toTags(List<TagDto> list) {
+        return list.stream()
+                .map(tagDto -> Tag.builder().id(sequence.incrementAndGet()).name(tagDto.getName()).build())
+                .collect(Collectors.toSet());
+    }
+
+    private ArgumentMatcher<List<Tag>> names(List<String> names) {
+        return tags -> tags.stream().map(Tag::getName).sorted().collect(Collectors.toList()).equals(names);
+    }
+
     private TagDto getTagDto(String name) {
         return TagDto.builder().name(name).build();
     }
 
-}
\ No newline at end of file
+}
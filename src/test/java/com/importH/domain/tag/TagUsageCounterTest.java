@@ -0,0 +1,184 @@
+package com.importH.domain.tag;
+
+import com.importH.domain.post.entity.Post;
+import com.importH.global.event.PostChangedEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagUsageCounterTest {
+
+    @Mock
+    TagRepository tagRepository;
+
+    MutableClock clock;
+
+    TagUsageCounter tagUsageCounter;
+
+    @BeforeEach
+    void before() {
+        clock = new MutableClock(Instant.parse("2022-03-01T00:00:00Z"));
+        tagUsageCounter = new TagUsageCounter(tagRepository, clock);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 등록, 수정, 삭제시 태그 사용 횟수 반영")
+    void handlePostChangedEvent() throws Exception {
+        // when
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(1L, "자바", "스프링")));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(2L, "자바")));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.updated(post(2L, "코틀린"), Set.of("자바")));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.deleted(post(1L), Set.of("스프링")));
+
+        //then
+        assertThat(tagUsageCounter.getUsageCount("자바")).isEqualTo(1);
+        assertThat(tagUsageCounter.getUsageCount("코틀린")).isEqualTo(1);
+        assertThat(tagUsageCounter.getUsageCount("스프링")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("[성공] 구간이 지난 사용 횟수는 인기 태그에서 제외")
+    void getTrending_window() throws Exception {
+        // given
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(1L, "자바")));
+        clock.plus(Duration.ofHours(2));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(2L, "스프링")));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(3L, "스프링")));
+
+        // when
+        List<TagTrendingDto> hour = tagUsageCounter.getTrending(TrendingWindow.HOUR, 10);
+        List<TagTrendingDto> day = tagUsageCounter.getTrending(TrendingWindow.DAY, 10);
+
+        //then
+        assertThat(hour).extracting(TagTrendingDto::getName).containsExactly("스프링");
+        assertThat(day).extracting(TagTrendingDto::getName).containsExactly("스프링", "자바");
+        assertThat(day.get(0).getCount()).isEqualTo(2);
+
+        clock.plus(Duration.ofDays(8));
+        assertThat(tagUsageCounter.getTrending(TrendingWindow.WEEK, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 오래된 게시글의 태그를 떼어내도 최근 구간 집계는 줄지 않음")
+    void handlePostChangedEvent_oldPost() throws Exception {
+        // given
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(1L, "자바")));
+        Post oldPost = post(2L);
+        ReflectionTestUtils.setField(oldPost, "createdAt", LocalDateTime.now(clock).minusDays(30));
+
+        // when
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.deleted(oldPost, Set.of("자바")));
+
+        //then
+        assertThat(tagUsageCounter.getUsageCount("자바")).isEqualTo(0);
+        assertThat(tagUsageCounter.getCount("자바", TrendingWindow.HOUR)).isEqualTo(1);
+        assertThat(tagUsageCounter.getCount("자바", TrendingWindow.WEEK)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 이틀 전 게시글의 태그를 떼어내면 작성 시각이 포함된 구간에서만 빠짐")
+    void handlePostChangedEvent_removeAtCreatedAt() throws Exception {
+        // given
+        Post post = post(1L, "자바");
+        ReflectionTestUtils.setField(post, "createdAt", LocalDateTime.now(clock).minusDays(2));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post));
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(2L, "자바")));
+
+        Post untagged = post(1L);
+        ReflectionTestUtils.setField(untagged, "createdAt", post.getCreatedAt());
+
+        // when
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.updated(untagged, Set.of("자바")));
+
+        //then
+        assertThat(tagUsageCounter.getCount("자바", TrendingWindow.DAY)).isEqualTo(1);
+        assertThat(tagUsageCounter.getCount("자바", TrendingWindow.WEEK)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 변경된 태그만 사용 횟수 저장")
+    void flush() throws Exception {
+        // given
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(1L, "자바")));
+
+        // when
+        tagUsageCounter.flush();
+        tagUsageCounter.flush();
+
+        //then
+        verify(tagRepository, times(1)).updateUsageCount("자바", 1L);
+        verify(tagRepository, times(1)).updateUsageCount(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[성공] 저장에 실패한 태그는 다음 주기에 다시 저장")
+    void flush_retryOnFailure() throws Exception {
+        // given
+        tagUsageCounter.handlePostChangedEvent(PostChangedEventDto.created(post(1L, "자바")));
+        when(tagRepository.updateUsageCount("자바", 1L))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        // when
+        tagUsageCounter.flush();
+        tagUsageCounter.flush();
+
+        //then
+        verify(tagRepository, times(2)).updateUsageCount("자바", 1L);
+    }
+
+    private Post post(Long id, String... tags) {
+        return Post.builder()
+                .id(id)
+                .type("free")
+                .tags(Set.of(tags).stream().map(name -> Tag.builder().name(name).build()).collect(Collectors.toSet()))
+                .build();
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
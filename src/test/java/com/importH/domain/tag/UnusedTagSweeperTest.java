@@ -0,0 +1,68 @@
+package com.importH.domain.tag;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnusedTagSweeperTest {
+
+    @Mock
+    TagRepository tagRepository;
+
+    TagDictionary tagDictionary;
+
+    UnusedTagSweeper unusedTagSweeper;
+
+    @BeforeEach
+    void before() {
+        tagDictionary = new TagDictionary(tagRepository);
+        unusedTagSweeper = new UnusedTagSweeper(tagRepository, tagDictionary);
+    }
+
+    @Test
+    @DisplayName("[성공] 유예 기간이 지난 사용되지 않는 태그를 사전에서 빼고 삭제")
+    void sweep_success() throws Exception {
+        // given
+        Tag unused = Tag.builder().id(1L).name("안쓰는태그").build();
+        Tag used = Tag.builder().id(2L).name("자바").build();
+        tagDictionary.registerAll(List.of(unused, used));
+
+        LocalDateTime before = LocalDateTime.now().minus(UnusedTagSweeper.GRACE_PERIOD);
+        given(tagRepository.findAllUnusedCreatedBefore(before)).willReturn(List.of(unused));
+        given(tagRepository.deleteUnusedByIdIn(List.of(1L))).willReturn(1);
+
+        // when
+        int deleted = unusedTagSweeper.sweep(before);
+
+        //then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(tagDictionary.find("안쓰는태그")).isEmpty();
+        assertThat(tagDictionary.find("자바")).isPresent();
+    }
+
+    @Test
+    @DisplayName("[성공] 사용되지 않는 태그가 없으면 삭제하지 않음")
+    void sweep_nothing() throws Exception {
+        // given
+        given(tagRepository.findAllUnusedCreatedBefore(any())).willReturn(List.of());
+
+        // when
+        int deleted = unusedTagSweeper.sweep(LocalDateTime.now());
+
+        //then
+        assertThat(deleted).isZero();
+        verify(tagRepository, never()).deleteUnusedByIdIn(any());
+    }
+}
@@ -3,22 +3,30 @@ package com.importH.domain.user.service;
 import com.importH.domain.user.entity.User;
 import com.importH.domain.user.repository.UserRepository;
 import com.importH.domain.user.social.*;
+import com.importH.domain.user.token.RefreshToken;
+import com.importH.domain.user.token.RefreshTokenRepository;
 import com.importH.domain.user.token.TokenDto;
+import com.importH.global.config.OauthProperties;
 import com.importH.global.error.code.SocialErrorCode;
 import com.importH.global.error.exception.SocialException;
 import com.importH.global.security.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +36,9 @@ class OauthServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    RefreshTokenRepository refreshTokenRepository;
+
     @Mock
     OauthProviderRepository oauthProviderRepository;
 
@@ -37,12 +48,24 @@ class OauthServiceTest {
     @Mock
     OauthAdapterImpl oauthAdapter;
 
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    SocialLoginCache socialLoginCache;
+
     @InjectMocks
     OauthService oauthService;
 
     private final String CODE = "4%2F0AX4XfWgQ6WIy8ZylF8i9oSHrxaqTtL6UQDzZFzlsbsKUlO4Gv5rsGP90nqsSpMhf5Vi92g";
     private final String ACCESS_TOKEN = "ya29.A0ARrdaM8BYJX0A8lLqnkOGU_wEO6_7-UQvYVFDa6yvJd46wOKmU0dq_x7Zro3zrswnR45ISbNSos2C3_V24oVjJRgjAjFPAh0lfLzG5jXMIgKiTGgLG9DWcS4J6c72KDNt42hTyBAgK6GAUTTB3X-yuHAe9MYeg";
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
     @Test
     @DisplayName("[성공] 소셜 로그인 및 계정 저장")
     void googleLogin_Success() throws Exception {
@@ -50,13 +73,13 @@ class OauthServiceTest {
         String provider = "google";
 
         given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
-        given(oauthAdapter.getToken(any(), any())).willReturn(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build());
-        given(oauthAdapter.getUserProfile(any(),any(),any())).willReturn(getSocialProfile("test@mail.com"));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@mail.com")));
         given(jwtProvider.createToken(any())).willReturn(getTokenDto());
         given(userRepository.save(any())).willReturn(getUser());
 
         // when
-        TokenDto tokenDto = oauthService.socialLogin(provider, CODE);
+        TokenDto tokenDto = oauthService.socialLogin(provider, CODE).block();
 
 
         //then
@@ -78,13 +101,13 @@ class OauthServiceTest {
         String provider = "google";
 
         given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
-        given(oauthAdapter.getToken(any(), any())).willReturn(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build());
-        given(oauthAdapter.getUserProfile(any(),any(),any())).willReturn(getSocialProfile("test@gmail.com"));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@gmail.com")));
         given(jwtProvider.createToken(any())).willReturn(getTokenDto());
         given(userRepository.findByEmail(any())).willReturn(Optional.ofNullable(getUser()));
 
         // when
-        TokenDto tokenDto = oauthService.socialLogin(provider, CODE);
+        TokenDto tokenDto = oauthService.socialLogin(provider, CODE).block();
 
 
         //then
@@ -107,11 +130,11 @@ class OauthServiceTest {
         SocialErrorCode errorCode = SocialErrorCode.SOCIAL_LOGIN_FAILED;
 
         given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
-        given(oauthAdapter.getToken(any(), any())).willReturn(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build());
-        given(oauthAdapter.getUserProfile(any(),any(),any())).willReturn(getSocialProfile(null));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile(null)));
 
         // when
-        SocialException exception = assertThrows(SocialException.class, () -> oauthService.socialLogin(provider, CODE));
+        SocialException exception = assertThrows(SocialException.class, () -> oauthService.socialLogin(provider, CODE).block());
 
 
         //then
@@ -132,13 +155,14 @@ class OauthServiceTest {
         String provider = "google";
 
         given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
-        given(oauthAdapter.getToken(any(), any())).willReturn(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build());
-        given(oauthAdapter.getUserProfile(any(),any(),any())).willReturn(getSocialProfile("test@mail.com"));
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@mail.com")));
         given(jwtProvider.createToken(any())).willReturn(getTokenDto());
-        given(userRepository.findByEmail(any())).willReturn(Optional.ofNullable(getUser()));
+        User user = getUser();
+        given(userRepository.findByEmail(any())).willReturn(Optional.of(user));
 
         // when
-        TokenDto tokenDto = oauthService.socialLogin(provider, CODE);
+        TokenDto tokenDto = oauthService.socialLogin(provider, CODE).block();
 
 
         //then
@@ -146,13 +170,123 @@ class OauthServiceTest {
                 .hasFieldOrProperty("accessToken")
                 .hasFieldOrProperty("refreshToken")
                 .hasFieldOrProperty("new");
+        assertThat(user.getOauthId()).isEqualTo("1");
 
         verify(oauthAdapter, times(1)).getToken(any(), any());
         verify(oauthAdapter, times(1)).getUserProfile(any(), any(), any());
         verify(userRepository, never()).save(any());
         verify(userRepository, times(1)).findByEmail(any());
         verify(jwtProvider, times(1)).createToken(any());
+        verify(userRepository, times(1)).findByOauthId(any());
+    }
+
+    @Test
+    @DisplayName("[성공] 소셜 로그인 - 이메일로 찾은 계정에 다른 소셜 계정이 연결되어 있으면 그대로 둠")
+    void socialLogin_success_keepLinkedOauthId() throws Exception {
+        // given
+        String provider = "google";
+        User user = User.builder().email("test@mail.com").oauthId("github:1").role("ROLE_USER").build();
+
+        given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@mail.com")));
+        given(jwtProvider.createToken(any())).willReturn(getTokenDto());
+        given(userRepository.findByEmail(any())).willReturn(Optional.of(user));
+
+        // when
+        oauthService.socialLogin(provider, CODE).block();
+
+        //then
+        assertThat(user.getOauthId()).isEqualTo("github:1");
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("[성공] 소셜 로그인 - oauthId 로 가입된 계정 있으면 이메일 조회 없이 로그인 후 캐시")
+    void socialLogin_success_findByOauthId() throws Exception {
+        // given
+        String provider = "google";
+        User user = getUser();
+
+        given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@mail.com")));
+        given(jwtProvider.createToken(any())).willReturn(getTokenDto());
+        given(userRepository.findByOauthId("1")).willReturn(Optional.of(user));
+
+        // when
+        oauthService.socialLogin(provider, CODE).block();
+
+        //then
+        verify(userRepository, never()).findByEmail(any());
+        verify(userRepository, never()).save(any());
+        verify(socialLoginCache, times(1)).put("1", user);
+        verify(refreshTokenRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("[성공] 소셜 로그인 - 최근 로그인한 사용자는 회원 조회 없이 토큰 발급")
+    void socialLogin_success_cached() throws Exception {
+        // given
+        String provider = "google";
+        SocialLoginCache cache = new SocialLoginCache(new OauthProperties());
+        cache.put("1", User.builder().id(1L).role("ROLE_USER").pathId("path").build());
+        OauthService service = new OauthService(oauthProviderRepository, userRepository, refreshTokenRepository, jwtProvider,
+                oauthAdapter, transactionTemplate, cache);
+
+        given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@mail.com")));
+        given(jwtProvider.createToken(1L, "ROLE_USER", "path")).willReturn(getTokenDto());
+
+        // when
+        TokenDto tokenDto = service.socialLogin(provider, CODE).block();
+
+        //then
+        assertThat(tokenDto.getAccessToken()).isEqualTo("accessToken");
         verify(userRepository, never()).findByOauthId(any());
+        verify(userRepository, never()).findByEmail(any());
+        verify(refreshTokenRepository, times(1)).save(argThat(token ->
+                token.getTokenHash().equals(RefreshToken.hash("refreshToken"))));
+    }
+
+    @Test
+    @DisplayName("[실패] 소셜 로그인 - 등록되지 않은 제공자")
+    void socialLogin_fail_unknownProvider() throws Exception {
+        // given
+        given(oauthProviderRepository.findByProviderName(any())).willReturn(null);
+
+        // when
+        SocialException exception = assertThrows(SocialException.class, () -> oauthService.socialLogin("unknown", CODE).block());
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(SocialErrorCode.NOT_VALID_ACCESS);
+        verifyNoInteractions(oauthAdapter, userRepository);
+    }
+
+    @Test
+    @DisplayName("[성공] 논블로킹 소셜 로그인 - 토큰 교환, 사용자 정보 조회 후 계정 저장")
+    void socialLogin_success_lazy() throws Exception {
+        // given
+        String provider = "google";
+
+        given(oauthProviderRepository.findByProviderName(any())).willReturn(getOauthProvider());
+        given(oauthAdapter.getToken(any(), any())).willReturn(Mono.just(OauthTokenResponse.builder().accessToken(ACCESS_TOKEN).build()));
+        given(oauthAdapter.getUserProfile(any(), any(), any())).willReturn(Mono.just(getSocialProfile("test@mail.com")));
+        given(jwtProvider.createToken(any())).willReturn(getTokenDto());
+        given(userRepository.save(any())).willReturn(getUser());
+
+        // when
+        Mono<TokenDto> result = oauthService.socialLogin(provider, CODE);
+
+        //then
+        verify(userRepository, never()).save(any());
+
+        TokenDto tokenDto = result.block();
+        assertThat(tokenDto.getAccessToken()).isEqualTo("accessToken");
+        verify(userRepository, times(1)).save(any());
+        verify(refreshTokenRepository, times(1)).save(any());
+        verify(transactionTemplate, times(2)).execute(any());
     }
 
     private OauthProvider getOauthProvider() {
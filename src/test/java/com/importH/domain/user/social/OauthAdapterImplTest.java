@@ -0,0 +1,142 @@
+package com.importH.domain.user.social;
+
+import com.importH.global.config.OauthConfig;
+import com.importH.global.config.OauthProperties;
+import com.importH.global.error.code.SocialErrorCode;
+import com.importH.global.error.exception.SocialException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OauthAdapterImplTest {
+
+    MockWebServer server;
+    ConnectionProvider connectionProvider;
+    OauthAdapterImpl oauthAdapter;
+    OauthProvider provider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        OauthProperties properties = new OauthProperties();
+        properties.getHttp().setRetryBackoffMillis(10);
+        properties.getHttp().setResponseTimeoutMillis(1_000);
+
+        OauthConfig config = new OauthConfig(properties);
+        connectionProvider = config.oauthConnectionProvider();
+        oauthAdapter = new OauthAdapterImpl(config.oauthWebClient(WebClient.builder(), connectionProvider), properties);
+
+        provider = OauthProvider.builder()
+                .clientId("client")
+                .clientSecret("secret")
+                .redirectUrl("http://localhost:3000/callback")
+                .tokenUrl(server.url("/token").toString())
+                .userInfoUrl(server.url("/userinfo").toString())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 토큰 교환 후 사용자 정보 조회")
+    void login_success() throws Exception {
+        // given
+        server.enqueue(json("{\"access_token\":\"access\",\"token_type\":\"bearer\"}"));
+        server.enqueue(json("{\"sub\":\"1234\",\"email\":\"test@gmail.com\",\"name\":\"test\",\"picture\":\"http://image\"}"));
+
+        // when
+        SocialProfile profile = oauthAdapter.getToken("code", provider)
+                .flatMap(token -> oauthAdapter.getUserProfile("google", token, provider))
+                .block();
+
+        // then
+        assertThat(profile.getOauthId()).isEqualTo("google:1234");
+        assertThat(profile.getEmail()).isEqualTo("test@gmail.com");
+
+        RecordedRequest tokenRequest = server.takeRequest();
+        assertThat(tokenRequest.getPath()).isEqualTo("/token");
+        assertThat(tokenRequest.getHeader(HttpHeaders.AUTHORIZATION)).startsWith("Basic ");
+        assertThat(tokenRequest.getBody().readUtf8()).contains("code=code", "grant_type=authorization_code");
+
+        RecordedRequest userInfoRequest = server.takeRequest();
+        assertThat(userInfoRequest.getPath()).isEqualTo("/userinfo");
+        assertThat(userInfoRequest.getHeader(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer access");
+    }
+
+    @Test
+    @DisplayName("[성공] 사용자 정보 조회 5xx 응답시 재시도")
+    void userProfile_success_retry() throws Exception {
+        // given
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(json("{\"sub\":\"1234\",\"email\":\"test@gmail.com\",\"name\":\"test\"}"));
+
+        // when
+        SocialProfile profile = oauthAdapter.getUserProfile("google", token(), provider).block();
+
+        // then
+        assertThat(profile.getEmail()).isEqualTo("test@gmail.com");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[실패] 토큰 교환 4xx 응답 - 인가 코드는 재사용할 수 없으므로 재시도하지 않음")
+    void token_fail_invalidCode() throws Exception {
+        // given
+        server.enqueue(new MockResponse().setResponseCode(400).setBody("{\"error\":\"invalid_grant\"}"));
+
+        // when
+        SocialException exception = assertThrows(SocialException.class,
+                () -> oauthAdapter.getToken("code", provider).block());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(SocialErrorCode.NOT_VALID_ACCESS);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 사용자 정보 조회 응답 지연 - 재시도 후 제공자 장애")
+    void userProfile_fail_timeout() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(json("{}").setBodyDelay(2, TimeUnit.SECONDS));
+        }
+
+        // when
+        SocialException exception = assertThrows(SocialException.class,
+                () -> oauthAdapter.getUserProfile("google", token(), provider).block());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(SocialErrorCode.PROVIDER_UNAVAILABLE);
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    private OauthTokenResponse token() {
+        return OauthTokenResponse.builder().accessToken("access").build();
+    }
+
+    private MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(body);
+    }
+}
@@ -0,0 +1,73 @@
+package com.importH.domain.user.social;
+
+import com.importH.domain.user.entity.User;
+import com.importH.global.config.OauthProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SocialLoginCacheTest {
+
+    SocialLoginCache cache;
+
+    @BeforeEach
+    void setUp() {
+        OauthProperties properties = new OauthProperties();
+        properties.getLoginCache().setTtlSeconds(60);
+        properties.getLoginCache().setMaxSize(2);
+        cache = new SocialLoginCache(properties);
+    }
+
+    @Test
+    @DisplayName("[성공] 저장한 사용자 정보 조회, TTL 이 지나면 만료")
+    void get_success_expire() throws Exception {
+        // given
+        cache.put("oauth-1", user(1L), 0);
+
+        // when
+        SocialLoginCache.Entry entry = cache.get("oauth-1", 59_999);
+
+        // then
+        assertThat(entry.getUserId()).isEqualTo(1L);
+        assertThat(entry.getPathId()).isEqualTo("path1");
+        assertThat(cache.get("oauth-1", 60_000)).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 사용자 ID 로 비우기")
+    void evict_success() throws Exception {
+        // given
+        cache.put("oauth-1", user(1L), 0);
+        cache.put("oauth-2", user(2L), 0);
+
+        // when
+        cache.evictAfterCommit(1L);
+
+        // then
+        assertThat(cache.get("oauth-1", 0)).isNull();
+        assertThat(cache.get("oauth-2", 0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 가득 차면 만료된 항목을 정리하고, 남은 공간이 없으면 저장하지 않음")
+    void put_success_maxSize() throws Exception {
+        // given
+        cache.put("oauth-1", user(1L), 0);
+        cache.put("oauth-2", user(2L), 30_000);
+
+        // when
+        cache.put("oauth-3", user(3L), 30_000);
+        cache.put("oauth-4", user(4L), 60_000);
+
+        // then
+        assertThat(cache.get("oauth-3", 30_000)).isNull();
+        assertThat(cache.get("oauth-4", 60_000)).isNotNull();
+        assertThat(cache.get("oauth-2", 60_000)).isNotNull();
+    }
+
+    private User user(Long id) {
+        return User.builder().id(id).role("ROLE_USER").pathId("path" + id).build();
+    }
+}
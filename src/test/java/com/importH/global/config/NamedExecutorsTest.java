@@ -0,0 +1,139 @@
+package com.importH.global.config;
+
+import com.importH.global.config.ExecutorProperties.Pool;
+import com.importH.global.config.ExecutorProperties.SaturationPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NamedExecutorsTest {
+
+    SimpleMeterRegistry meterRegistry;
+    ThreadPoolTaskExecutor executor;
+    CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 풀과 큐가 가득 차면 제출한 스레드에서 실행 (CALLER_RUNS)")
+    void saturation_callerRuns() throws Exception {
+        // given
+        executor = saturated(SaturationPolicy.CALLER_RUNS);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        // when
+        executor.execute(() -> threads.add(Thread.currentThread().getName()));
+
+        // then
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 풀과 큐가 가득 차면 가장 오래 기다린 작업을 버림 (DROP_OLDEST)")
+    void saturation_dropOldest() throws Exception {
+        // given
+        executor = saturated(SaturationPolicy.DROP_OLDEST);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        executor.execute(() -> executed.add("oldest"));
+
+        // when
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            executed.add("newest");
+            done.countDown();
+        });
+        release.countDown();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("newest");
+    }
+
+    @Test
+    @DisplayName("[실패] 풀과 큐가 가득 차면 예외 (ABORT)")
+    void saturation_abort() throws Exception {
+        // given
+        executor = saturated(SaturationPolicy.ABORT);
+
+        // when, then
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 작업마다 큐 대기 시간, 실행 시간 기록")
+    void taskLatency() throws Exception {
+        // given
+        executor = NamedExecutors.create("test", pool(SaturationPolicy.ABORT), meterRegistry);
+        executor.initialize();
+
+        // when
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("executor.task.wait").tag("name", "test").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.task.run").tag("name", "test").timer().count()).isEqualTo(1);
+    }
+
+    /**
+     * 스레드 하나가 막혀 있고 큐(1)도 찬 상태
+     */
+    private ThreadPoolTaskExecutor saturated(SaturationPolicy saturation) throws InterruptedException {
+        ThreadPoolTaskExecutor namedExecutor = NamedExecutors.create("test", pool(saturation), meterRegistry);
+        namedExecutor.initialize();
+
+        CountDownLatch started = new CountDownLatch(1);
+        namedExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        namedExecutor.execute(() -> await(release));
+
+        assertThat(meterRegistry.get("executor.active").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1);
+        return namedExecutor;
+    }
+
+    private Pool pool(SaturationPolicy saturation) {
+        Pool pool = new Pool();
+        pool.setCorePoolSize(1);
+        pool.setMaxPoolSize(1);
+        pool.setQueueCapacity(1);
+        pool.setSaturation(saturation);
+        pool.setAwaitTerminationSeconds(5);
+        return pool;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
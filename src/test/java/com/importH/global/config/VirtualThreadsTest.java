@@ -0,0 +1,42 @@
+package com.importH.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("[성공] 지원하는 JDK 에서는 작업이 이름 붙은 가상 스레드에서 실행")
+    void newExecutor_success() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        // given
+        ExecutorService executor = VirtualThreads.newExecutor("test-vt-");
+
+        // when
+        Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+        assertThat(thread.getName()).startsWith("test-vt-");
+    }
+
+    @Test
+    @DisplayName("[실패] 지원하지 않는 JDK 에서 가상 스레드 실행기 생성")
+    void newExecutor_fail_unsupported() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThatThrownBy(() -> VirtualThreads.newExecutor("test-vt-"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+    }
+}
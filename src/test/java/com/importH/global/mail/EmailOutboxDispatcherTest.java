@@ -0,0 +1,146 @@
+package com.importH.global.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.importH.domain.user.dto.EmailMessageDto;
+import com.importH.global.config.EmailOutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.mail.internet.MimeMessage;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:/application-test.properties")
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    EmailOutboxStore emailOutboxStore;
+
+    EmailOutboxProperties properties;
+    SimpleMeterRegistry meterRegistry;
+    LocalDateTime now;
+
+    @BeforeEach
+    void before() {
+        properties = new EmailOutboxProperties();
+        properties.setMaxAttempts(2);
+        meterRegistry = new SimpleMeterRegistry();
+        now = LocalDateTime.now().plusMinutes(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 대기중인 이메일을 한번에 발송")
+    void dispatch_success() throws Exception {
+        // given
+        EmailOutbox first = emailOutboxRepository.save(EmailOutbox.create(message("first@email.com")));
+        EmailOutbox second = emailOutboxRepository.save(EmailOutbox.create(message("second@email.com")));
+
+        // when
+        int dispatched = dispatcher(ServerSetupTest.SMTP.getPort(), now).dispatch();
+
+        //then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("제목");
+        assertThat(first.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(second.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.outbox.pending").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("[실패] SMTP 서버 연결 실패시 백오프 후 재시도")
+    void dispatch_fail_retry() throws Exception {
+        // given
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.create(message("test@email.com")));
+        EmailOutboxDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort() + 1, now);
+
+        // when
+        int dispatched = dispatcher.dispatch();
+        int retried = dispatcher.dispatch();
+
+        //then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(retried).isEqualTo(0);
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(now.plusSeconds(properties.getInitialBackoffSeconds()));
+        assertThat(outbox.getLastError()).isNotNull();
+        assertThat(meterRegistry.counter("mail.outbox.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 최대 시도 횟수를 넘으면 발송 포기")
+    void dispatch_fail_maxAttempts() throws Exception {
+        // given
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.create(message("test@email.com")));
+        int port = ServerSetupTest.SMTP.getPort() + 1;
+
+        // when
+        dispatcher(port, now).dispatch();
+        dispatcher(port, now.plusDays(1)).dispatch();
+
+        //then
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 선점된 이메일은 선점 시간이 지나기 전까지 다시 선점되지 않음")
+    void claim_success_lease() throws Exception {
+        // given
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.create(message("test@email.com")));
+        LocalDateTime leaseUntil = now.plusSeconds(properties.getClaimTimeoutSeconds());
+
+        // when
+        int claimed = emailOutboxStore.claim(now, leaseUntil, properties.getBatchSize()).size();
+        int claimedByOther = emailOutboxStore.claim(now, leaseUntil, properties.getBatchSize()).size();
+        int reclaimed = emailOutboxStore.claim(leaseUntil, leaseUntil.plusMinutes(5), properties.getBatchSize()).size();
+
+        //then
+        assertThat(claimed).isEqualTo(1);
+        assertThat(claimedByOther).isEqualTo(0);
+        assertThat(reclaimed).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENDING);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private EmailOutboxDispatcher dispatcher(int port, LocalDateTime now) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(port);
+
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        return new EmailOutboxDispatcher(emailOutboxStore, new HtmlEmailMessenger(javaMailSender), properties, meterRegistry, clock);
+    }
+
+    private EmailMessageDto message(String to) {
+        return EmailMessageDto.builder()
+                .to(to)
+                .subject("제목")
+                .message("<p>본문</p>")
+                .build();
+    }
+}
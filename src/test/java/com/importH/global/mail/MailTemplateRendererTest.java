@@ -0,0 +1,94 @@
+package com.importH.global.mail;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailTemplateRendererTest {
+
+    TemplateEngine templateEngine;
+    MailTemplateRenderer mailTemplateRenderer;
+
+    @BeforeEach
+    void before() throws Exception {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine);
+        mailTemplateRenderer.precompile();
+    }
+
+    @Test
+    @DisplayName("[성공] 미리 컴파일한 템플릿은 Thymeleaf 결과와 같음")
+    void render_sameAsThymeleaf() throws Exception {
+        // given
+        Map<String, Object> variables = variables("테스트 <b>&</b>", "/email-token?token=a&email=test@email.com");
+
+        // when
+        String message = mailTemplateRenderer.render("mail/simple-link", variables);
+
+        //then
+        assertThat(message).isEqualTo(process(variables));
+        assertThat(message).contains("테스트 &lt;b&gt;&amp;&lt;/b&gt;");
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 수신자 메일 한번에 렌더링")
+    void renderAll_success() throws Exception {
+        // given
+        List<Map<String, Object>> variablesList = List.of(variables("첫번째", "/link1"), variables("두번째", "/link2"));
+
+        // when
+        List<String> messages = mailTemplateRenderer.renderAll("mail/simple-link", variablesList);
+
+        //then
+        assertThat(messages).containsExactly(process(variablesList.get(0)), process(variablesList.get(1)));
+    }
+
+    @Test
+    @DisplayName("[성공] 값이 null 인 변수가 있으면 Thymeleaf 와 같게 처리 - 속성 제거, 문자열 연결")
+    void render_nullVariable() throws Exception {
+        // given
+        Map<String, Object> variables = new HashMap<>(variables("테스트", "/link"));
+        variables.put("host", null);
+        variables.put("linkName", null);
+
+        // when
+        String message = mailTemplateRenderer.render("mail/simple-link", variables);
+        List<String> messages = mailTemplateRenderer.renderAll("mail/simple-link", List.of(variables("첫번째", "/link1"), variables));
+
+        //then
+        assertThat(message).isEqualTo(process(variables));
+        assertThat(messages).containsExactly(process(variables("첫번째", "/link1")), process(variables));
+    }
+
+    private String process(Map<String, Object> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process("mail/simple-link", context);
+    }
+
+    private Map<String, Object> variables(String nickname, String link) {
+        return Map.of(
+                "nickname", nickname,
+                "link", link,
+                "linkName", "이메일 인증하기",
+                "message", "회원가입을 환영합니다.",
+                "host", "http://localhost:8090");
+    }
+}
@@ -0,0 +1,123 @@
+package com.importH.global.security;
+
+import com.importH.domain.user.token.TokenDto;
+import com.importH.global.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtProviderTest {
+
+    JwtProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret("test-secret-key-for-import-h-jwt!");
+    }
+
+    @Test
+    @DisplayName("[성공] HS256 서명 후 검증")
+    void hs256_success() throws Exception {
+        // given
+        JwtProvider jwtProvider = provider();
+
+        // when
+        TokenDto token = jwtProvider.createToken(1L, "ROLE_USER", "pathId");
+
+        // then
+        assertThat(jwtProvider.validationToken(token.getAccessToken())).isTrue();
+        assertThat(jwtProvider.parseClaims(token.getAccessToken()).getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("[성공] 한 번의 검증으로 Claims 반환 - 위조된 토큰은 null")
+    void validClaims_success() throws Exception {
+        // given
+        JwtProvider jwtProvider = provider();
+        TokenDto token = jwtProvider.createToken(1L, "ROLE_USER", "pathId");
+
+        // when
+        Claims claims = jwtProvider.validClaims(token.getAccessToken());
+
+        // then
+        assertThat(jwtProvider.isAccessToken(claims)).isTrue();
+        assertThat(jwtProvider.isAccessToken(jwtProvider.validClaims(token.getRefreshToken()))).isFalse();
+        assertThat(jwtProvider.validClaims(token.getAccessToken() + "x")).isNull();
+    }
+
+    @Test
+    @DisplayName("[실패] 32바이트보다 짧은 HS256 키")
+    void hs256_fail_weakKey() throws Exception {
+        // given
+        properties.setSecret("short-secret");
+
+        // when, then
+        assertThrows(IllegalStateException.class, this::provider);
+    }
+
+    @Test
+    @DisplayName("[성공] ES256 키 교체 - 이전 kid 토큰과 HS256 토큰도 만료 전까지 검증")
+    void es256_success_rotation() throws Exception {
+        // given
+        String hsToken = provider().createToken(1L, "ROLE_USER", "pathId").getAccessToken();
+
+        properties.setAlgorithm("ES256");
+        putKey("k1");
+        properties.setActiveKid("k1");
+        String oldToken = provider().createToken(1L, "ROLE_USER", "pathId").getAccessToken();
+
+        // when
+        putKey("k2");
+        properties.setActiveKid("k2");
+        properties.getKeys().get("k1").setPrivateKey(null);
+        JwtProvider rotated = provider();
+        String newToken = rotated.createToken(1L, "ROLE_USER", "pathId").getAccessToken();
+
+        // then
+        assertThat(rotated.validationToken(newToken)).isTrue();
+        assertThat(rotated.validationToken(oldToken)).isTrue();
+        assertThat(rotated.validationToken(hsToken)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[실패] ES256 - 등록되지 않은 kid 로 서명된 토큰")
+    void es256_fail_unknownKid() throws Exception {
+        // given
+        properties.setAlgorithm("ES256");
+        putKey("k1");
+        properties.setActiveKid("k1");
+        String token = provider().createToken(1L, "ROLE_USER", "pathId").getAccessToken();
+
+        // when
+        properties.getKeys().clear();
+        putKey("k2");
+        properties.setActiveKid("k2");
+
+        // then
+        assertThat(provider().validationToken(token)).isFalse();
+    }
+
+    private JwtProvider provider() {
+        JwtProvider jwtProvider = new JwtProvider(properties);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    private void putKey(String kid) {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        JwtProperties.EcKey key = new JwtProperties.EcKey();
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        properties.getKeys().put(kid, key);
+    }
+}
@@ -0,0 +1,109 @@
+package com.importH.global.security.revocation;
+
+import com.importH.domain.user.token.RevokedTokenRepository;
+import com.importH.domain.user.token.TokenWatermark;
+import com.importH.domain.user.token.TokenWatermarkRepository;
+import com.importH.global.config.TokenRevocationProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    TokenWatermarkRepository tokenWatermarkRepository;
+
+    LocalRevocationBroadcaster broadcaster;
+    TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LocalRevocationBroadcaster();
+        revocationList = new TokenRevocationList(revokedTokenRepository, tokenWatermarkRepository,
+                new TokenRevocationProperties(), broadcaster);
+    }
+
+    @Test
+    @DisplayName("[성공] 블룸 필터에 없는 jti 는 저장소 조회 없이 유효")
+    void isRevoked_notInFilter() throws Exception {
+        // given
+        Claims claims = claims(1L, UUID.randomUUID().toString(), 1_000);
+
+        // when
+        boolean revoked = revocationList.isRevoked(claims);
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(revokedTokenRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("[성공] 전파받은 jti 는 저장소에서 확인 후 폐기")
+    void isRevoked_broadcast() throws Exception {
+        // given
+        String jti = UUID.randomUUID().toString();
+        given(revokedTokenRepository.existsById(jti)).willReturn(true);
+
+        // when
+        broadcaster.publish(RevocationMessage.token(jti, 1L));
+
+        // then
+        assertThat(revocationList.isRevoked(claims(1L, jti, 1_000))).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] 기준 시각 이전에 발급된 토큰은 폐기, 같은 초 이후 발급은 유효")
+    void isRevoked_watermark() throws Exception {
+        // given
+        broadcaster.publish(RevocationMessage.watermark(1L, 1_000));
+
+        // when, then
+        assertThat(revocationList.isRevoked(claims(1L, null, 999))).isTrue();
+        assertThat(revocationList.isRevoked(claims(1L, null, 1_000))).isFalse();
+        assertThat(revocationList.isRevoked(claims(2L, null, 999))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장소 기준으로 다시 만들면 전파를 놓친 폐기도 반영")
+    void rebuild_success() throws Exception {
+        // given
+        String jti = UUID.randomUUID().toString();
+        given(revokedTokenRepository.findAllActiveJtis(any())).willReturn(List.of(jti));
+        given(revokedTokenRepository.existsById(jti)).willReturn(true);
+        given(tokenWatermarkRepository.findAll()).willReturn(List.of(new TokenWatermark(2L, 1_000)));
+
+        // when
+        revocationList.rebuild();
+
+        // then
+        assertThat(revocationList.isRevoked(claims(1L, jti, 1_000))).isTrue();
+        assertThat(revocationList.isRevoked(claims(2L, null, 999))).isTrue();
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+
+    private Claims claims(Long userId, String jti, long issuedAtSeconds) {
+        Claims claims = Jwts.claims().setSubject(String.valueOf(userId));
+        claims.setId(jti);
+        claims.setIssuedAt(new Date(issuedAtSeconds * 1000));
+        return claims;
+    }
+}
@@ -0,0 +1,163 @@
+package com.importH.global.security.throttle;
+
+import com.importH.global.config.LoginThrottleProperties;
+import com.importH.global.error.code.UserErrorCode;
+import com.importH.global.error.exception.UserException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LoginThrottleTest {
+
+    static final int THREADS = 4;
+    static final int ATTEMPTS_PER_THREAD = 100;
+
+    LoginThrottleProperties properties;
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginThrottleProperties();
+        properties.setMaxAttemptsPerEmail(5);
+        properties.setMaxAttemptsPerIp(20);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("[실패] 이메일별 실패 횟수 초과 - 대소문자, 공백이 달라도 같은 이메일")
+    void acquire_fail_email() throws Exception {
+        // given
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("Test@email.com ", "10.0.0." + i);
+        }
+
+        // when
+        UserException exception = assertThrows(UserException.class, () -> throttle.acquire("test@email.com", "10.0.0.9"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(UserErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        assertThat(meterRegistry.get("login.throttled").tag("key", "email").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] IP 별 실패 횟수 초과 - 이메일을 바꿔가며 시도")
+    void acquire_fail_ip() throws Exception {
+        // given
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+        for (int i = 0; i < 20; i++) {
+            throttle.acquire("user" + i + "@email.com", "10.0.0.1");
+        }
+
+        // when, then
+        assertThrows(UserException.class, () -> throttle.acquire("other@email.com", "10.0.0.1"));
+        throttle.acquire("other@email.com", "10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("[성공] 로그인에 성공한 시도는 이메일 횟수에서 제외")
+    void succeeded_notCounted() throws Exception {
+        // given
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+
+        // when, then
+        for (int i = 0; i < 15; i++) {
+            throttle.acquire("test@email.com", "10.0.0." + i);
+            throttle.succeeded("test@email.com");
+        }
+    }
+
+    @Test
+    @DisplayName("[실패] 로그인에 성공해도 IP 횟수는 되돌리지 않음 - 자기 계정 로그인 사이에 다른 계정 대입")
+    void succeeded_ipCounted() throws Exception {
+        // given
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            throttle.acquire("attacker@email.com", "10.0.0.1");
+            throttle.succeeded("attacker@email.com");
+            throttle.acquire("user" + i + "@email.com", "10.0.0.1");
+        }
+
+        // when, then
+        assertThrows(UserException.class, () -> throttle.acquire("attacker@email.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("[성공] 한 이메일에 대한 대입 공격 - 한도만큼만 bcrypt 를 실행해 CPU 사용 시간이 줄어듦")
+    void attack_cpuTime() throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isCurrentThreadCpuTimeSupported());
+
+        // given
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(8);
+        String encoded = encoder.encode("password");
+        properties.setMaxAttemptsPerIp(10_000);
+
+        // when
+        AtomicInteger unthrottledChecks = new AtomicInteger();
+        long unthrottled = attack(threadMXBean, () -> {
+            encoder.matches("wrong", encoded);
+            unthrottledChecks.incrementAndGet();
+        });
+
+        LoginThrottle throttle = new LoginThrottle(properties, meterRegistry);
+        AtomicInteger throttledChecks = new AtomicInteger();
+        long throttled = attack(threadMXBean, () -> {
+            try {
+                throttle.acquire("victim@email.com", "10.0.0.1");
+            } catch (UserException e) {
+                return;
+            }
+            encoder.matches("wrong", encoded);
+            throttledChecks.incrementAndGet();
+        });
+
+        // then
+        assertThat(unthrottledChecks.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD);
+        assertThat(throttledChecks.get()).isEqualTo(properties.getMaxAttemptsPerEmail());
+        assertThat(throttled).isLessThan(unthrottled / 10);
+    }
+
+    /**
+     * 공격 스레드들이 사용한 CPU 시간 합 (ns)
+     */
+    private long attack(ThreadMXBean threadMXBean, Runnable attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Long>> attackers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                attackers.add(() -> {
+                    long start = threadMXBean.getCurrentThreadCpuTime();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        attempt.run();
+                    }
+                    return threadMXBean.getCurrentThreadCpuTime() - start;
+                });
+            }
+
+            long total = 0;
+            for (Future<Long> cpuTime : executor.invokeAll(attackers)) {
+                total += cpuTime.get();
+            }
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
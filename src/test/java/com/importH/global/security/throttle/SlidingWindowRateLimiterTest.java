@@ -0,0 +1,208 @@
+package com.importH.global.security.throttle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    AtomicLong now;
+    SlidingWindowRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(60_000);
+        limiter = new SlidingWindowRateLimiter(3, 60_000, 4, 1_000, now::get);
+    }
+
+    @Test
+    @DisplayName("[성공] 한도까지 허용, 직전 윈도우 횟수는 지난 비율만큼 줄어듦")
+    void tryAcquire_slidingWindow() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("key")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("key")).isFalse();
+        assertThat(limiter.tryAcquire("other")).isTrue();
+
+        // when : 다음 윈도우의 절반 - 직전 3 회 x 0.5 = 1.5
+        now.set(150_000);
+
+        // then
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isTrue();
+        assertThat(limiter.tryAcquire("key")).isFalse();
+
+        now.set(240_000);
+        assertThat(limiter.tryAcquire("key")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] 되돌린 횟수는 세지 않음")
+    void release_success() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("key");
+            limiter.release("key");
+        }
+
+        // when, then
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("key")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("key")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 오래된 키는 정리되고, 키 수 상한을 넘는 새 키는 거절")
+    void maxKeys() throws Exception {
+        // given
+        limiter = new SlidingWindowRateLimiter(3, 60_000, 1, 2, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // when, then
+        assertThat(limiter.tryAcquire("c")).isFalse();
+
+        now.set(180_000);
+        assertThat(limiter.tryAcquire("c")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] failOpen - 키 수 상한을 넘는 새 키는 세지 않고 허용")
+    void maxKeys_failOpen() throws Exception {
+        // given
+        limiter = new SlidingWindowRateLimiter(1, 60_000, 1, 2, true, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // when, then
+        assertThat(limiter.tryAcquire("c")).isTrue();
+        assertThat(limiter.tryAcquire("c")).isTrue();
+        assertThat(limiter.tryAcquire("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 스레드가 동시에 요청해도 한도만큼만 허용")
+    void tryAcquire_concurrent() throws Exception {
+        // given
+        limiter = new SlidingWindowRateLimiter(1_000, 60_000, 4, 1_000, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (limiter.tryAcquire("key")) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(allowed.get()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("[성공] 정리와 요청이 겹쳐도 횟수를 잃지 않음")
+    void tryAcquire_concurrentEvict() throws Exception {
+        // given : 지난 윈도우의 키 100 개
+        limiter = new SlidingWindowRateLimiter(10, 60_000, 4, 1_000, now::get);
+        for (int k = 0; k < 100; k++) {
+            limiter.tryAcquire("key" + k);
+        }
+        now.set(300_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(8);
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+
+        // when
+        executor.execute(() -> {
+            while (!done.get()) {
+                limiter.evictIdle();
+            }
+        });
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 20; i++) {
+                    for (int k = 0; k < 100; k++) {
+                        if (limiter.tryAcquire("key" + k)) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }
+                finished.countDown();
+            });
+        }
+        start.countDown();
+        finished.await(10, TimeUnit.SECONDS);
+        done.set(true);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(allowed.get()).isEqualTo(100 * 10);
+    }
+
+    @Test
+    @DisplayName("[성공] 새 키가 동시에 몰려도 키 수 상한을 넘지 않음")
+    void maxKeys_concurrent() throws Exception {
+        // given
+        limiter = new SlidingWindowRateLimiter(3, 60_000, 1, 50, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire(thread + "-" + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(accepted.get()).isEqualTo(50);
+    }
+}